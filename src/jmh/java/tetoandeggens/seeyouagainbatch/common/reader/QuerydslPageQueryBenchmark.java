@@ -0,0 +1,76 @@
+package tetoandeggens.seeyouagainbatch.common.reader;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.querydsl.jpa.impl.JPAQuery;
+
+import tetoandeggens.seeyouagainbatch.domain.AnimalProfile;
+import tetoandeggens.seeyouagainbatch.domain.QAnimalProfile;
+
+// 100만 건을 no-offset으로 훑을 때 페이지마다 드는 쿼리 조립과 JPQL 직렬화 비용을 비교한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class QuerydslPageQueryBenchmark {
+
+	private static final long TOTAL_ROWS = 1_000_000L;
+	private static final QAnimalProfile PROFILE = QAnimalProfile.animalProfile;
+	private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+	private static final LocalDate END_DATE = LocalDate.of(2025, 12, 31);
+
+	@Param({"500", "1000"})
+	private int pageSize;
+
+	private com.querydsl.core.types.dsl.Param<Long> currentIdParam;
+	private JPAQuery<AnimalProfile> nextPageTemplate;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		currentIdParam = new com.querydsl.core.types.dsl.Param<>(Long.class, "currentId");
+
+		nextPageTemplate = baseQuery()
+			.where(PROFILE.id.gt(currentIdParam).and(PROFILE.id.loe(TOTAL_ROWS)))
+			.orderBy(PROFILE.id.asc());
+	}
+
+	@Benchmark
+	public void rebuildPerPage(Blackhole blackhole) {
+		for (long currentId = 0; currentId < TOTAL_ROWS; currentId += pageSize) {
+			JPAQuery<AnimalProfile> query = baseQuery()
+				.where(PROFILE.id.gt(currentId).and(PROFILE.id.loe(TOTAL_ROWS)))
+				.orderBy(PROFILE.id.asc())
+				.limit(pageSize);
+			blackhole.consume(query.toString());
+		}
+	}
+
+	@Benchmark
+	public void cachedTemplate(Blackhole blackhole) {
+		for (long currentId = 0; currentId < TOTAL_ROWS; currentId += pageSize) {
+			JPAQuery<AnimalProfile> query = nextPageTemplate.clone()
+				.set(currentIdParam, currentId)
+				.limit(pageSize);
+			blackhole.consume(query.toString());
+		}
+	}
+
+	// EntityManager 없이 JPQL만 직렬화하도록 기본 템플릿으로 쿼리를 만든다
+	private JPAQuery<AnimalProfile> baseQuery() {
+		return new JPAQuery<Void>()
+			.select(PROFILE)
+			.from(PROFILE)
+			.where(PROFILE.happenDate.between(START_DATE, END_DATE));
+	}
+}
@@ -0,0 +1,155 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.binder;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+
+import tetoandeggens.seeyouagainbatch.constant.AnimalEntityField;
+import tetoandeggens.seeyouagainbatch.domain.Animal;
+import tetoandeggens.seeyouagainbatch.domain.AnimalLocation;
+import tetoandeggens.seeyouagainbatch.domain.BreedType;
+import tetoandeggens.seeyouagainbatch.domain.NeuteredState;
+import tetoandeggens.seeyouagainbatch.domain.Sex;
+import tetoandeggens.seeyouagainbatch.domain.Species;
+
+// DB 왕복을 제외한 행 바인딩 비용만 비교하기 위해 아무 동작도 하지 않는 PreparedStatement에 바인딩한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AnimalRowBinderBenchmark {
+
+	@Param({"10000", "100000", "1000000"})
+	private int rowCount;
+
+	private List<Animal> animals;
+	private ParsedSql parsedSql;
+	private PreparedStatement preparedStatement;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		animals = new ArrayList<>(rowCount);
+		for (int i = 0; i < rowCount; i++) {
+			animals.add(createAnimal(i));
+		}
+
+		String columns = String.join(", ", AnimalRowBinder.columnNames());
+		String namedValues = AnimalRowBinder.columnNames().stream()
+			.map(column -> ":" + column)
+			.collect(Collectors.joining(", "));
+		parsedSql = NamedParameterUtils.parseSqlStatement(
+			"INSERT INTO animal (" + columns + ", is_deleted, created_at, updated_at) " +
+				"VALUES (" + namedValues + ", false, NOW(), NOW())");
+
+		preparedStatement = (PreparedStatement)Proxy.newProxyInstance(
+			PreparedStatement.class.getClassLoader(),
+			new Class<?>[] {PreparedStatement.class},
+			(proxy, method, args) -> noOpResult(method.getReturnType()));
+	}
+
+	@Benchmark
+	public void mapSqlParameterSource(Blackhole blackhole) throws SQLException {
+		for (Animal animal : animals) {
+			MapSqlParameterSource params = createParameterSource(animal);
+			Object[] values = NamedParameterUtils.buildValueArray(parsedSql, params, null);
+			for (int i = 0; i < values.length; i++) {
+				StatementCreatorUtils.setParameterValue(preparedStatement, i + 1, SqlTypeValue.TYPE_UNKNOWN, values[i]);
+			}
+			blackhole.consume(values);
+		}
+	}
+
+	@Benchmark
+	public void arrayBinder(Blackhole blackhole) throws SQLException {
+		BatchPreparedStatementSetter setter = AnimalRowBinder.batchSetter(animals);
+		for (int i = 0; i < setter.getBatchSize(); i++) {
+			setter.setValues(preparedStatement, i);
+		}
+		blackhole.consume(setter);
+	}
+
+	private static Object noOpResult(Class<?> returnType) {
+		if (returnType == boolean.class) {
+			return false;
+		}
+		if (returnType == int.class) {
+			return 0;
+		}
+		if (returnType == long.class) {
+			return 0L;
+		}
+		return null;
+	}
+
+	private MapSqlParameterSource createParameterSource(Animal animal) {
+		return new MapSqlParameterSource()
+			.addValue(AnimalEntityField.ANIMAL_TYPE.getColumnName(), animal.getAnimalType().name())
+			.addValue(AnimalEntityField.DESERTION_NO.getColumnName(), animal.getDesertionNo())
+			.addValue(AnimalEntityField.HAPPEN_DATE.getColumnName(), animal.getHappenDate())
+			.addValue(AnimalEntityField.HAPPEN_PLACE.getColumnName(), animal.getHappenPlace())
+			.addValue(AnimalEntityField.CITY.getColumnName(), animal.getCity())
+			.addValue(AnimalEntityField.TOWN.getColumnName(), animal.getTown())
+			.addValue(AnimalEntityField.SPECIES.getColumnName(), animal.getSpecies().name())
+			.addValue(AnimalEntityField.COLOR.getColumnName(), animal.getColor())
+			.addValue(AnimalEntityField.BIRTH.getColumnName(), animal.getBirth())
+			.addValue(AnimalEntityField.WEIGHT.getColumnName(), animal.getWeight())
+			.addValue(AnimalEntityField.NOTICE_NO.getColumnName(), animal.getNoticeNo())
+			.addValue(AnimalEntityField.NOTICE_START_DATE.getColumnName(), animal.getNoticeStartDate())
+			.addValue(AnimalEntityField.NOTICE_END_DATE.getColumnName(), animal.getNoticeEndDate())
+			.addValue(AnimalEntityField.PROCESS_STATE.getColumnName(), animal.getProcessState())
+			.addValue(AnimalEntityField.SEX.getColumnName(), animal.getSex().name())
+			.addValue(AnimalEntityField.NEUTERED_STATE.getColumnName(), animal.getNeuteredState().name())
+			.addValue(AnimalEntityField.SPECIAL_MARK.getColumnName(), animal.getSpecialMark())
+			.addValue(AnimalEntityField.CENTER_PHONE.getColumnName(), animal.getCenterPhone())
+			.addValue(AnimalEntityField.FINAL_UPDATED_AT.getColumnName(), animal.getFinalUpdatedAt())
+			.addValue(AnimalEntityField.ANIMAL_LOCATION_ID.getColumnName(), animal.getAnimalLocation().getId())
+			.addValue(AnimalEntityField.BREED_TYPE_ID.getColumnName(), animal.getBreedType().getId());
+	}
+
+	private Animal createAnimal(int index) {
+		return Animal.builder()
+			.desertionNo(String.format("D%09d", index))
+			.happenDate(LocalDate.of(2025, 1, 1))
+			.happenPlace("강남구 학동로")
+			.city("서울특별시")
+			.town("강남구")
+			.species(Species.DOG)
+			.color("갈색")
+			.birth("2024(년생)")
+			.weight("5(Kg)")
+			.noticeNo("서울-강남-2025-" + index)
+			.noticeStartDate("20250101")
+			.noticeEndDate("20250111")
+			.processState("보호중")
+			.sex(Sex.M)
+			.neuteredState(NeuteredState.Y)
+			.specialMark("온순함")
+			.centerPhone("02-123-4567")
+			.finalUpdatedAt(LocalDateTime.of(2025, 1, 2, 10, 30))
+			.animalLocation(AnimalLocation.builder().id((long)(index % 100)).build())
+			.breedType(BreedType.builder().id((long)(index % 50)).build())
+			.build();
+	}
+}
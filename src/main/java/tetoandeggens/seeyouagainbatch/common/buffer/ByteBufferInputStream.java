@@ -0,0 +1,38 @@
+package tetoandeggens.seeyouagainbatch.common.buffer;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+// 버퍼 내용을 byte[]로 복사하지 않고 그대로 읽는 스트림. 원본 위치를 바꾸지 않도록 뷰를 넘겨 쓴다
+public class ByteBufferInputStream extends InputStream {
+
+	private final ByteBuffer source;
+
+	public ByteBufferInputStream(ByteBuffer source) {
+		this.source = source;
+	}
+
+	@Override
+	public int read() {
+		return source.hasRemaining() ? source.get() & 0xFF : -1;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) {
+		if (length == 0) {
+			return 0;
+		}
+		if (!source.hasRemaining()) {
+			return -1;
+		}
+
+		int count = Math.min(length, source.remaining());
+		source.get(bytes, offset, count);
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return source.remaining();
+	}
+}
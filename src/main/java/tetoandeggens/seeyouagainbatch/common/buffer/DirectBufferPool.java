@@ -0,0 +1,147 @@
+package tetoandeggens.seeyouagainbatch.common.buffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+// 크기 등급별로 다이렉트 버퍼를 재사용해 이미지마다 byte[]를 새로 만들고 복사하지 않도록 한다
+public class DirectBufferPool {
+
+	private final int[] sizeClasses;
+	private final Queue<ByteBuffer>[] freeLists;
+	private final long maxPooledBytes;
+
+	private final AtomicLong pooledBytes = new AtomicLong();
+	private final AtomicLong bytesInUse = new AtomicLong();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	@SuppressWarnings("unchecked")
+	public DirectBufferPool(List<Integer> sizeClasses, long maxPooledBytes) {
+		Assert.notEmpty(sizeClasses, "sizeClasses must not be empty");
+		Assert.isTrue(maxPooledBytes >= 0, "maxPooledBytes must not be negative");
+
+		this.sizeClasses = sizeClasses.stream().mapToInt(Integer::intValue).sorted().toArray();
+		Assert.isTrue(this.sizeClasses[0] > 0, "sizeClasses must be positive");
+		this.freeLists = new Queue[this.sizeClasses.length];
+		for (int i = 0; i < freeLists.length; i++) {
+			freeLists[i] = new ConcurrentLinkedQueue<>();
+		}
+		this.maxPooledBytes = maxPooledBytes;
+	}
+
+	public PooledBuffer acquire(int capacity) {
+		int sizeClass = findSizeClass(capacity);
+
+		// 가장 큰 등급보다 큰 요청은 풀에 두지 않고 한 번만 쓰는 힙 버퍼로 처리한다
+		if (sizeClass < 0) {
+			misses.incrementAndGet();
+			bytesInUse.addAndGet(capacity);
+			return new PooledBuffer(this, ByteBuffer.allocate(capacity), -1);
+		}
+
+		ByteBuffer buffer = freeLists[sizeClass].poll();
+		if (buffer != null) {
+			hits.incrementAndGet();
+			pooledBytes.addAndGet(-buffer.capacity());
+		} else {
+			misses.incrementAndGet();
+			buffer = ByteBuffer.allocateDirect(sizeClasses[sizeClass]);
+		}
+
+		bytesInUse.addAndGet(buffer.capacity());
+		return new PooledBuffer(this, buffer, sizeClass);
+	}
+
+	// 스트림을 끝까지 읽어 읽기 모드(flip)로 전환된 버퍼를 돌려준다. sizeHint가 없으면 가장 작은 등급부터 키워 간다
+	public PooledBuffer readFully(InputStream inputStream, long sizeHint) throws IOException {
+		int initialCapacity = sizeHint > 0 && sizeHint <= Integer.MAX_VALUE ? (int)sizeHint : sizeClasses[0];
+		PooledBuffer pooled = acquire(initialCapacity);
+
+		try {
+			ReadableByteChannel channel = Channels.newChannel(inputStream);
+			while (true) {
+				ByteBuffer buffer = pooled.buffer();
+				if (buffer.hasRemaining()) {
+					if (channel.read(buffer) < 0) {
+						break;
+					}
+					continue;
+				}
+
+				// 버퍼가 정확히 찼을 수 있으므로 한 바이트를 더 읽어 본 뒤에만 키운다
+				int next = inputStream.read();
+				if (next < 0) {
+					break;
+				}
+				pooled = grow(pooled);
+				pooled.buffer().put((byte)next);
+			}
+		} catch (IOException | RuntimeException e) {
+			pooled.release();
+			throw e;
+		}
+
+		pooled.buffer().flip();
+		return pooled;
+	}
+
+	public double getHitRate() {
+		long hitCount = hits.get();
+		long total = hitCount + misses.get();
+		return total == 0 ? 0d : (double)hitCount / total;
+	}
+
+	public long getBytesInUse() {
+		return bytesInUse.get();
+	}
+
+	public long getPooledBytes() {
+		return pooledBytes.get();
+	}
+
+	void release(ByteBuffer buffer, int sizeClass) {
+		bytesInUse.addAndGet(-buffer.capacity());
+		if (sizeClass < 0) {
+			return;
+		}
+
+		// 보관 상한을 넘으면 풀에 되돌리지 않고 GC가 해제하도록 둔다
+		if (pooledBytes.addAndGet(buffer.capacity()) > maxPooledBytes) {
+			pooledBytes.addAndGet(-buffer.capacity());
+			return;
+		}
+
+		buffer.clear();
+		freeLists[sizeClass].offer(buffer);
+	}
+
+	private PooledBuffer grow(PooledBuffer current) {
+		int currentCapacity = current.buffer().capacity();
+		int nextCapacity = currentCapacity > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE : currentCapacity * 2;
+
+		PooledBuffer larger = acquire(nextCapacity);
+		ByteBuffer source = current.buffer();
+		source.flip();
+		larger.buffer().put(source);
+		current.release();
+		return larger;
+	}
+
+	private int findSizeClass(int capacity) {
+		for (int i = 0; i < sizeClasses.length; i++) {
+			if (capacity <= sizeClasses[i]) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
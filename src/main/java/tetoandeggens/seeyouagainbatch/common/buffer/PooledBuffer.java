@@ -0,0 +1,42 @@
+package tetoandeggens.seeyouagainbatch.common.buffer;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class PooledBuffer {
+
+	private final DirectBufferPool pool;
+	private final ByteBuffer buffer;
+	private final int sizeClass;
+	private final AtomicBoolean released = new AtomicBoolean();
+
+	PooledBuffer(DirectBufferPool pool, ByteBuffer buffer, int sizeClass) {
+		this.pool = pool;
+		this.buffer = buffer;
+		this.sizeClass = sizeClass;
+	}
+
+	public ByteBuffer buffer() {
+		return buffer;
+	}
+
+	public int size() {
+		return buffer.remaining();
+	}
+
+	// 업로드 중 재시도가 일어나도 원본 위치가 바뀌지 않도록 항상 별도 뷰로 읽는다
+	public ByteBuffer readOnlyView() {
+		return buffer.asReadOnlyBuffer();
+	}
+
+	public InputStream newInputStream() {
+		return new ByteBufferInputStream(readOnlyView());
+	}
+
+	public void release() {
+		if (released.compareAndSet(false, true)) {
+			pool.release(buffer, sizeClass);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package tetoandeggens.seeyouagainbatch.common.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+public class RateLimiter {
+
+	private final long intervalNanos;
+	private long nextFreeNanos;
+
+	public RateLimiter(double permitsPerSecond) {
+		if (permitsPerSecond <= 0) {
+			throw new IllegalArgumentException("permitsPerSecond must be positive");
+		}
+		this.intervalNanos = (long)(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+		this.nextFreeNanos = System.nanoTime();
+	}
+
+	public void acquire() {
+		long waitNanos;
+		synchronized (this) {
+			long now = System.nanoTime();
+			long scheduled = Math.max(now, nextFreeNanos);
+			nextFreeNanos = scheduled + intervalNanos;
+			waitNanos = scheduled - now;
+		}
+
+		if (waitNanos <= 0) {
+			return;
+		}
+
+		try {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("rate limiter wait interrupted", e);
+		}
+	}
+}
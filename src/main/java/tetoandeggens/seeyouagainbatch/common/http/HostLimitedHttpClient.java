@@ -0,0 +1,399 @@
+package tetoandeggens.seeyouagainbatch.common.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
+
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 원본 호스트마다 동시 요청 수를 제한하고, 기본 요청 타임아웃과 호스트별 지연 시간 지표를 붙이는 HttpClient 데코레이터
+// HttpRequest.timeout은 응답 헤더까지만 적용되므로, 스트림 본문은 같은 시간 안에 다 받지 못하면 끊는다
+public class HostLimitedHttpClient extends HttpClient {
+
+	private static final String LATENCY_METRIC = "batch.image-download.latency";
+	private static final String UNKNOWN_HOST = "unknown";
+
+	private final HttpClient delegate;
+	private final int maxConcurrencyPerHost;
+	private final Duration requestTimeout;
+	private final MeterRegistry meterRegistry;
+	private final ConcurrentMap<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+	private final ScheduledThreadPoolExecutor deadlineScheduler;
+
+	public HostLimitedHttpClient(HttpClient delegate, int maxConcurrencyPerHost, Duration requestTimeout,
+		MeterRegistry meterRegistry) {
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.isTrue(maxConcurrencyPerHost > 0, "maxConcurrencyPerHost must be positive");
+		Assert.notNull(requestTimeout, "requestTimeout must not be null");
+		Assert.notNull(meterRegistry, "meterRegistry must not be null");
+		this.delegate = delegate;
+		this.maxConcurrencyPerHost = maxConcurrencyPerHost;
+		this.requestTimeout = requestTimeout;
+		this.meterRegistry = meterRegistry;
+		this.deadlineScheduler = new ScheduledThreadPoolExecutor(1,
+			Thread.ofPlatform().name("image-download-deadline").daemon().factory());
+		this.deadlineScheduler.setRemoveOnCancelPolicy(true);
+	}
+
+	@Override
+	public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> responseBodyHandler) throws
+		IOException,
+		InterruptedException {
+		String host = hostOf(request.uri());
+		Semaphore permits = hostPermits.computeIfAbsent(host, ignored -> new Semaphore(maxConcurrencyPerHost));
+		permits.acquire();
+
+		ExchangeCompletion completion = new ExchangeCompletion(host, permits, System.nanoTime());
+		HttpRequest timedRequest = withDefaultTimeout(request);
+		try {
+			HttpResponse<T> response = delegate.send(timedRequest, responseBodyHandler);
+			return holdPermitUntilBodyClosed(response, completion, timedRequest.timeout().orElse(requestTimeout));
+		} catch (IOException | InterruptedException | RuntimeException e) {
+			completion.complete();
+			throw e;
+		}
+	}
+
+	// 비동기 요청은 호출 스레드를 막지 않도록 동시 요청 제한 없이 타임아웃과 지표만 적용한다
+	@Override
+	public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+		HttpResponse.BodyHandler<T> responseBodyHandler) {
+		return sendAsync(request, responseBodyHandler, null);
+	}
+
+	@Override
+	public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request,
+		HttpResponse.BodyHandler<T> responseBodyHandler,
+		HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+		String host = hostOf(request.uri());
+		long startNanos = System.nanoTime();
+		return delegate.sendAsync(withDefaultTimeout(request), responseBodyHandler, pushPromiseHandler)
+			.whenComplete((response, e) -> latencyTimer(host).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+	}
+
+	@Override
+	public Optional<CookieHandler> cookieHandler() {
+		return delegate.cookieHandler();
+	}
+
+	@Override
+	public Optional<Duration> connectTimeout() {
+		return delegate.connectTimeout();
+	}
+
+	@Override
+	public Redirect followRedirects() {
+		return delegate.followRedirects();
+	}
+
+	@Override
+	public Optional<ProxySelector> proxy() {
+		return delegate.proxy();
+	}
+
+	@Override
+	public SSLContext sslContext() {
+		return delegate.sslContext();
+	}
+
+	@Override
+	public SSLParameters sslParameters() {
+		return delegate.sslParameters();
+	}
+
+	@Override
+	public Optional<Authenticator> authenticator() {
+		return delegate.authenticator();
+	}
+
+	@Override
+	public Version version() {
+		return delegate.version();
+	}
+
+	@Override
+	public Optional<Executor> executor() {
+		return delegate.executor();
+	}
+
+	@Override
+	public void shutdown() {
+		deadlineScheduler.shutdown();
+		delegate.shutdown();
+	}
+
+	@Override
+	public boolean awaitTermination(Duration duration) throws InterruptedException {
+		return delegate.awaitTermination(duration);
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return delegate.isTerminated();
+	}
+
+	@Override
+	public void shutdownNow() {
+		deadlineScheduler.shutdownNow();
+		delegate.shutdownNow();
+	}
+
+	@Override
+	public void close() {
+		deadlineScheduler.shutdownNow();
+		delegate.close();
+	}
+
+	int availablePermits(String host) {
+		Semaphore permits = hostPermits.get(host);
+		return permits != null ? permits.availablePermits() : maxConcurrencyPerHost;
+	}
+
+	private HttpRequest withDefaultTimeout(HttpRequest request) {
+		if (request.timeout().isPresent()) {
+			return request;
+		}
+		return HttpRequest.newBuilder(request, (name, value) -> true)
+			.timeout(requestTimeout)
+			.build();
+	}
+
+	// 스트림으로 받는 응답은 본문을 다 읽고 닫을 때까지 같은 호스트의 허가를 붙잡아 두고, 지연 시간도 그때 기록한다
+	@SuppressWarnings("unchecked")
+	private <T> HttpResponse<T> holdPermitUntilBodyClosed(HttpResponse<T> response, ExchangeCompletion completion,
+		Duration timeout) {
+		if (response.body() instanceof InputStream body) {
+			DeadlineInputStream deadlineBody = new DeadlineInputStream(body, completion);
+			long remainingNanos = completion.startNanos + timeout.toNanos() - System.nanoTime();
+			deadlineBody.scheduleDeadline(Math.max(0L, remainingNanos));
+			return new BodyReplacedResponse<>(response, (T)deadlineBody);
+		}
+
+		completion.complete();
+		return response;
+	}
+
+	private Timer latencyTimer(String host) {
+		return Timer.builder(LATENCY_METRIC)
+			.description("원본 호스트별 이미지 요청 응답 시간")
+			.tag("host", host)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	private static String hostOf(URI uri) {
+		return uri.getHost() != null ? uri.getHost() : UNKNOWN_HOST;
+	}
+
+	// 허가 반환과 지연 시간 기록을 요청마다 한 번만 한다
+	private final class ExchangeCompletion {
+
+		private final String host;
+		private final Semaphore permits;
+		private final long startNanos;
+		private final AtomicBoolean completed = new AtomicBoolean();
+
+		private ExchangeCompletion(String host, Semaphore permits, long startNanos) {
+			this.host = host;
+			this.permits = permits;
+			this.startNanos = startNanos;
+		}
+
+		private void complete() {
+			if (completed.compareAndSet(false, true)) {
+				latencyTimer(host).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+				permits.release();
+			}
+		}
+	}
+
+	// 기한이 지나면 본문을 닫고, 읽기에 묶여 있는 스레드를 깨워 HttpTimeoutException으로 끝낸다
+	private final class DeadlineInputStream extends FilterInputStream {
+
+		private final ExchangeCompletion completion;
+		private final AtomicBoolean closed = new AtomicBoolean();
+		private final Object lock = new Object();
+		private ScheduledFuture<?> deadline;
+		private Thread readingThread;
+		private boolean expired;
+		private boolean interruptedByDeadline;
+
+		private DeadlineInputStream(InputStream in, ExchangeCompletion completion) {
+			super(in);
+			this.completion = completion;
+		}
+
+		private void scheduleDeadline(long delayNanos) {
+			deadline = deadlineScheduler.schedule(this::expire, delayNanos, TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int read() throws IOException {
+			enter();
+			try {
+				return super.read();
+			} catch (IOException e) {
+				throw translate(e);
+			} finally {
+				exit();
+			}
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			enter();
+			try {
+				return super.read(b, off, len);
+			} catch (IOException e) {
+				throw translate(e);
+			} finally {
+				exit();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!closed.compareAndSet(false, true)) {
+				return;
+			}
+
+			if (deadline != null) {
+				deadline.cancel(false);
+			}
+			try {
+				super.close();
+			} finally {
+				completion.complete();
+			}
+		}
+
+		private void expire() {
+			synchronized (lock) {
+				expired = true;
+				if (readingThread != null) {
+					interruptedByDeadline = true;
+					readingThread.interrupt();
+				}
+			}
+
+			try {
+				close();
+			} catch (IOException ignored) {
+				// 기한 초과로 끊는 중이므로 닫기 실패는 읽는 쪽의 시간 초과 예외로 충분하다
+			}
+		}
+
+		private void enter() throws IOException {
+			synchronized (lock) {
+				if (expired) {
+					throw timeoutException();
+				}
+				readingThread = Thread.currentThread();
+			}
+		}
+
+		private void exit() {
+			synchronized (lock) {
+				readingThread = null;
+				if (interruptedByDeadline) {
+					// 기한 초과 처리에서 건 인터럽트가 배치 스레드에 남지 않도록 지운다
+					interruptedByDeadline = false;
+					Thread.interrupted();
+				}
+			}
+		}
+
+		private IOException translate(IOException e) {
+			synchronized (lock) {
+				if (!expired) {
+					return e;
+				}
+			}
+			HttpTimeoutException timeout = timeoutException();
+			timeout.initCause(e);
+			return timeout;
+		}
+
+		private HttpTimeoutException timeoutException() {
+			return new HttpTimeoutException("응답 본문 수신 시간 초과. Host: " + completion.host);
+		}
+	}
+
+	private static final class BodyReplacedResponse<T> implements HttpResponse<T> {
+
+		private final HttpResponse<T> delegate;
+		private final T body;
+
+		private BodyReplacedResponse(HttpResponse<T> delegate, T body) {
+			this.delegate = delegate;
+			this.body = body;
+		}
+
+		@Override
+		public int statusCode() {
+			return delegate.statusCode();
+		}
+
+		@Override
+		public HttpRequest request() {
+			return delegate.request();
+		}
+
+		@Override
+		public Optional<HttpResponse<T>> previousResponse() {
+			return delegate.previousResponse();
+		}
+
+		@Override
+		public HttpHeaders headers() {
+			return delegate.headers();
+		}
+
+		@Override
+		public T body() {
+			return body;
+		}
+
+		@Override
+		public Optional<SSLSession> sslSession() {
+			return delegate.sslSession();
+		}
+
+		@Override
+		public URI uri() {
+			return delegate.uri();
+		}
+
+		@Override
+		public HttpClient.Version version() {
+			return delegate.version();
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package tetoandeggens.seeyouagainbatch.common.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TranscodedImage {
+
+	private final byte[] image;
+	private final byte[] thumbnail;
+}
@@ -0,0 +1,116 @@
+package tetoandeggens.seeyouagainbatch.common.image;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.springframework.util.Assert;
+
+// 원본 이미지를 한 번만 디코딩해 WebP 본 이미지와 너비를 제한한 썸네일을 함께 만든다
+public class WebpTranscoder {
+
+	private static final String WEBP_MIME_TYPE = "image/webp";
+	private static final String LOSSY_COMPRESSION = "Lossy";
+	private static final String WEBP_EXTENSION = ".webp";
+	private static final String THUMBNAIL_SUFFIX = "-thumb";
+
+	private final float quality;
+	private final int thumbnailWidth;
+
+	public WebpTranscoder(float quality, int thumbnailWidth) {
+		Assert.isTrue(quality >= 0f && quality <= 1f, "quality must be between 0 and 1");
+		Assert.isTrue(thumbnailWidth > 0, "thumbnailWidth must be positive");
+		this.quality = quality;
+		this.thumbnailWidth = thumbnailWidth;
+
+		// 실행 jar에서는 ImageIO가 처음 초기화될 때의 클래스로더로 WebP 플러그인을 찾지 못할 수 있어 다시 스캔한다
+		ImageIO.scanForPlugins();
+	}
+
+	// 디코딩할 수 없는 형식이면 null을 반환한다
+	public TranscodedImage transcode(InputStream source) throws IOException {
+		BufferedImage image;
+		// 기본 설정은 디스크 캐시 파일을 만들므로 메모리 캐시 스트림으로 읽고 쓴다
+		try (ImageInputStream imageInput = new MemoryCacheImageInputStream(source)) {
+			image = ImageIO.read(imageInput);
+		}
+		if (image == null) {
+			return null;
+		}
+
+		byte[] encoded = encode(redraw(image, image.getWidth(), image.getHeight()));
+		if (image.getWidth() <= thumbnailWidth) {
+			// 원본이 썸네일보다 작으면 키우지 않고 본 이미지를 그대로 쓴다
+			return new TranscodedImage(encoded, encoded);
+		}
+
+		int thumbnailHeight = Math.max(1, (int)Math.round((double)image.getHeight() * thumbnailWidth / image.getWidth()));
+		return new TranscodedImage(encoded, encode(redraw(image, thumbnailWidth, thumbnailHeight)));
+	}
+
+	public static String thumbnailKey(String s3Key) {
+		if (s3Key.endsWith(WEBP_EXTENSION)) {
+			return s3Key.substring(0, s3Key.length() - WEBP_EXTENSION.length()) + THUMBNAIL_SUFFIX + WEBP_EXTENSION;
+		}
+		return s3Key + THUMBNAIL_SUFFIX;
+	}
+
+	private byte[] encode(BufferedImage image) throws IOException {
+		ImageWriter writer = webpWriter();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (ImageOutputStream imageOutput = new MemoryCacheImageOutputStream(output)) {
+			ImageWriteParam writeParam = writer.getDefaultWriteParam();
+			writeParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			writeParam.setCompressionType(LOSSY_COMPRESSION);
+			writeParam.setCompressionQuality(quality);
+
+			writer.setOutput(imageOutput);
+			writer.write(null, new IIOImage(image, null, null), writeParam);
+		} finally {
+			writer.dispose();
+		}
+
+		return output.toByteArray();
+	}
+
+	// 인덱스 색상이나 그레이스케일 이미지도 인코더가 받을 수 있는 RGB(A) 형식으로 맞추면서 크기를 조정한다
+	private BufferedImage redraw(BufferedImage source, int width, int height) {
+		int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+		if (source.getType() == type && source.getWidth() == width && source.getHeight() == height) {
+			return source;
+		}
+
+		BufferedImage target = new BufferedImage(width, height, type);
+		Graphics2D graphics = target.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(source, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return target;
+	}
+
+	// ImageWriter는 스레드 안전하지 않으므로 인코딩마다 새로 만든다
+	private ImageWriter webpWriter() {
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(WEBP_MIME_TYPE);
+		if (!writers.hasNext()) {
+			throw new IllegalStateException("WebP 인코더를 찾을 수 없음");
+		}
+		return writers.next();
+	}
+}
@@ -0,0 +1,79 @@
+package tetoandeggens.seeyouagainbatch.common.jdbc;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class BulkInsertStatement {
+
+	private final String table;
+	private final List<String> columns;
+	private final String rowTemplate;
+	private final String onDuplicateKeyUpdate;
+	private final int parameterCount;
+
+	@Builder
+	private BulkInsertStatement(String table, List<String> columns, String rowTemplate, String onDuplicateKeyUpdate) {
+		if (table == null || columns == null || columns.isEmpty()) {
+			throw new IllegalArgumentException("table and columns must not be empty");
+		}
+
+		this.table = table;
+		this.columns = List.copyOf(columns);
+		this.rowTemplate = rowTemplate != null ? rowTemplate : defaultRowTemplate(columns.size());
+		this.onDuplicateKeyUpdate = onDuplicateKeyUpdate;
+		this.parameterCount = countPlaceholders(this.rowTemplate);
+
+		if (parameterCount == 0) {
+			throw new IllegalArgumentException("rowTemplate must contain at least one placeholder");
+		}
+	}
+
+	public String toSql(int rowCount) {
+		StringBuilder sql = new StringBuilder(getFixedLength() + rowCount * (rowTemplate.length() + 2));
+		sql.append("INSERT INTO ").append(table)
+			.append(" (").append(String.join(", ", columns)).append(") VALUES ");
+
+		for (int i = 0; i < rowCount; i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append(rowTemplate);
+		}
+
+		if (onDuplicateKeyUpdate != null) {
+			sql.append(" ON DUPLICATE KEY UPDATE ").append(onDuplicateKeyUpdate);
+		}
+
+		return sql.toString();
+	}
+
+	public int getFixedLength() {
+		int columnsLength = String.join(", ", columns).length();
+		int suffixLength = onDuplicateKeyUpdate != null ? onDuplicateKeyUpdate.length() + 25 : 0;
+		return table.length() + columnsLength + suffixLength + 24;
+	}
+
+	private static String defaultRowTemplate(int columnCount) {
+		StringBuilder template = new StringBuilder("(");
+		for (int i = 0; i < columnCount; i++) {
+			if (i > 0) {
+				template.append(", ");
+			}
+			template.append('?');
+		}
+		return template.append(')').toString();
+	}
+
+	private static int countPlaceholders(String template) {
+		int count = 0;
+		for (int i = 0; i < template.length(); i++) {
+			if (template.charAt(i) == '?') {
+				count++;
+			}
+		}
+		return count;
+	}
+}
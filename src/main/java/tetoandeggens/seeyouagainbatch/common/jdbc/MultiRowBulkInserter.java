@@ -0,0 +1,134 @@
+package tetoandeggens.seeyouagainbatch.common.jdbc;
+
+import java.time.temporal.Temporal;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class MultiRowBulkInserter {
+
+	static final int MAX_PARAMETERS_PER_STATEMENT = 65_535;
+	static final long DEFAULT_MAX_ALLOWED_PACKET = 4L * 1024 * 1024;
+
+	// 프로토콜 오버헤드와 문자열 이스케이프를 감안해 패킷의 80%까지만 사용한다
+	private static final double PACKET_USAGE_RATIO = 0.8;
+
+	private final JdbcTemplate jdbcTemplate;
+	private volatile long maxAllowedPacket;
+
+	public MultiRowBulkInserter(JdbcTemplate jdbcTemplate) {
+		this(jdbcTemplate, 0L);
+	}
+
+	MultiRowBulkInserter(JdbcTemplate jdbcTemplate, long maxAllowedPacket) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.maxAllowedPacket = maxAllowedPacket;
+	}
+
+	public <T> int insert(BulkInsertStatement statement, List<? extends T> rows, RowBinder<? super T> binder) {
+		if (rows.isEmpty()) {
+			return 0;
+		}
+
+		int parametersPerRow = statement.getParameterCount();
+		int maxRowsPerStatement = Math.max(1, MAX_PARAMETERS_PER_STATEMENT / parametersPerRow);
+		long packetBudget = (long)(resolveMaxAllowedPacket() * PACKET_USAGE_RATIO) - statement.getFixedLength();
+		int rowTemplateBytes = statement.getRowTemplate().length() + 2;
+
+		Object[] values = new Object[Math.min(maxRowsPerStatement, rows.size()) * parametersPerRow];
+		int rowCount = 0;
+		long statementBytes = 0;
+		int affectedRows = 0;
+		int statementCount = 0;
+
+		for (T row : rows) {
+			if (rowCount == maxRowsPerStatement) {
+				affectedRows += execute(statement, values, rowCount);
+				statementCount++;
+				rowCount = 0;
+				statementBytes = 0;
+			}
+
+			int offset = rowCount * parametersPerRow;
+			binder.bind(row, values, offset);
+			long rowBytes = rowTemplateBytes + estimateBytes(values, offset, parametersPerRow);
+
+			if (rowCount > 0 && statementBytes + rowBytes > packetBudget) {
+				affectedRows += execute(statement, values, rowCount);
+				statementCount++;
+				System.arraycopy(values, offset, values, 0, parametersPerRow);
+				rowCount = 0;
+				statementBytes = 0;
+			}
+
+			statementBytes += rowBytes;
+			rowCount++;
+		}
+
+		affectedRows += execute(statement, values, rowCount);
+		statementCount++;
+
+		log.debug("{} 테이블에 {}건을 {}개의 multi-row INSERT로 저장", statement.getTable(), rows.size(), statementCount);
+		return affectedRows;
+	}
+
+	private int execute(BulkInsertStatement statement, Object[] values, int rowCount) {
+		int parameterCount = rowCount * statement.getParameterCount();
+		return jdbcTemplate.update(statement.toSql(rowCount), ps -> {
+			for (int i = 0; i < parameterCount; i++) {
+				StatementCreatorUtils.setParameterValue(ps, i + 1, SqlTypeValue.TYPE_UNKNOWN, values[i]);
+			}
+		});
+	}
+
+	private long resolveMaxAllowedPacket() {
+		long resolved = maxAllowedPacket;
+		if (resolved > 0) {
+			return resolved;
+		}
+
+		try {
+			Long packet = jdbcTemplate.queryForObject("SELECT @@max_allowed_packet", Long.class);
+			resolved = packet != null && packet > 0 ? packet : DEFAULT_MAX_ALLOWED_PACKET;
+		} catch (DataAccessException e) {
+			log.warn("max_allowed_packet 조회 실패, 기본값 {}바이트 사용: {}", DEFAULT_MAX_ALLOWED_PACKET, e.getMessage());
+			resolved = DEFAULT_MAX_ALLOWED_PACKET;
+		}
+
+		maxAllowedPacket = resolved;
+		return resolved;
+	}
+
+	private static long estimateBytes(Object[] values, int offset, int length) {
+		long bytes = 0;
+		for (int i = offset; i < offset + length; i++) {
+			bytes += estimateBytes(values[i]);
+		}
+		return bytes;
+	}
+
+	private static long estimateBytes(Object value) {
+		if (value == null) {
+			return 4;
+		}
+		if (value instanceof CharSequence text) {
+			return text.length() * 3L + 2;
+		}
+		if (value instanceof Number || value instanceof Boolean) {
+			return 20;
+		}
+		if (value instanceof Temporal) {
+			return 28;
+		}
+		if (value instanceof byte[] bytes) {
+			return bytes.length * 2L + 3;
+		}
+		return String.valueOf(value).length() * 3L + 2;
+	}
+}
@@ -0,0 +1,7 @@
+package tetoandeggens.seeyouagainbatch.common.jdbc;
+
+@FunctionalInterface
+public interface RowBinder<T> {
+
+	void bind(T row, Object[] values, int offset);
+}
@@ -0,0 +1,118 @@
+package tetoandeggens.seeyouagainbatch.common.reader;
+
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.util.Assert;
+
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.config.NamedThreadFactory;
+
+@Slf4j
+public class HandOffItemReader<T> implements ItemStreamReader<T> {
+
+	private static final Object END = new Object();
+	private static final long CLOSE_TIMEOUT_SECONDS = 10L;
+
+	private final ItemStreamReader<T> delegate;
+	private final ThreadFactory threadFactory;
+	private final LinkedTransferQueue<Object> queue = new LinkedTransferQueue<>();
+
+	private volatile Thread fetcher;
+
+	public HandOffItemReader(ItemStreamReader<T> delegate) {
+		this(delegate, new NamedThreadFactory("hand-off-reader"));
+	}
+
+	public HandOffItemReader(ItemStreamReader<T> delegate, ThreadFactory threadFactory) {
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.notNull(threadFactory, "threadFactory must not be null");
+		this.delegate = delegate;
+		this.threadFactory = threadFactory;
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		delegate.open(executionContext);
+		queue.clear();
+
+		fetcher = threadFactory.newThread(this::fetchAll);
+		fetcher.start();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T read() throws Exception {
+		Object next = queue.take();
+
+		if (next == END) {
+			// 다른 소비 스레드도 종료를 볼 수 있도록 마커를 되돌려 놓는다
+			queue.put(END);
+			return null;
+		}
+
+		if (next instanceof FetchFailure) {
+			FetchFailure failure = (FetchFailure)next;
+			queue.put(failure);
+			throw failure.cause();
+		}
+
+		return (T)next;
+	}
+
+	// 페이지 조회 스레드가 delegate 상태를 바꾸는 중이므로 재시작 상태는 저장하지 않는다
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		Thread current = fetcher;
+		fetcher = null;
+
+		if (current != null) {
+			current.interrupt();
+			try {
+				current.join(TimeUnit.SECONDS.toMillis(CLOSE_TIMEOUT_SECONDS));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		queue.clear();
+		delegate.close();
+	}
+
+	private void fetchAll() {
+		try {
+			T item;
+			while ((item = delegate.read()) != null) {
+				// 소비 스레드가 받아갈 때까지 기다리므로 delegate 페이지 외에 추가로 쌓이지 않는다
+				queue.transfer(item);
+			}
+			queue.put(END);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			log.error("hand-off reader 조회 실패: {}", e.getMessage());
+			queue.put(new FetchFailure(e));
+		}
+	}
+
+	private static final class FetchFailure {
+
+		private final Exception cause;
+
+		private FetchFailure(Exception cause) {
+			this.cause = cause;
+		}
+
+		private Exception cause() {
+			return cause;
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package tetoandeggens.seeyouagainbatch.common.reader;
+
+import java.util.function.Function;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.Query;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.util.ClassUtils;
+
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.jpa.HQLTemplates;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUtil;
+
+import jakarta.persistence.EntityManagerFactory;
+import tetoandeggens.seeyouagainbatch.common.reader.options.QuerydslNoOffsetOptions;
+
+public class QuerydslCursorItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+	// MySQL Connector/J는 이 값일 때만 결과를 한 번에 받지 않고 행 단위로 스트리밍한다
+	public static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+	private static final String LAST_KEY = "last.key";
+
+	private final EntityManagerFactory entityManagerFactory;
+	private final int fetchSize;
+	private final QuerydslNoOffsetOptions<T> options;
+	private final Function<JPAQueryFactory, JPAQuery<T>> queryFunction;
+
+	private StatelessSession statelessSession;
+	private ScrollableResults<T> cursor;
+	private Object lastKey;
+
+	public QuerydslCursorItemReader(EntityManagerFactory entityManagerFactory,
+		int fetchSize,
+		QuerydslNoOffsetOptions<T> options,
+		Function<JPAQueryFactory, JPAQuery<T>> queryFunction) {
+		setName(ClassUtils.getShortName(QuerydslCursorItemReader.class));
+		this.entityManagerFactory = entityManagerFactory;
+		this.fetchSize = fetchSize;
+		this.options = options;
+		this.queryFunction = queryFunction;
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		lastKey = isSaveState() ? executionContext.get(getExecutionContextKey(LAST_KEY)) : null;
+		super.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (isSaveState() && lastKey != null) {
+			executionContext.put(getExecutionContextKey(LAST_KEY), lastKey);
+		}
+	}
+
+	@Override
+	protected void doOpen() throws Exception {
+		// 스트리밍 중인 커넥션에서는 다른 쿼리를 실행할 수 없으므로 전용 세션(커넥션)을 연다
+		statelessSession = entityManagerFactory.unwrap(SessionFactory.class).openStatelessSession();
+		if (statelessSession == null) {
+			throw new DataAccessResourceFailureException("Unable to obtain a StatelessSession");
+		}
+
+		// 쿼리는 HQL 직렬화에만 쓰므로 EntityManager 없이 조립한다
+		JPAQuery<T> query = queryFunction.apply(new JPAQueryFactory(HQLTemplates.DEFAULT, () -> null));
+
+		cursor = createStatelessQuery(options.createCursorQuery(query, lastKey))
+			.setFetchSize(fetchSize)
+			.scroll(ScrollMode.FORWARD_ONLY);
+	}
+
+	@Override
+	protected T doRead() {
+		if (cursor == null || !cursor.next()) {
+			return null;
+		}
+
+		T item = cursor.get();
+		lastKey = options.extractKey(item);
+		return item;
+	}
+
+	// 재시작 시에는 건너뛰며 읽지 않고 마지막 키 이후부터 커서를 다시 연다
+	@Override
+	protected void jumpToItem(int itemIndex) {
+	}
+
+	@Override
+	protected void doClose() throws Exception {
+		if (cursor != null) {
+			cursor.close();
+			cursor = null;
+		}
+		if (statelessSession != null) {
+			statelessSession.close();
+			statelessSession = null;
+		}
+		lastKey = null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Query<T> createStatelessQuery(JPAQuery<T> query) {
+		QueryMetadata metadata = query.getMetadata();
+
+		JPQLSerializer serializer = new JPQLSerializer(HQLTemplates.DEFAULT);
+		serializer.serialize(metadata, false, null);
+
+		Query<T> statelessQuery = statelessSession.createQuery(serializer.toString(),
+			(Class<T>)metadata.getProjection().getType());
+		JPAUtil.setConstants(statelessQuery, serializer.getConstants(), metadata.getParams());
+		return statelessQuery;
+	}
+}
@@ -0,0 +1,87 @@
+package tetoandeggens.seeyouagainbatch.common.reader;
+
+import java.util.function.Function;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.persistence.EntityManagerFactory;
+import tetoandeggens.seeyouagainbatch.common.reader.options.QuerydslNoOffsetOptions;
+
+public class QuerydslCursorItemReaderBuilder<T> {
+	private QuerydslCursorItemReaderBuilder() {
+	}
+
+	public static <T> EntityManagerFactoryStep<T> builder() {
+		return new Steps<>();
+	}
+
+	public interface EntityManagerFactoryStep<T> {
+		FetchSizeStep<T> entityManagerFactory(EntityManagerFactory emf);
+	}
+
+	public interface FetchSizeStep<T> {
+		OptionsStep<T> fetchSize(int fetchSize);
+
+		OptionsStep<T> mysqlStreaming();
+	}
+
+	public interface OptionsStep<T> {
+		QueryFunctionStep<T> options(QuerydslNoOffsetOptions<T> options);
+	}
+
+	public interface QueryFunctionStep<T> {
+		BuildStep<T> queryFunction(Function<JPAQueryFactory, JPAQuery<T>> queryFunction);
+	}
+
+	public interface BuildStep<T> {
+		QuerydslCursorItemReader<T> build();
+	}
+
+	private static class Steps<T> implements
+		EntityManagerFactoryStep<T>, FetchSizeStep<T>, OptionsStep<T>, QueryFunctionStep<T>, BuildStep<T> {
+		private EntityManagerFactory entityManagerFactory;
+		private int fetchSize;
+		private QuerydslNoOffsetOptions<T> options;
+		private Function<JPAQueryFactory, JPAQuery<T>> queryFunction;
+
+		@Override
+		public FetchSizeStep<T> entityManagerFactory(EntityManagerFactory emf) {
+			this.entityManagerFactory = emf;
+			return this;
+		}
+
+		@Override
+		public OptionsStep<T> fetchSize(int fetchSize) {
+			this.fetchSize = fetchSize;
+			return this;
+		}
+
+		@Override
+		public OptionsStep<T> mysqlStreaming() {
+			return fetchSize(QuerydslCursorItemReader.MYSQL_STREAMING_FETCH_SIZE);
+		}
+
+		@Override
+		public QueryFunctionStep<T> options(QuerydslNoOffsetOptions<T> options) {
+			this.options = options;
+			return this;
+		}
+
+		@Override
+		public BuildStep<T> queryFunction(Function<JPAQueryFactory, JPAQuery<T>> queryFunction) {
+			this.queryFunction = queryFunction;
+			return this;
+		}
+
+		@Override
+		public QuerydslCursorItemReader<T> build() {
+			return new QuerydslCursorItemReader<>(
+				entityManagerFactory,
+				fetchSize,
+				options,
+				queryFunction
+			);
+		}
+	}
+}
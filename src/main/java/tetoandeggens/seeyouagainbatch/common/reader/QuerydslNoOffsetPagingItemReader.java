@@ -16,6 +16,8 @@ import tetoandeggens.seeyouagainbatch.common.reader.options.QuerydslNoOffsetOpti
 public class QuerydslNoOffsetPagingItemReader<T> extends QuerydslPagingItemReader<T> {
 	private QuerydslNoOffsetOptions<T> options;
 	private Function<JPAQueryFactory, JPAQuery<T>> idSelectQuery;
+	private JPAQuery<T> firstPageTemplate;
+	private JPAQuery<T> nextPageTemplate;
 
 	private QuerydslNoOffsetPagingItemReader() {
 		super();
@@ -55,14 +57,37 @@ public class QuerydslNoOffsetPagingItemReader<T> extends QuerydslPagingItemReade
 		resetCurrentIdIfNotLastPage();
 	}
 
+	@Override
+	protected void doOpen() throws Exception {
+		super.doOpen();
+		firstPageTemplate = null;
+		nextPageTemplate = null;
+	}
+
 	@Override
 	protected JPAQuery<T> createQuery() {
-		JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
-		JPAQuery<T> query = queryFunction.apply(queryFactory);
-		options.initKeys((idSelectQuery != null) ? idSelectQuery.apply(queryFactory) : query,
-			getPage());
+		int page = getPage();
+		if (page == 0) {
+			options.initKeys((idSelectQuery != null) ? idSelectQuery.apply(queryFactory) : super.createQuery(),
+				page);
+		}
 
-		return options.createQuery(query, getPage());
+		return options.bindKey(getPageTemplate(page).clone(entityManager));
+	}
+
+	// 첫 페이지와 이후 페이지는 키 비교 조건이 달라 템플릿을 따로 둔다
+	private JPAQuery<T> getPageTemplate(int page) {
+		if (page == 0) {
+			if (firstPageTemplate == null) {
+				firstPageTemplate = options.createQuery(super.createQuery(), page);
+			}
+			return firstPageTemplate;
+		}
+
+		if (nextPageTemplate == null) {
+			nextPageTemplate = options.createQuery(super.createQuery(), page);
+		}
+		return nextPageTemplate;
 	}
 
 	private void resetCurrentIdIfNotLastPage() {
@@ -36,6 +36,10 @@ public class QuerydslNoOffsetPagingItemReaderBuilder<T> {
 		BuildStep<T> idSelectQuery(Function<JPAQueryFactory, JPAQuery<T>> idSelectQuery);
 
 		QuerydslNoOffsetPagingItemReader<T> build();
+
+		HandOffItemReader<T> buildThreadSafe();
+
+		QuerydslNoOffsetStatelessItemReader<T> buildStateless();
 	}
 
 	private static class Steps<T> implements
@@ -86,5 +90,23 @@ public class QuerydslNoOffsetPagingItemReaderBuilder<T> {
 				idSelectQuery
 			);
 		}
+
+		@Override
+		public HandOffItemReader<T> buildThreadSafe() {
+			QuerydslNoOffsetPagingItemReader<T> reader = build();
+			reader.setSaveState(false);
+			return new HandOffItemReader<>(reader);
+		}
+
+		@Override
+		public QuerydslNoOffsetStatelessItemReader<T> buildStateless() {
+			return new QuerydslNoOffsetStatelessItemReader<>(
+				entityManagerFactory,
+				pageSize,
+				options,
+				queryFunction,
+				idSelectQuery
+			);
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package tetoandeggens.seeyouagainbatch.common.reader;
+
+import java.util.function.Function;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.Query;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.util.ClassUtils;
+
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.QueryModifiers;
+import com.querydsl.jpa.HQLTemplates;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUtil;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import tetoandeggens.seeyouagainbatch.common.reader.options.QuerydslNoOffsetOptions;
+
+// 조회 결과를 영속성 컨텍스트에 올리지 않도록 페이지 쿼리는 StatelessSession으로 실행한다
+public class QuerydslNoOffsetStatelessItemReader<T> extends QuerydslNoOffsetPagingItemReader<T> {
+
+	private StatelessSession statelessSession;
+
+	public QuerydslNoOffsetStatelessItemReader(EntityManagerFactory entityManagerFactory,
+		int pageSize,
+		QuerydslNoOffsetOptions<T> options,
+		Function<JPAQueryFactory, JPAQuery<T>> queryFunction,
+		Function<JPAQueryFactory, JPAQuery<T>> idSelectQuery) {
+		super(entityManagerFactory, pageSize, options, queryFunction, idSelectQuery);
+		setName(ClassUtils.getShortName(QuerydslNoOffsetStatelessItemReader.class));
+		setTransacted(false);
+	}
+
+	@Override
+	protected void doOpen() throws Exception {
+		super.doOpen();
+
+		statelessSession = entityManagerFactory.unwrap(SessionFactory.class).openStatelessSession();
+		if (statelessSession == null) {
+			throw new DataAccessResourceFailureException("Unable to obtain a StatelessSession");
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void fetchQuery(JPQLQuery<T> query, EntityTransaction tx) {
+		QueryMetadata metadata = query.getMetadata();
+
+		JPQLSerializer serializer = new JPQLSerializer(HQLTemplates.DEFAULT);
+		serializer.serialize(metadata, false, null);
+
+		Class<T> resultType = (Class<T>)metadata.getProjection().getType();
+		Query<T> statelessQuery = statelessSession.createQuery(serializer.toString(), resultType);
+		JPAUtil.setConstants(statelessQuery, serializer.getConstants(), metadata.getParams());
+
+		QueryModifiers modifiers = metadata.getModifiers();
+		if (modifiers.getLimitAsInteger() != null) {
+			statelessQuery.setMaxResults(modifiers.getLimitAsInteger());
+		}
+		if (modifiers.getOffsetAsInteger() != null) {
+			statelessQuery.setFirstResult(modifiers.getOffsetAsInteger());
+		}
+
+		results.addAll(statelessQuery.getResultList());
+	}
+
+	@Override
+	protected void doClose() throws Exception {
+		if (statelessSession != null) {
+			statelessSession.close();
+			statelessSession = null;
+		}
+		super.doClose();
+	}
+}
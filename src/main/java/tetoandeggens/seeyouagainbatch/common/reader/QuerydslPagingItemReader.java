@@ -25,6 +25,8 @@ public class QuerydslPagingItemReader<T> extends AbstractPagingItemReader<T> {
 	protected EntityManagerFactory entityManagerFactory;
 	protected EntityManager entityManager;
 	protected Function<JPAQueryFactory, JPAQuery<T>> queryFunction;
+	protected JPAQueryFactory queryFactory;
+	protected JPAQuery<T> queryTemplate;
 	protected boolean transacted = false;
 
 	protected QuerydslPagingItemReader() {
@@ -60,6 +62,10 @@ public class QuerydslPagingItemReader<T> extends AbstractPagingItemReader<T> {
 		if (entityManager == null) {
 			throw new DataAccessResourceFailureException("Unable to obtain an EntityManager");
 		}
+
+		// 페이지마다 쿼리를 다시 조립하지 않도록 팩토리와 기본 쿼리는 open 시점에 한 번만 만든다
+		queryFactory = new JPAQueryFactory(entityManager);
+		queryTemplate = queryFunction.apply(queryFactory);
 	}
 
 	@Override
@@ -90,8 +96,7 @@ public class QuerydslPagingItemReader<T> extends AbstractPagingItemReader<T> {
 	}
 
 	protected JPAQuery<T> createQuery() {
-		JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
-		return queryFunction.apply(queryFactory);
+		return queryTemplate.clone(entityManager);
 	}
 
 	protected void initResults() {
@@ -119,6 +124,8 @@ public class QuerydslPagingItemReader<T> extends AbstractPagingItemReader<T> {
 
 	@Override
 	protected void doClose() throws Exception {
+		queryTemplate = null;
+		queryFactory = null;
 		entityManager.close();
 		super.doClose();
 	}
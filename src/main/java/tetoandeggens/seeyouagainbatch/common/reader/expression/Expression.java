@@ -1,6 +1,7 @@
 package tetoandeggens.seeyouagainbatch.common.reader.expression;
 
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.ParamExpression;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.NumberPath;
 
@@ -20,7 +21,7 @@ public enum Expression {
         return this == ASC;
     }
 
-    public <N extends Number & Comparable<?>> BooleanExpression where(NumberPath<N> id, int page, N currentId) {
+    public <N extends Number & Comparable<?>> BooleanExpression where(NumberPath<N> id, int page, ParamExpression<N> currentId) {
         return where.expression(id, page, currentId);
     }
 
@@ -1,5 +1,6 @@
 package tetoandeggens.seeyouagainbatch.common.reader.expression;
 
+import com.querydsl.core.types.ParamExpression;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.NumberPath;
 
@@ -13,7 +14,7 @@ public enum WhereExpression {
         this.number = number;
     }
 
-    public <N extends Number & Comparable<?>> BooleanExpression expression(NumberPath<N> id, int page, N currentId) {
+    public <N extends Number & Comparable<?>> BooleanExpression expression(NumberPath<N> id, int page, ParamExpression<N> currentId) {
         return this.number.apply(id, page, currentId);
     }
 }
\ No newline at end of file
@@ -1,10 +1,11 @@
 package tetoandeggens.seeyouagainbatch.common.reader.expression;
 
+import com.querydsl.core.types.ParamExpression;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.NumberPath;
 
 @FunctionalInterface
 public interface WhereNumberFunction<N extends Number & Comparable<?>> {
-    BooleanExpression apply(NumberPath<N> id, int page, N currentId);
+    BooleanExpression apply(NumberPath<N> id, int page, ParamExpression<N> currentId);
 
 }
\ No newline at end of file
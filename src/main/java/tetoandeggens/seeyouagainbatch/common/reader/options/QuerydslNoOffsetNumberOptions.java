@@ -3,6 +3,7 @@ package tetoandeggens.seeyouagainbatch.common.reader.options;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.Param;
 import com.querydsl.jpa.impl.JPAQuery;
 
 import jakarta.annotation.Nonnull;
@@ -10,7 +11,10 @@ import tetoandeggens.seeyouagainbatch.common.reader.expression.Expression;
 
 public class QuerydslNoOffsetNumberOptions<T, N extends Number & Comparable<?>> extends QuerydslNoOffsetOptions<T> {
 
+	private static final String CURRENT_ID_PARAM = "currentId";
+
 	private final NumberPath<N> field;
+	private final Param<N> currentIdParam;
 	private N currentId;
 	private N lastId;
 
@@ -18,6 +22,7 @@ public class QuerydslNoOffsetNumberOptions<T, N extends Number & Comparable<?>>
 		@Nonnull Expression expression) {
 		super(field, expression);
 		this.field = field;
+		this.currentIdParam = new Param<>(field.getType(), CURRENT_ID_PARAM);
 	}
 
 	private QuerydslNoOffsetNumberOptions(@Nonnull NumberPath<N> field,
@@ -25,6 +30,7 @@ public class QuerydslNoOffsetNumberOptions<T, N extends Number & Comparable<?>>
 		String idName) {
 		super(idName, expression);
 		this.field = field;
+		this.currentIdParam = new Param<>(field.getType(), CURRENT_ID_PARAM);
 	}
 
 	public static <T, N extends Number & Comparable<?>> QuerydslNoOffsetNumberOptions<T, N> of(
@@ -103,8 +109,30 @@ public class QuerydslNoOffsetNumberOptions<T, N extends Number & Comparable<?>>
 			.orderBy(orderExpression());
 	}
 
+	// 페이지마다 달라지는 키는 파라미터로만 바인딩해 같은 JPQL 템플릿을 재사용한다
+	@Override
+	public JPAQuery<T> bindKey(JPAQuery<T> query) {
+		if (currentId == null) {
+			return query;
+		}
+
+		return query.set(currentIdParam, currentId);
+	}
+
+	// 커서는 한 번만 실행되므로 마지막으로 내보낸 키 이후부터 정렬해 읽는다
+	@Override
+	@SuppressWarnings("unchecked")
+	public JPAQuery<T> createCursorQuery(JPAQuery<T> query, Object lastKey) {
+		if (lastKey != null) {
+			N key = (N)lastKey;
+			query.where(expression.isAsc() ? field.gt(key) : field.lt(key));
+		}
+
+		return query.orderBy(orderExpression());
+	}
+
 	private BooleanExpression whereExpression(int page) {
-		return expression.where(field, page, currentId)
+		return expression.where(field, page, currentIdParam)
 			.and(expression.isAsc() ? field.loe(lastId) : field.goe(lastId));
 	}
 
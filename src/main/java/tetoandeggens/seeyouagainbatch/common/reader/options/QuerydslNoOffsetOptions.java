@@ -47,6 +47,14 @@ public abstract class QuerydslNoOffsetOptions<T> {
 
 	public abstract JPAQuery<T> createQuery(JPAQuery<T> query, int page);
 
+	public abstract JPAQuery<T> bindKey(JPAQuery<T> query);
+
+	public abstract JPAQuery<T> createCursorQuery(JPAQuery<T> query, Object lastKey);
+
+	public Object extractKey(T item) {
+		return getFiledValue(item);
+	}
+
 	public abstract void resetCurrentId(T item);
 
 	protected Object getFiledValue(T item) {
@@ -0,0 +1,77 @@
+package tetoandeggens.seeyouagainbatch.config;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+// 작업마다 스레드를 새로 만드는 실행기(가상 스레드 등)에 동시 실행 수 상한을 건다
+public class ConcurrencyLimitedExecutorService extends AbstractExecutorService {
+
+	private final ExecutorService delegate;
+	private final int maxConcurrency;
+	private final Semaphore permits;
+
+	public ConcurrencyLimitedExecutorService(ExecutorService delegate, int maxConcurrency) {
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be positive");
+		this.delegate = delegate;
+		this.maxConcurrency = maxConcurrency;
+		this.permits = new Semaphore(maxConcurrency);
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		Assert.notNull(command, "command must not be null");
+
+		// 대기는 제출 스레드가 아니라 작업 스레드에서 하므로 제출은 막히지 않는다
+		delegate.execute(() -> {
+			try {
+				permits.acquire();
+			} catch (InterruptedException e) {
+				// 버리면 runAsync 등의 Future가 영원히 완료되지 않으므로, 인터럽트 상태로 작업을 그대로 실행해 스스로 끝나게 한다
+				Thread.currentThread().interrupt();
+				command.run();
+				return;
+			}
+
+			try {
+				command.run();
+			} finally {
+				permits.release();
+			}
+		});
+	}
+
+	public int getActiveCount() {
+		return maxConcurrency - permits.availablePermits();
+	}
+
+	@Override
+	public void shutdown() {
+		delegate.shutdown();
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		return delegate.shutdownNow();
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return delegate.isShutdown();
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return delegate.isTerminated();
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return delegate.awaitTermination(timeout, unit);
+	}
+}
@@ -15,6 +15,8 @@ import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tetoandeggens.seeyouagainbatch.common.jdbc.MultiRowBulkInserter;
 
 import javax.sql.DataSource;
 
@@ -67,6 +69,13 @@ public class DataSourceConfig {
         return new JpaTransactionManager(entityManagerFactory);
     }
 
+    @Bean(name = "businessTransactionTemplate")
+    public TransactionTemplate businessTransactionTemplate(
+        @Qualifier("businessTransactionManager") PlatformTransactionManager businessTransactionManager
+    ) {
+        return new TransactionTemplate(businessTransactionManager);
+    }
+
     @Bean(name = "batchTransactionManager")
     public PlatformTransactionManager batchTransactionManager(
         @Qualifier("batchDataSource") DataSource dataSource
@@ -81,4 +90,11 @@ public class DataSourceConfig {
     ) {
         return new NamedParameterJdbcTemplate(dataSource);
     }
+
+    @Bean(name = "businessBulkInserter")
+    public MultiRowBulkInserter businessBulkInserter(
+        @Qualifier("businessNamedParameterJdbcTemplate") NamedParameterJdbcTemplate businessNamedParameterJdbcTemplate
+    ) {
+        return new MultiRowBulkInserter(businessNamedParameterJdbcTemplate.getJdbcTemplate());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package tetoandeggens.seeyouagainbatch.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+// 플랫폼/가상 스레드 모드의 메모리 사용량을 비교할 수 있도록 프로세스 RSS를 노출한다 (Linux 전용)
+@Component
+public class ProcessRssMetrics implements MeterBinder {
+
+	private static final Path STATUS_PATH = Path.of("/proc/self/status");
+	private static final String RSS_PREFIX = "VmRSS:";
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (!Files.isReadable(STATUS_PATH)) {
+			return;
+		}
+
+		Gauge.builder("process.memory.rss", this, ProcessRssMetrics::readRssBytes)
+			.description("배치 프로세스의 Resident Set Size")
+			.baseUnit(BaseUnits.BYTES)
+			.register(registry);
+	}
+
+	private double readRssBytes() {
+		try (Stream<String> lines = Files.lines(STATUS_PATH)) {
+			return lines.filter(line -> line.startsWith(RSS_PREFIX))
+				.findFirst()
+				.map(line -> Long.parseLong(line.substring(RSS_PREFIX.length()).replace("kB", "").trim()) * 1024d)
+				.orElse(Double.NaN);
+		} catch (IOException | UncheckedIOException | NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+}
@@ -1,14 +1,28 @@
 package tetoandeggens.seeyouagainbatch.config;
 
+import java.net.URI;
 import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import tetoandeggens.seeyouagainbatch.common.http.HostLimitedHttpClient;
 
 @Configuration
 public class S3Config {
@@ -22,18 +36,67 @@ public class S3Config {
 	@Value("${aws.s3.region}")
 	private String region;
 
+	// 로컬 S3 호환 서버(MinIO, LocalStack 등)로 붙을 때만 지정한다
+	@Value("${aws.s3.endpoint:}")
+	private String endpoint;
+
 	@Bean
 	public S3Client s3Client() {
-		AwsBasicCredentials awsCredentials = AwsBasicCredentials.create(accessKey, secretKey);
+		S3ClientBuilder builder = S3Client.builder()
+			.region(Region.of(region))
+			.credentialsProvider(credentialsProvider());
+
+		if (StringUtils.hasText(endpoint)) {
+			builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+		}
 
-		return S3Client.builder()
+		return builder.build();
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "batch.s3.async.enabled", havingValue = "true")
+	public S3AsyncClient s3AsyncClient(@Value("${batch.s3.async.max-concurrency:64}") int maxConcurrency) {
+		S3AsyncClientBuilder builder = S3AsyncClient.builder()
 			.region(Region.of(region))
-			.credentialsProvider(StaticCredentialsProvider.create(awsCredentials))
-			.build();
+			.credentialsProvider(credentialsProvider())
+			.httpClientBuilder(NettyNioAsyncHttpClient.builder()
+				.maxConcurrency(maxConcurrency));
+
+		if (StringUtils.hasText(endpoint)) {
+			builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+		}
+
+		return builder.build();
+	}
+
+	// HttpClient는 실행기를 닫지 않으므로 컨테이너 종료 시 빈으로서 닫는다
+	@Bean(destroyMethod = "close")
+	public ExecutorService imageDownloadExecutorService() {
+		return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("image-download-vt-", 1).factory());
 	}
 
+	// 공공데이터 이미지 다운로드용 클라이언트. 느린 원본 하나가 청크 전체를 막지 않도록 호스트별 동시 요청 수와 타임아웃을 건다
 	@Bean
-	public HttpClient httpClient() {
-		return HttpClient.newBuilder().build();
+	public HttpClient httpClient(
+		@Value("${batch.image-download.connect-timeout-ms:3000}") long connectTimeoutMillis,
+		@Value("${batch.image-download.request-timeout-ms:10000}") long requestTimeoutMillis,
+		@Value("${batch.image-download.max-concurrency-per-host:8}") int maxConcurrencyPerHost,
+		@Value("${batch.image-download.http-version:HTTP_2}") HttpClient.Version httpVersion,
+		@Qualifier("imageDownloadExecutorService") ExecutorService imageDownloadExecutorService,
+		MeterRegistry meterRegistry
+	) {
+		// HTTP_2는 원본이 지원하지 않으면 HTTP/1.1로 내려가므로 기본값으로 둔다
+		HttpClient httpClient = HttpClient.newBuilder()
+			.version(httpVersion)
+			.connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+			.executor(imageDownloadExecutorService)
+			.build();
+
+		return new HostLimitedHttpClient(httpClient, maxConcurrencyPerHost, Duration.ofMillis(requestTimeoutMillis),
+			meterRegistry);
+	}
+
+	private StaticCredentialsProvider credentialsProvider() {
+		return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
 	}
 }
\ No newline at end of file
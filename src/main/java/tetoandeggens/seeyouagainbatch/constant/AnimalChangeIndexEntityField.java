@@ -0,0 +1,17 @@
+package tetoandeggens.seeyouagainbatch.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AnimalChangeIndexEntityField {
+
+    DESERTION_NO("desertion_no"),
+    UPD_TM("upd_tm"),
+    CONTENT_HASH("content_hash"),
+    CREATED_AT("created_at"),
+    UPDATED_AT("updated_at");
+
+    private final String columnName;
+}
@@ -9,7 +9,10 @@ public enum AnimalS3ProfileEntityField {
 
 	PROFILE("profile"),
 	IMAGE_TYPE("image_type"),
-	ANIMAL_ID("animal_id");
+	ANIMAL_ID("animal_id"),
+	IS_DELETED("is_deleted"),
+	CREATED_AT("created_at"),
+	UPDATED_AT("updated_at");
 
 	private final String columnName;
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package tetoandeggens.seeyouagainbatch.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum GeocodeCacheEntityField {
+
+    ADDRESS_KEY("address_key"),
+    LATITUDE("latitude"),
+    LONGITUDE("longitude"),
+    RESOLVED("resolved"),
+    EXPIRES_AT("expires_at"),
+    CREATED_AT("created_at"),
+    UPDATED_AT("updated_at");
+
+    private final String columnName;
+}
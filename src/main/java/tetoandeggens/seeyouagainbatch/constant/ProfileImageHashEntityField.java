@@ -0,0 +1,18 @@
+package tetoandeggens.seeyouagainbatch.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProfileImageHashEntityField {
+
+    URL_KEY("url_key"),
+    CONTENT_HASH("content_hash"),
+    ETAG("etag"),
+    LAST_MODIFIED("last_modified"),
+    CREATED_AT("created_at"),
+    UPDATED_AT("updated_at");
+
+    private final String columnName;
+}
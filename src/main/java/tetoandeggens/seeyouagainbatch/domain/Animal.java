@@ -34,7 +34,7 @@ public class Animal extends BaseEntity {
 	@Column(name = "animal_type", nullable = false)
 	private AnimalType animalType = AnimalType.ABANDONED;
 
-	@Column(name = "desertion_no")
+	@Column(name = "desertion_no", unique = true)
 	private String desertionNo;
 
 	@Column(name = "happen_date")
@@ -0,0 +1,26 @@
+package tetoandeggens.seeyouagainbatch.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "animal_change_index")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnimalChangeIndex extends BaseEntity {
+
+	@Id
+	@Column(name = "desertion_no")
+	private String desertionNo;
+
+	@Column(name = "upd_tm")
+	private String updTm;
+
+	@Column(name = "content_hash", nullable = false)
+	private long contentHash;
+}
@@ -11,13 +11,16 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "ANIMAL_PROFILE")
+@Table(name = "ANIMAL_PROFILE", uniqueConstraints = {
+	@UniqueConstraint(name = "uk_animal_profile_animal_id_profile", columnNames = {"animal_id", "profile"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AnimalProfile extends BaseEntity {
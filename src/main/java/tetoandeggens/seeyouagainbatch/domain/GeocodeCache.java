@@ -0,0 +1,34 @@
+package tetoandeggens.seeyouagainbatch.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "geocode_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GeocodeCache extends BaseEntity {
+
+	@Id
+	@Column(name = "address_key")
+	private String addressKey;
+
+	@Column(name = "latitude")
+	private Double latitude;
+
+	@Column(name = "longitude")
+	private Double longitude;
+
+	@Column(name = "resolved", nullable = false)
+	private boolean resolved;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+}
@@ -0,0 +1,29 @@
+package tetoandeggens.seeyouagainbatch.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "profile_image_hash")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProfileImageHash extends BaseEntity {
+
+	@Id
+	@Column(name = "url_key", length = 64)
+	private String urlKey;
+
+	@Column(name = "content_hash", nullable = false, length = 64)
+	private String contentHash;
+
+	@Column(name = "etag")
+	private String etag;
+
+	@Column(name = "last_modified", length = 64)
+	private String lastModified;
+}
@@ -0,0 +1,202 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.binder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+
+import tetoandeggens.seeyouagainbatch.constant.AnimalEntityField;
+import tetoandeggens.seeyouagainbatch.domain.Animal;
+
+public final class AnimalRowBinder {
+
+	private static final ColumnBinder[] COLUMN_BINDERS;
+	private static final List<String> COLUMN_NAMES;
+
+	static {
+		List<ColumnBinder> binders = new ArrayList<>();
+		List<String> columnNames = new ArrayList<>();
+		for (AnimalEntityField field : AnimalEntityField.values()) {
+			if (field == AnimalEntityField.CREATED_AT || field == AnimalEntityField.UPDATED_AT) {
+				continue;
+			}
+			binders.add(binderFor(field));
+			columnNames.add(field.getColumnName());
+		}
+		COLUMN_BINDERS = binders.toArray(new ColumnBinder[0]);
+		COLUMN_NAMES = List.copyOf(columnNames);
+	}
+
+	private AnimalRowBinder() {
+	}
+
+	public static List<String> columnNames() {
+		return COLUMN_NAMES;
+	}
+
+	public static int columnCount() {
+		return COLUMN_BINDERS.length;
+	}
+
+	public static void bind(PreparedStatement ps, int startIndex, Animal animal) throws SQLException {
+		for (int i = 0; i < COLUMN_BINDERS.length; i++) {
+			COLUMN_BINDERS[i].bind(ps, startIndex + i, animal);
+		}
+	}
+
+	public static void bind(Animal animal, Object[] values, int offset) {
+		for (int i = 0; i < COLUMN_BINDERS.length; i++) {
+			values[offset + i] = COLUMN_BINDERS[i].value(animal);
+		}
+	}
+
+	public static BatchPreparedStatementSetter batchSetter(List<Animal> animals) {
+		return new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				bind(ps, 1, animals.get(i));
+			}
+
+			@Override
+			public int getBatchSize() {
+				return animals.size();
+			}
+		};
+	}
+
+	private static ColumnBinder binderFor(AnimalEntityField field) {
+		return switch (field) {
+			case ANIMAL_TYPE -> enumColumn(Animal::getAnimalType);
+			case DESERTION_NO -> stringColumn(Animal::getDesertionNo);
+			case HAPPEN_DATE -> dateColumn(Animal::getHappenDate);
+			case HAPPEN_PLACE -> stringColumn(Animal::getHappenPlace);
+			case CITY -> stringColumn(Animal::getCity);
+			case TOWN -> stringColumn(Animal::getTown);
+			case SPECIES -> enumColumn(Animal::getSpecies);
+			case COLOR -> stringColumn(Animal::getColor);
+			case BIRTH -> stringColumn(Animal::getBirth);
+			case WEIGHT -> stringColumn(Animal::getWeight);
+			case NOTICE_NO -> stringColumn(Animal::getNoticeNo);
+			case NOTICE_START_DATE -> stringColumn(Animal::getNoticeStartDate);
+			case NOTICE_END_DATE -> stringColumn(Animal::getNoticeEndDate);
+			case PROCESS_STATE -> stringColumn(Animal::getProcessState);
+			case SEX -> enumColumn(Animal::getSex);
+			case NEUTERED_STATE -> enumColumn(Animal::getNeuteredState);
+			case SPECIAL_MARK -> stringColumn(Animal::getSpecialMark);
+			case CENTER_PHONE -> stringColumn(Animal::getCenterPhone);
+			case FINAL_UPDATED_AT -> dateTimeColumn(Animal::getFinalUpdatedAt);
+			case ANIMAL_LOCATION_ID -> idColumn(animal -> animal.getAnimalLocation().getId());
+			case BREED_TYPE_ID -> idColumn(animal -> animal.getBreedType().getId());
+			case CREATED_AT, UPDATED_AT -> throw new IllegalArgumentException("감사 컬럼은 바인딩 대상이 아닙니다: " + field);
+		};
+	}
+
+	private static ColumnBinder stringColumn(Function<Animal, String> getter) {
+		return new ColumnBinder() {
+			@Override
+			public void bind(PreparedStatement ps, int parameterIndex, Animal animal) throws SQLException {
+				String value = getter.apply(animal);
+				if (value == null) {
+					ps.setNull(parameterIndex, Types.VARCHAR);
+				} else {
+					ps.setString(parameterIndex, value);
+				}
+			}
+
+			@Override
+			public Object value(Animal animal) {
+				return getter.apply(animal);
+			}
+		};
+	}
+
+	private static ColumnBinder enumColumn(Function<Animal, ? extends Enum<?>> getter) {
+		return new ColumnBinder() {
+			@Override
+			public void bind(PreparedStatement ps, int parameterIndex, Animal animal) throws SQLException {
+				Enum<?> value = getter.apply(animal);
+				if (value == null) {
+					ps.setNull(parameterIndex, Types.VARCHAR);
+				} else {
+					ps.setString(parameterIndex, value.name());
+				}
+			}
+
+			@Override
+			public Object value(Animal animal) {
+				Enum<?> value = getter.apply(animal);
+				return value != null ? value.name() : null;
+			}
+		};
+	}
+
+	private static ColumnBinder dateColumn(Function<Animal, LocalDate> getter) {
+		return new ColumnBinder() {
+			@Override
+			public void bind(PreparedStatement ps, int parameterIndex, Animal animal) throws SQLException {
+				LocalDate value = getter.apply(animal);
+				if (value == null) {
+					ps.setNull(parameterIndex, Types.DATE);
+				} else {
+					ps.setObject(parameterIndex, value);
+				}
+			}
+
+			@Override
+			public Object value(Animal animal) {
+				return getter.apply(animal);
+			}
+		};
+	}
+
+	private static ColumnBinder dateTimeColumn(Function<Animal, LocalDateTime> getter) {
+		return new ColumnBinder() {
+			@Override
+			public void bind(PreparedStatement ps, int parameterIndex, Animal animal) throws SQLException {
+				LocalDateTime value = getter.apply(animal);
+				if (value == null) {
+					ps.setNull(parameterIndex, Types.TIMESTAMP);
+				} else {
+					ps.setObject(parameterIndex, value);
+				}
+			}
+
+			@Override
+			public Object value(Animal animal) {
+				return getter.apply(animal);
+			}
+		};
+	}
+
+	private static ColumnBinder idColumn(Function<Animal, Long> getter) {
+		return new ColumnBinder() {
+			@Override
+			public void bind(PreparedStatement ps, int parameterIndex, Animal animal) throws SQLException {
+				Long value = getter.apply(animal);
+				if (value == null) {
+					ps.setNull(parameterIndex, Types.BIGINT);
+				} else {
+					ps.setLong(parameterIndex, value);
+				}
+			}
+
+			@Override
+			public Object value(Animal animal) {
+				return getter.apply(animal);
+			}
+		};
+	}
+
+	private interface ColumnBinder {
+
+		void bind(PreparedStatement ps, int parameterIndex, Animal animal) throws SQLException;
+
+		Object value(Animal animal);
+	}
+}
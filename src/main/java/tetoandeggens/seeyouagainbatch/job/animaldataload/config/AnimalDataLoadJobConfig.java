@@ -1,39 +1,73 @@
 package tetoandeggens.seeyouagainbatch.job.animaldataload.config;
 
+import java.util.concurrent.ExecutorService;
+
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.transaction.PlatformTransactionManager;
 
 import lombok.RequiredArgsConstructor;
-import tetoandeggens.seeyouagainbatch.job.animaldataload.tasklet.AnimalDataLoadTasklet;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataDto;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.parameter.AnimalDataLoadJobParameter;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.reader.AnimalPublicDataItemReader;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.service.AnimalPublicDataService;
 import tetoandeggens.seeyouagainbatch.job.animaldataload.validator.AnimalDataLoadJobParametersValidator;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.writer.AnimalDataLoadWriter;
 
 @Configuration
 @RequiredArgsConstructor
 public class AnimalDataLoadJobConfig {
 
     private final JobRepository jobRepository;
-    private final PlatformTransactionManager businessTransactionManager;
-    private final AnimalDataLoadTasklet animalDataLoadTasklet;
+    private final AnimalPublicDataService animalPublicDataService;
+    private final AnimalDataLoadWriter animalDataLoadWriter;
     private final AnimalDataLoadJobParametersValidator jobParametersValidator;
+    private final AnimalDataLoadJobParameter jobParameter;
 
     @Bean
-    public Job animalDataLoadJob() {
+    public Job animalDataLoadJob(Step animalDataLoadStep) {
         return new JobBuilder("animalDataLoadJob", jobRepository)
-                .start(animalDataLoadStep())
+                .start(animalDataLoadStep)
                 .validator(jobParametersValidator)
                 .build();
     }
 
     @Bean
-    public Step animalDataLoadStep() {
+    @JobScope
+    public Step animalDataLoadStep(
+            @Value("#{jobParameters['loadChunkSize'] ?: 500L}") Long loadChunkSize,
+            AnimalPublicDataItemReader animalPublicDataItemReader
+    ) {
         return new StepBuilder("animalDataLoadStep", jobRepository)
-                .tasklet(animalDataLoadTasklet, businessTransactionManager)
+                .<AnimalPublicDataDto, AnimalPublicDataDto>chunk(loadChunkSize.intValue(), new ResourcelessTransactionManager())
+                .reader(animalPublicDataItemReader)
+                .writer(animalDataLoadWriter)
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    @StepScope
+    public AnimalPublicDataItemReader animalPublicDataItemReader(
+            @Qualifier("publicDataFetchExecutorService") ExecutorService publicDataFetchExecutorService,
+            @Value("${batch.animaldataload.fetch-window:8}") int fetchWindowSize
+    ) {
+        return new AnimalPublicDataItemReader(
+                animalPublicDataService,
+                publicDataFetchExecutorService,
+                jobParameter.getStartDate(),
+                jobParameter.getEndDate(),
+                jobParameter.getNumOfRows(),
+                jobParameter.getPageNo(),
+                fetchWindowSize
+        );
+    }
+}
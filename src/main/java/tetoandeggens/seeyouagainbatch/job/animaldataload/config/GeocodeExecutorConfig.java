@@ -0,0 +1,56 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.annotation.PreDestroy;
+import tetoandeggens.seeyouagainbatch.common.concurrent.RateLimiter;
+import tetoandeggens.seeyouagainbatch.config.NamedThreadFactory;
+
+@Configuration
+public class GeocodeExecutorConfig {
+
+	private ThreadPoolExecutor geocodeInternalExecutorService;
+
+	@Bean
+	public ExecutorService geocodeExecutorService(
+		@Value("${batch.animaldataload.geocode-parallelism:4}") int geocodeParallelism) {
+		this.geocodeInternalExecutorService = new ThreadPoolExecutor(
+			geocodeParallelism,
+			geocodeParallelism,
+			0L,
+			TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(),
+			new NamedThreadFactory("geocode")
+		);
+
+		return this.geocodeInternalExecutorService;
+	}
+
+	@Bean
+	public RateLimiter kakaoMapRateLimiter(
+		@Value("${batch.animaldataload.geocode-rate-per-second:10}") double geocodeRatePerSecond) {
+		return new RateLimiter(geocodeRatePerSecond);
+	}
+
+	@PreDestroy
+	public void destroy() {
+		if (geocodeInternalExecutorService != null) {
+			geocodeInternalExecutorService.shutdown();
+			try {
+				if (!geocodeInternalExecutorService.awaitTermination(30, TimeUnit.SECONDS)) {
+					geocodeInternalExecutorService.shutdownNow();
+				}
+			} catch (InterruptedException e) {
+				geocodeInternalExecutorService.shutdownNow();
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.annotation.PreDestroy;
+import tetoandeggens.seeyouagainbatch.config.NamedThreadFactory;
+
+@Configuration
+public class PublicDataFetchExecutorConfig {
+
+	private ThreadPoolExecutor publicDataFetchInternalExecutorService;
+
+	@Bean
+	public ExecutorService publicDataFetchExecutorService(
+		@Value("${batch.animaldataload.fetch-parallelism:4}") int fetchParallelism) {
+		this.publicDataFetchInternalExecutorService = new ThreadPoolExecutor(
+			fetchParallelism,
+			fetchParallelism,
+			0L,
+			TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(),
+			new NamedThreadFactory("public-data-fetch")
+		);
+
+		return this.publicDataFetchInternalExecutorService;
+	}
+
+	@PreDestroy
+	public void destroy() {
+		if (publicDataFetchInternalExecutorService != null) {
+			publicDataFetchInternalExecutorService.shutdown();
+			try {
+				if (!publicDataFetchInternalExecutorService.awaitTermination(30, TimeUnit.SECONDS)) {
+					publicDataFetchInternalExecutorService.shutdownNow();
+				}
+			} catch (InterruptedException e) {
+				publicDataFetchInternalExecutorService.shutdownNow();
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -35,6 +35,13 @@ public class AnimalApiResponseWrapper {
 
         @JsonProperty("items")
         private Items items;
+
+        @JsonProperty("totalCount")
+        private Integer totalCount;
+
+        public Body(Items items) {
+            this(items, null);
+        }
     }
 
     @Getter
@@ -0,0 +1,18 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.dto;
+
+import java.util.Objects;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AnimalChangeIndexEntry {
+
+    private final String updTm;
+    private final long contentHash;
+
+    public boolean matches(String updTm, long contentHash) {
+        return this.contentHash == contentHash && Objects.equals(this.updTm, updTm);
+    }
+}
@@ -0,0 +1,27 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AnimalChangeSet {
+
+    private final List<AnimalPublicDataDto> inserts;
+    private final List<AnimalPublicDataDto> updates;
+    private final int unchangedCount;
+
+    public List<AnimalPublicDataDto> getChangedItems() {
+        List<AnimalPublicDataDto> changedItems = new ArrayList<>(inserts.size() + updates.size());
+        changedItems.addAll(inserts);
+        changedItems.addAll(updates);
+        return changedItems;
+    }
+
+    public boolean hasChanges() {
+        return !inserts.isEmpty() || !updates.isEmpty();
+    }
+}
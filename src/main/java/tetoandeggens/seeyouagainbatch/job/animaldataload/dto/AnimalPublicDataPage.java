@@ -0,0 +1,19 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AnimalPublicDataPage {
+
+    private final int pageNo;
+    private final List<AnimalPublicDataDto> items;
+    private final Integer totalCount;
+
+    public boolean isLastPage(int numOfRows) {
+        return items.size() < numOfRows;
+    }
+}
@@ -0,0 +1,27 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GeocodeCacheEntry {
+
+    private final Double latitude;
+    private final Double longitude;
+    private final boolean resolved;
+    private final LocalDateTime expiresAt;
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public GeoCoordinateDto toCoordinate() {
+        if (!resolved) {
+            return new GeoCoordinateDto(0.0, 0.0);
+        }
+        return new GeoCoordinateDto(latitude, longitude);
+    }
+}
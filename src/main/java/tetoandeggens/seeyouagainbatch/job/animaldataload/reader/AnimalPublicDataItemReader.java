@@ -0,0 +1,122 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.reader;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataDto;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataPage;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.service.AnimalPublicDataService;
+
+@Slf4j
+public class AnimalPublicDataItemReader extends ItemStreamSupport implements ItemStreamReader<AnimalPublicDataDto> {
+
+	private static final String PAGE_NO_KEY = "pageNo";
+	private static final String ITEM_INDEX_KEY = "itemIndex";
+
+	private final AnimalPublicDataService animalPublicDataService;
+	private final Executor fetchExecutor;
+	private final String startDate;
+	private final String endDate;
+	private final int numOfRows;
+	private final int startPageNo;
+	private final int fetchWindowSize;
+
+	private AnimalPublicDataPagePrefetcher pagePrefetcher;
+	private List<AnimalPublicDataDto> currentItems = Collections.emptyList();
+	private int currentPageNo;
+	private int itemIndex;
+	private boolean started;
+	private boolean exhausted;
+
+	public AnimalPublicDataItemReader(
+		AnimalPublicDataService animalPublicDataService,
+		Executor fetchExecutor,
+		String startDate,
+		String endDate,
+		int numOfRows,
+		int startPageNo,
+		int fetchWindowSize
+	) {
+		this.animalPublicDataService = animalPublicDataService;
+		this.fetchExecutor = fetchExecutor;
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.numOfRows = numOfRows;
+		this.startPageNo = startPageNo;
+		this.fetchWindowSize = fetchWindowSize;
+		setName("animalPublicDataItemReader");
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		currentPageNo = executionContext.containsKey(getExecutionContextKey(PAGE_NO_KEY))
+			? executionContext.getInt(getExecutionContextKey(PAGE_NO_KEY))
+			: startPageNo;
+		itemIndex = executionContext.containsKey(getExecutionContextKey(ITEM_INDEX_KEY))
+			? executionContext.getInt(getExecutionContextKey(ITEM_INDEX_KEY))
+			: 0;
+		currentItems = Collections.emptyList();
+		started = false;
+		exhausted = false;
+		pagePrefetcher = new AnimalPublicDataPagePrefetcher(
+			animalPublicDataService, fetchExecutor, startDate, endDate, numOfRows, fetchWindowSize);
+
+		log.info("공공 API 리더 시작 - startDate: {}, endDate: {}, numOfRows: {}, pageNo: {}, itemIndex: {}",
+			startDate, endDate, numOfRows, currentPageNo, itemIndex);
+	}
+
+	@Override
+	public AnimalPublicDataDto read() {
+		if (!started) {
+			pagePrefetcher.start(currentPageNo);
+			started = true;
+			loadNextPage();
+		}
+
+		while (!exhausted) {
+			if (itemIndex < currentItems.size()) {
+				return currentItems.get(itemIndex++);
+			}
+
+			itemIndex = 0;
+			loadNextPage();
+		}
+
+		return null;
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		executionContext.putInt(getExecutionContextKey(PAGE_NO_KEY), currentPageNo);
+		executionContext.putInt(getExecutionContextKey(ITEM_INDEX_KEY), itemIndex);
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		if (pagePrefetcher != null) {
+			pagePrefetcher.close();
+		}
+		currentItems = Collections.emptyList();
+	}
+
+	private void loadNextPage() {
+		AnimalPublicDataPage page = pagePrefetcher.next();
+
+		if (page == null) {
+			exhausted = true;
+			currentItems = Collections.emptyList();
+			log.info("마지막 페이지 도달 - pageNo: {}", currentPageNo);
+			return;
+		}
+
+		currentPageNo = page.getPageNo();
+		currentItems = page.getItems();
+	}
+}
@@ -0,0 +1,117 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.reader;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataPage;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.service.AnimalPublicDataService;
+
+@Slf4j
+public class AnimalPublicDataPagePrefetcher {
+
+	private final AnimalPublicDataService animalPublicDataService;
+	private final Executor executor;
+	private final String startDate;
+	private final String endDate;
+	private final int numOfRows;
+	private final int windowSize;
+
+	private final Deque<CompletableFuture<AnimalPublicDataPage>> inFlightPages = new ArrayDeque<>();
+	private AnimalPublicDataPage firstPage;
+	private Integer lastPageNo;
+	private int nextSubmitPageNo;
+	private boolean finished;
+
+	public AnimalPublicDataPagePrefetcher(
+		AnimalPublicDataService animalPublicDataService,
+		Executor executor,
+		String startDate,
+		String endDate,
+		int numOfRows,
+		int windowSize
+	) {
+		this.animalPublicDataService = animalPublicDataService;
+		this.executor = executor;
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.numOfRows = numOfRows;
+		this.windowSize = Math.max(1, windowSize);
+	}
+
+	public void start(int startPageNo) {
+		firstPage = animalPublicDataService.fetchPage(startDate, endDate, numOfRows, startPageNo);
+		nextSubmitPageNo = startPageNo + 1;
+		finished = false;
+
+		Integer totalCount = firstPage.getTotalCount();
+		if (totalCount != null && !firstPage.isLastPage(numOfRows)) {
+			lastPageNo = Math.max(startPageNo, (totalCount + numOfRows - 1) / numOfRows);
+			log.info("공공 API 선행 조회 시작 - totalCount: {}, 마지막 페이지: {}, 동시 조회 윈도우: {}",
+				totalCount, lastPageNo, windowSize);
+			fillWindow();
+		}
+	}
+
+	public AnimalPublicDataPage next() {
+		if (finished) {
+			return null;
+		}
+
+		AnimalPublicDataPage page;
+		if (firstPage != null) {
+			page = firstPage;
+			firstPage = null;
+		} else if (!inFlightPages.isEmpty()) {
+			page = await(inFlightPages.pollFirst());
+		} else if (lastPageNo == null) {
+			page = animalPublicDataService.fetchPage(startDate, endDate, numOfRows, nextSubmitPageNo++);
+		} else {
+			finished = true;
+			return null;
+		}
+
+		if (page.isLastPage(numOfRows) || (lastPageNo != null && page.getPageNo() >= lastPageNo)) {
+			finished = true;
+			cancelInFlightPages();
+		} else {
+			fillWindow();
+		}
+
+		return page;
+	}
+
+	public void close() {
+		finished = true;
+		firstPage = null;
+		cancelInFlightPages();
+	}
+
+	private void fillWindow() {
+		while (lastPageNo != null && inFlightPages.size() < windowSize && nextSubmitPageNo <= lastPageNo) {
+			int pageNo = nextSubmitPageNo++;
+			inFlightPages.addLast(CompletableFuture.supplyAsync(
+				() -> animalPublicDataService.fetchPage(startDate, endDate, numOfRows, pageNo), executor));
+		}
+	}
+
+	private AnimalPublicDataPage await(CompletableFuture<AnimalPublicDataPage> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			cancelInFlightPages();
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
+
+	private void cancelInFlightPages() {
+		inFlightPages.forEach(future -> future.cancel(true));
+		inFlightPages.clear();
+	}
+}
@@ -0,0 +1,154 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.constant.AnimalChangeIndexEntityField;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalChangeIndexEntry;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalChangeSet;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataDto;
+
+// 청크에서 실제로 저장할 기록만 고르는 사전 필터다. 인덱스 항목은 animal 행이 있을 때만 믿고,
+// 최신 기록만 덮어쓰도록 막는 것은 여전히 AnimalService의 final_updated_at 조건이 맡는다
+@Slf4j
+@Service
+public class AnimalChangeIndexService {
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private static final char FIELD_SEPARATOR = '\u001F';
+	private static final char NULL_MARKER = '\u0000';
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	public AnimalChangeIndexService(
+		@Qualifier("businessNamedParameterJdbcTemplate") NamedParameterJdbcTemplate namedParameterJdbcTemplate
+	) {
+		this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+	}
+
+	public AnimalChangeSet classify(List<AnimalPublicDataDto> publicDataList) {
+		Map<String, AnimalChangeIndexEntry> indexedEntries = findIndexedEntries(publicDataList);
+
+		List<AnimalPublicDataDto> inserts = new ArrayList<>();
+		List<AnimalPublicDataDto> updates = new ArrayList<>();
+		int unchangedCount = 0;
+
+		for (AnimalPublicDataDto dto : publicDataList) {
+			// animal 행이 없으면 인덱스 항목이 남아 있어도 신규로 본다. 인덱스는 record에서 다시 맞춰진다
+			if (!indexedEntries.containsKey(dto.getDesertionNo())) {
+				inserts.add(dto);
+				continue;
+			}
+
+			// animal 행은 있는데 인덱스 항목이 없으면 내용을 비교할 수 없으므로 변경으로 보고 다시 저장한다
+			AnimalChangeIndexEntry indexedEntry = indexedEntries.get(dto.getDesertionNo());
+			if (indexedEntry != null && indexedEntry.matches(dto.getUpdTm(), contentHash(dto))) {
+				unchangedCount++;
+			} else {
+				updates.add(dto);
+			}
+		}
+
+		return new AnimalChangeSet(inserts, updates, unchangedCount);
+	}
+
+	public void record(List<AnimalPublicDataDto> changedItems) {
+		if (changedItems.isEmpty()) {
+			return;
+		}
+
+		String sql = "INSERT INTO animal_change_index (desertion_no, upd_tm, content_hash, created_at, updated_at) " +
+			"VALUES (:desertion_no, :upd_tm, :content_hash, NOW(), NOW()) " +
+			"ON DUPLICATE KEY UPDATE upd_tm = VALUES(upd_tm), content_hash = VALUES(content_hash), updated_at = NOW()";
+
+		SqlParameterSource[] batchParams = new SqlParameterSource[changedItems.size()];
+		for (int i = 0; i < changedItems.size(); i++) {
+			AnimalPublicDataDto dto = changedItems.get(i);
+			batchParams[i] = new MapSqlParameterSource()
+				.addValue(AnimalChangeIndexEntityField.DESERTION_NO.getColumnName(), dto.getDesertionNo())
+				.addValue(AnimalChangeIndexEntityField.UPD_TM.getColumnName(), dto.getUpdTm())
+				.addValue(AnimalChangeIndexEntityField.CONTENT_HASH.getColumnName(), contentHash(dto));
+		}
+
+		namedParameterJdbcTemplate.batchUpdate(sql, batchParams);
+		log.info("{}건의 변경 인덱스 갱신 완료", changedItems.size());
+	}
+
+	private Map<String, AnimalChangeIndexEntry> findIndexedEntries(List<AnimalPublicDataDto> publicDataList) {
+		List<String> desertionNos = publicDataList.stream()
+			.map(AnimalPublicDataDto::getDesertionNo)
+			.filter(Objects::nonNull)
+			.distinct()
+			.toList();
+
+		if (desertionNos.isEmpty()) {
+			return Map.of();
+		}
+
+		// animal 행을 기준으로 인덱스를 붙여, 삭제되었거나 저장에 실패한 행의 인덱스 항목은 무시한다
+		String sql = "SELECT a.desertion_no, ci.upd_tm, ci.content_hash " +
+			"FROM animal a " +
+			"LEFT JOIN animal_change_index ci ON ci.desertion_no = a.desertion_no " +
+			"WHERE a.desertion_no IN (:desertionNos)";
+
+		return namedParameterJdbcTemplate.query(
+			sql,
+			new MapSqlParameterSource("desertionNos", desertionNos),
+			rs -> {
+				Map<String, AnimalChangeIndexEntry> resultMap = new HashMap<>();
+				while (rs.next()) {
+					String desertionNo = rs.getString(AnimalChangeIndexEntityField.DESERTION_NO.getColumnName());
+					String updTm = rs.getString(AnimalChangeIndexEntityField.UPD_TM.getColumnName());
+					long contentHash = rs.getLong(AnimalChangeIndexEntityField.CONTENT_HASH.getColumnName());
+					resultMap.put(desertionNo, rs.wasNull() ? null : new AnimalChangeIndexEntry(updTm, contentHash));
+				}
+				return resultMap;
+			}
+		);
+	}
+
+	static long contentHash(AnimalPublicDataDto dto) {
+		long hash = FNV_OFFSET_BASIS;
+		for (String field : contentFields(dto)) {
+			if (field == null) {
+				hash = mix(hash, NULL_MARKER);
+			} else {
+				for (int i = 0; i < field.length(); i++) {
+					hash = mix(hash, field.charAt(i));
+				}
+			}
+			hash = mix(hash, FIELD_SEPARATOR);
+		}
+		return hash;
+	}
+
+	private static long mix(long hash, char value) {
+		hash ^= (value >>> 8);
+		hash *= FNV_PRIME;
+		hash ^= (value & 0xFF);
+		hash *= FNV_PRIME;
+		return hash;
+	}
+
+	private static String[] contentFields(AnimalPublicDataDto dto) {
+		return new String[] {
+			dto.getDesertionNo(), dto.getHappenDt(), dto.getHappenPlace(), dto.getKindFullNm(),
+			dto.getUpKindCd(), dto.getUpKindNm(), dto.getKindNm(), dto.getKindCd(), dto.getColorCd(),
+			dto.getAge(), dto.getWeight(), dto.getNoticeNo(), dto.getNoticeSdt(), dto.getNoticeEdt(),
+			dto.getPopfile1(), dto.getPopfile2(), dto.getPopfile3(), dto.getProcessState(), dto.getSexCd(),
+			dto.getNeuterYn(), dto.getSpecialMark(), dto.getCareNm(), dto.getCareTel(), dto.getCareAddr(),
+			dto.getCareRegNo(), dto.getOrgNm()
+		};
+	}
+}
@@ -6,15 +6,17 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.common.concurrent.RateLimiter;
+import tetoandeggens.seeyouagainbatch.common.jdbc.BulkInsertStatement;
+import tetoandeggens.seeyouagainbatch.common.jdbc.MultiRowBulkInserter;
 import tetoandeggens.seeyouagainbatch.constant.AnimalLocationEntityField;
 import tetoandeggens.seeyouagainbatch.domain.AnimalLocation;
 import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataDto;
@@ -25,21 +27,41 @@ import tetoandeggens.seeyouagainbatch.job.animaldataload.repository.AnimalLocati
 @Service
 public class AnimalLocationService {
 
+	private static final BulkInsertStatement INSERT_STATEMENT = BulkInsertStatement.builder()
+		.table("animal_location")
+		.columns(List.of(
+			AnimalLocationEntityField.NAME.getColumnName(),
+			AnimalLocationEntityField.ADDRESS.getColumnName(),
+			AnimalLocationEntityField.CENTER_NO.getColumnName(),
+			AnimalLocationEntityField.COORDINATES.getColumnName(),
+			AnimalLocationEntityField.CREATED_AT.getColumnName(),
+			AnimalLocationEntityField.UPDATED_AT.getColumnName()))
+		.rowTemplate("(?, ?, ?, ST_GeomFromText(?, 4326), NOW(), NOW())")
+		.build();
+
 	private final AnimalLocationRepository animalLocationRepository;
 	private final KakaoMapService kakaoMapService;
-	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final MultiRowBulkInserter bulkInserter;
+	private final Executor geocodeExecutor;
+	private final RateLimiter kakaoMapRateLimiter;
+	private final TransactionOperations businessTransactionTemplate;
 
 	public AnimalLocationService(
 		AnimalLocationRepository animalLocationRepository,
 		KakaoMapService kakaoMapService,
-		@Qualifier("businessNamedParameterJdbcTemplate") NamedParameterJdbcTemplate namedParameterJdbcTemplate
+		@Qualifier("businessBulkInserter") MultiRowBulkInserter bulkInserter,
+		@Qualifier("geocodeExecutorService") Executor geocodeExecutor,
+		@Qualifier("kakaoMapRateLimiter") RateLimiter kakaoMapRateLimiter,
+		@Qualifier("businessTransactionTemplate") TransactionOperations businessTransactionTemplate
 	) {
 		this.animalLocationRepository = animalLocationRepository;
 		this.kakaoMapService = kakaoMapService;
-		this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+		this.bulkInserter = bulkInserter;
+		this.geocodeExecutor = geocodeExecutor;
+		this.kakaoMapRateLimiter = kakaoMapRateLimiter;
+		this.businessTransactionTemplate = businessTransactionTemplate;
 	}
 
-	@Transactional
 	public Map<String, Long> processAnimalLocations(List<AnimalPublicDataDto> publicDataList) {
 		Set<String> uniqueCareRegNos = new HashSet<>();
 		for (AnimalPublicDataDto dto : publicDataList) {
@@ -67,32 +89,19 @@ public class AnimalLocationService {
 
 		if (!newCareRegNos.isEmpty()) {
 			log.info("{}개의 새로운 보호센터 위치 생성 중", newCareRegNos.size());
-			List<AnimalLocation> newAnimalLocations = new ArrayList<>();
+			List<AnimalLocation> newAnimalLocations = geocodeNewLocations(publicDataList, newCareRegNos);
 
-			for (String newCareRegNo : newCareRegNos) {
-				AnimalPublicDataDto publicData = findDtoByCareRegNo(publicDataList, newCareRegNo);
+			List<AnimalLocation> savedAnimalLocations = businessTransactionTemplate.execute(status -> {
+				bulkInsertAnimalLocations(newAnimalLocations);
 
-				if (publicData != null && publicData.getCareAddr() != null && !publicData.getCareAddr().isBlank()) {
-					GeoCoordinateDto coordinate = kakaoMapService.searchCoordinates(publicData.getCareAddr());
-					AnimalLocation animalLocation = AnimalLocation.builder()
-						.name(publicData.getCareNm())
-						.address(publicData.getCareAddr())
-						.centerNo(newCareRegNo)
-						.latitude(coordinate.getLatitude())
-						.longitude(coordinate.getLongitude())
-						.build();
-					newAnimalLocations.add(animalLocation);
+				Set<String> insertedCenterNos = new HashSet<>();
+				for (AnimalLocation location : newAnimalLocations) {
+					insertedCenterNos.add(location.getCenterNo());
 				}
-			}
-
-			bulkInsertAnimalLocations(newAnimalLocations);
 
-			Set<String> insertedCenterNos = new HashSet<>();
-			for (AnimalLocation location : newAnimalLocations) {
-				insertedCenterNos.add(location.getCenterNo());
-			}
+				return animalLocationRepository.findByCenterNoIn(insertedCenterNos);
+			});
 
-			List<AnimalLocation> savedAnimalLocations = animalLocationRepository.findByCenterNoIn(insertedCenterNos);
 			for (AnimalLocation loc : savedAnimalLocations) {
 				animalLocationIdMap.put(loc.getCenterNo(), loc.getId());
 			}
@@ -103,26 +112,46 @@ public class AnimalLocationService {
 		return animalLocationIdMap;
 	}
 
-	private void bulkInsertAnimalLocations(List<AnimalLocation> animalLocations) {
-		String sql =
-			"INSERT INTO animal_location (name, address, center_no, coordinates, created_at, updated_at) " +
-				"VALUES (:name, :address, :center_no, ST_GeomFromText(:coordinates, 4326), NOW(), NOW())";
-
-		SqlParameterSource[] batchParams = new SqlParameterSource[animalLocations.size()];
-		for (int i = 0; i < animalLocations.size(); i++) {
-			AnimalLocation location = animalLocations.get(i);
-			String wkt = String.format("POINT(%f %f)",
-				location.getCoordinates().getY(),
-				location.getCoordinates().getX());
+	private List<AnimalLocation> geocodeNewLocations(List<AnimalPublicDataDto> publicDataList,
+		Set<String> newCareRegNos) {
+		List<CompletableFuture<AnimalLocation>> futures = new ArrayList<>();
+
+		for (String newCareRegNo : newCareRegNos) {
+			AnimalPublicDataDto publicData = findDtoByCareRegNo(publicDataList, newCareRegNo);
 
-			batchParams[i] = new MapSqlParameterSource()
-				.addValue(AnimalLocationEntityField.NAME.getColumnName(), location.getName())
-				.addValue(AnimalLocationEntityField.ADDRESS.getColumnName(), location.getAddress())
-				.addValue(AnimalLocationEntityField.CENTER_NO.getColumnName(), location.getCenterNo())
-				.addValue(AnimalLocationEntityField.COORDINATES.getColumnName(), wkt);
+			if (publicData != null && publicData.getCareAddr() != null && !publicData.getCareAddr().isBlank()) {
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					kakaoMapRateLimiter.acquire();
+					GeoCoordinateDto coordinate = kakaoMapService.searchCoordinates(publicData.getCareAddr());
+					return AnimalLocation.builder()
+						.name(publicData.getCareNm())
+						.address(publicData.getCareAddr())
+						.centerNo(newCareRegNo)
+						.latitude(coordinate.getLatitude())
+						.longitude(coordinate.getLongitude())
+						.build();
+				}, geocodeExecutor));
+			}
 		}
 
-		namedParameterJdbcTemplate.batchUpdate(sql, batchParams);
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+		List<AnimalLocation> newAnimalLocations = new ArrayList<>(futures.size());
+		for (CompletableFuture<AnimalLocation> future : futures) {
+			newAnimalLocations.add(future.join());
+		}
+		return newAnimalLocations;
+	}
+
+	private void bulkInsertAnimalLocations(List<AnimalLocation> animalLocations) {
+		bulkInserter.insert(INSERT_STATEMENT, animalLocations, (location, values, offset) -> {
+			values[offset] = location.getName();
+			values[offset + 1] = location.getAddress();
+			values[offset + 2] = location.getCenterNo();
+			values[offset + 3] = String.format("POINT(%f %f)",
+				location.getCoordinates().getY(),
+				location.getCoordinates().getX());
+		});
 	}
 
 	private AnimalPublicDataDto findDtoByCareRegNo(List<AnimalPublicDataDto> dtoList,
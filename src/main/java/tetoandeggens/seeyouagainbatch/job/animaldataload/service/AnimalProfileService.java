@@ -3,14 +3,13 @@ package tetoandeggens.seeyouagainbatch.job.animaldataload.service;
 import java.util.List;
 import java.util.Map;
 
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.common.jdbc.BulkInsertStatement;
+import tetoandeggens.seeyouagainbatch.common.jdbc.MultiRowBulkInserter;
 import tetoandeggens.seeyouagainbatch.constant.AnimalProfileEntityField;
 import tetoandeggens.seeyouagainbatch.domain.AnimalProfile;
 import tetoandeggens.seeyouagainbatch.job.animaldataload.converter.AnimalConverter;
@@ -21,7 +20,19 @@ import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataDto
 @RequiredArgsConstructor
 public class AnimalProfileService {
 
-	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private static final BulkInsertStatement INSERT_STATEMENT = BulkInsertStatement.builder()
+		.table("animal_profile")
+		.columns(List.of(
+			AnimalProfileEntityField.PROFILE.getColumnName(),
+			AnimalProfileEntityField.HAPPEN_DATE.getColumnName(),
+			AnimalProfileEntityField.ANIMAL_ID.getColumnName(),
+			AnimalProfileEntityField.CREATED_AT.getColumnName(),
+			AnimalProfileEntityField.UPDATED_AT.getColumnName()))
+		.rowTemplate("(?, ?, ?, NOW(), NOW())")
+		.onDuplicateKeyUpdate("animal_profile_id = animal_profile_id")
+		.build();
+
+	private final MultiRowBulkInserter bulkInserter;
 	private final AnimalConverter animalConverter;
 
 	@Transactional
@@ -39,19 +50,11 @@ public class AnimalProfileService {
 			return;
 		}
 
-		String insertSql = "INSERT INTO animal_profile (profile, happen_date, animal_id, created_at, updated_at) " +
-			"VALUES (:profile, :happen_date, :animal_id, NOW(), NOW())";
-
-		SqlParameterSource[] batchParams = new SqlParameterSource[profiles.size()];
-		for (int i = 0; i < profiles.size(); i++) {
-			AnimalProfile profile = profiles.get(i);
-			batchParams[i] = new MapSqlParameterSource()
-				.addValue(AnimalProfileEntityField.PROFILE.getColumnName(), profile.getProfile())
-				.addValue(AnimalProfileEntityField.HAPPEN_DATE.getColumnName(), profile.getHappenDate())
-				.addValue(AnimalProfileEntityField.ANIMAL_ID.getColumnName(), profile.getAnimal().getId());
-		}
-
-		namedParameterJdbcTemplate.batchUpdate(insertSql, batchParams);
+		bulkInserter.insert(INSERT_STATEMENT, profiles, (profile, values, offset) -> {
+			values[offset] = profile.getProfile();
+			values[offset + 1] = profile.getHappenDate();
+			values[offset + 2] = profile.getAnimal().getId();
+		});
 		log.info("{}개의 프로필 이미지를 Bulk Insert 완료", profiles.size());
 	}
 }
\ No newline at end of file
@@ -1,19 +1,28 @@
 package tetoandeggens.seeyouagainbatch.job.animaldataload.service;
 
+import java.sql.DatabaseMetaData;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
+import javax.sql.DataSource;
+
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import tetoandeggens.seeyouagainbatch.constant.AnimalEntityField;
+import tetoandeggens.seeyouagainbatch.common.jdbc.BulkInsertStatement;
+import tetoandeggens.seeyouagainbatch.common.jdbc.MultiRowBulkInserter;
 import tetoandeggens.seeyouagainbatch.domain.Animal;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.binder.AnimalRowBinder;
 import tetoandeggens.seeyouagainbatch.job.animaldataload.converter.AnimalConverter;
 import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataDto;
 
@@ -22,9 +31,27 @@ import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataDto
 @RequiredArgsConstructor
 public class AnimalService {
 
+	private static final String ANIMAL_ID = "animal_id";
+
+	// final_updated_at은 조건 판단에 쓰이므로 반드시 마지막에 갱신해야 한다
+	private static final String CHANGED_CONDITION =
+		"(final_updated_at IS NULL OR VALUES(final_updated_at) > final_updated_at)";
+
+	private static final List<String> UPSERT_COLUMNS = List.of(
+		"animal_type", "happen_date", "happen_place", "city", "town", "species", "color", "birth", "weight",
+		"notice_no", "notice_start_date", "notice_end_date", "process_state",
+		"sex", "neutered_state", "special_mark", "center_phone", "animal_location_id", "breed_type_id");
+
+	private static final BulkInsertStatement MULTI_ROW_UPSERT_STATEMENT = upsertStatement(false);
+
+	private static final String UPSERT_SQL_RETURNING_ID = upsertStatement(true).toSql(1);
+
 	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final MultiRowBulkInserter bulkInserter;
 	private final AnimalConverter animalConverter;
 
+	private volatile Boolean mySql;
+
 	@Transactional
 	public Map<String, Long> processAnimals(List<AnimalPublicDataDto> publicDataList,
 		Map<String, Long> animalLocationIdMap,
@@ -32,36 +59,137 @@ public class AnimalService {
 		List<Animal> animals = animalConverter.convertToEntities(
 			publicDataList, animalLocationIdMap, breedTypeIdMap);
 
-		bulkInsert(animals);
-
-		return getAnimalIdMap(animals);
+		return upsert(animals);
 	}
 
-	private void bulkInsert(List<Animal> animals) {
+	private Map<String, Long> upsert(List<Animal> animals) {
 		if (animals.isEmpty()) {
 			log.info("저장할 동물 데이터가 없습니다");
-			return;
+			return Map.of();
+		}
+
+		// 행별 생성 키가 필요하므로 MySQL에서는 multi-row INSERT 대신 배치로 실행한다
+		if (!isMySql()) {
+			bulkInserter.insert(MULTI_ROW_UPSERT_STATEMENT, animals, AnimalRowBinder::bind);
+			log.info("{}마리의 동물 정보를 Bulk Upsert 완료", animals.size());
+			return getAnimalIdMap(animals);
+		}
+
+		GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+		int[] updateCounts = namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(
+			con -> con.prepareStatement(UPSERT_SQL_RETURNING_ID, new String[] {ANIMAL_ID}),
+			AnimalRowBinder.batchSetter(animals),
+			keyHolder);
+
+		Map<String, Long> animalIdMap = new HashMap<>();
+		List<Animal> unresolved = resolveGeneratedIds(animals, updateCounts, keyHolder.getKeyList(), animalIdMap);
+		if (!unresolved.isEmpty()) {
+			animalIdMap.putAll(getAnimalIdMap(unresolved));
 		}
 
-		String sql = "INSERT INTO animal (" +
-			"animal_type, desertion_no, happen_date, happen_place, city, town, species, color, birth, weight, " +
-			"notice_no, notice_start_date, notice_end_date, process_state, " +
-			"sex, neutered_state, special_mark, center_phone, final_updated_at, " +
-			"animal_location_id, breed_type_id, is_deleted, created_at, updated_at) " +
-			"VALUES (" +
-			":animal_type, :desertion_no, :happen_date, :happen_place, :city, :town, :species, :color, :birth, :weight, " +
-			":notice_no, :notice_start_date, :notice_end_date, :process_state, " +
-			":sex, :neutered_state, :special_mark, :center_phone, :final_updated_at, " +
-			":animal_location_id, :breed_type_id, false, NOW(), NOW())";
+		log.info("{}마리의 동물 정보를 Bulk Upsert 완료 (추가 조회 {}건)", animals.size(), unresolved.size());
+		return animalIdMap;
+	}
 
+	// MySQL은 행마다 삽입 1, 변경 2, 동일 값 1(useAffectedRows=true면 0)을 반환하고
+	// 그 수만큼 연속된 생성 키를 돌려주므로, 행별 첫 번째 키가 해당 동물의 animal_id다.
+	private List<Animal> resolveGeneratedIds(List<Animal> animals, int[] updateCounts,
+		List<Map<String, Object>> keys, Map<String, Long> animalIdMap) {
+		if (updateCounts.length != animals.size()) {
+			return animals;
+		}
 
-		SqlParameterSource[] batchParams = new SqlParameterSource[animals.size()];
+		List<Animal> unresolved = new ArrayList<>();
+		int keyIndex = 0;
 		for (int i = 0; i < animals.size(); i++) {
-			batchParams[i] = createParameterSource(animals.get(i));
+			int updateCount = updateCounts[i];
+			if (updateCount < 0) {
+				animalIdMap.clear();
+				return animals;
+			}
+
+			if (updateCount == 0) {
+				unresolved.add(animals.get(i));
+				continue;
+			}
+
+			if (keyIndex >= keys.size()) {
+				animalIdMap.clear();
+				return animals;
+			}
+
+			Object key = keys.get(keyIndex).values().stream().findFirst().orElse(null);
+			if (!(key instanceof Number number)) {
+				animalIdMap.clear();
+				return animals;
+			}
+
+			animalIdMap.put(animals.get(i).getDesertionNo(), number.longValue());
+			keyIndex += updateCount;
 		}
 
-		namedParameterJdbcTemplate.batchUpdate(sql, batchParams);
-		log.info("{}마리의 동물 정보를 Bulk Insert 완료", animals.size());
+		if (keyIndex != keys.size()) {
+			animalIdMap.clear();
+			return animals;
+		}
+
+		return unresolved;
+	}
+
+	private static BulkInsertStatement upsertStatement(boolean returnExistingId) {
+		List<String> columns = new ArrayList<>(AnimalRowBinder.columnNames());
+		columns.addAll(List.of("is_deleted", "created_at", "updated_at"));
+
+		return BulkInsertStatement.builder()
+			.table("animal")
+			.columns(columns)
+			.rowTemplate("(" + "?, ".repeat(AnimalRowBinder.columnCount()) + "false, NOW(), NOW())")
+			.onDuplicateKeyUpdate(buildUpdateClause(returnExistingId))
+			.build();
+	}
+
+	private static String buildUpdateClause(boolean returnExistingId) {
+		StringBuilder clause = new StringBuilder();
+
+		if (returnExistingId) {
+			clause.append("animal_id = LAST_INSERT_ID(animal_id), ");
+		}
+
+		for (String column : UPSERT_COLUMNS) {
+			clause.append(column).append(" = CASE WHEN ").append(CHANGED_CONDITION)
+				.append(" THEN VALUES(").append(column).append(") ELSE ").append(column).append(" END, ");
+		}
+
+		clause.append("updated_at = CASE WHEN ").append(CHANGED_CONDITION).append(" THEN NOW() ELSE updated_at END, ");
+		clause.append("final_updated_at = CASE WHEN ").append(CHANGED_CONDITION)
+			.append(" THEN VALUES(final_updated_at) ELSE final_updated_at END");
+
+		return clause.toString();
+	}
+
+	private boolean isMySql() {
+		Boolean cached = mySql;
+		if (cached == null) {
+			cached = detectMySql();
+			mySql = cached;
+		}
+		return cached;
+	}
+
+	private boolean detectMySql() {
+		DataSource dataSource = namedParameterJdbcTemplate.getJdbcTemplate().getDataSource();
+		if (dataSource == null) {
+			return false;
+		}
+
+		try {
+			String productName = JdbcUtils.extractDatabaseMetaData(
+				dataSource, DatabaseMetaData::getDatabaseProductName);
+			return productName != null && productName.toLowerCase(Locale.ROOT).contains("mysql");
+		} catch (MetaDataAccessException e) {
+			log.warn("데이터베이스 종류 확인 실패, 생성 키 없이 Upsert 수행: {}", e.getMessage());
+			return false;
+		}
 	}
 
 	private Map<String, Long> getAnimalIdMap(List<Animal> animals) {
@@ -85,7 +213,7 @@ public class AnimalService {
 			selectSql,
 			selectParams,
 			rs -> {
-				Map<String, Long> resultMap = new java.util.HashMap<>();
+				Map<String, Long> resultMap = new HashMap<>();
 				while (rs.next()) {
 					resultMap.put(rs.getString("desertion_no"), rs.getLong("animal_id"));
 				}
@@ -93,29 +221,4 @@ public class AnimalService {
 			}
 		);
 	}
-
-	private MapSqlParameterSource createParameterSource(Animal animal) {
-		return new MapSqlParameterSource()
-			.addValue(AnimalEntityField.ANIMAL_TYPE.getColumnName(), animal.getAnimalType().name())
-			.addValue(AnimalEntityField.DESERTION_NO.getColumnName(), animal.getDesertionNo())
-			.addValue(AnimalEntityField.HAPPEN_DATE.getColumnName(), animal.getHappenDate())
-			.addValue(AnimalEntityField.HAPPEN_PLACE.getColumnName(), animal.getHappenPlace())
-			.addValue(AnimalEntityField.CITY.getColumnName(), animal.getCity())
-			.addValue(AnimalEntityField.TOWN.getColumnName(), animal.getTown())
-			.addValue(AnimalEntityField.SPECIES.getColumnName(), animal.getSpecies().name())
-			.addValue(AnimalEntityField.COLOR.getColumnName(), animal.getColor())
-			.addValue(AnimalEntityField.BIRTH.getColumnName(), animal.getBirth())
-			.addValue(AnimalEntityField.WEIGHT.getColumnName(), animal.getWeight())
-			.addValue(AnimalEntityField.NOTICE_NO.getColumnName(), animal.getNoticeNo())
-			.addValue(AnimalEntityField.NOTICE_START_DATE.getColumnName(), animal.getNoticeStartDate())
-			.addValue(AnimalEntityField.NOTICE_END_DATE.getColumnName(), animal.getNoticeEndDate())
-			.addValue(AnimalEntityField.PROCESS_STATE.getColumnName(), animal.getProcessState())
-			.addValue(AnimalEntityField.SEX.getColumnName(), animal.getSex().name())
-			.addValue(AnimalEntityField.NEUTERED_STATE.getColumnName(), animal.getNeuteredState().name())
-			.addValue(AnimalEntityField.SPECIAL_MARK.getColumnName(), animal.getSpecialMark())
-			.addValue(AnimalEntityField.CENTER_PHONE.getColumnName(), animal.getCenterPhone())
-			.addValue(AnimalEntityField.FINAL_UPDATED_AT.getColumnName(), animal.getFinalUpdatedAt())
-			.addValue(AnimalEntityField.ANIMAL_LOCATION_ID.getColumnName(), animal.getAnimalLocation().getId())
-			.addValue(AnimalEntityField.BREED_TYPE_ID.getColumnName(), animal.getBreedType().getId());
-	}
 }
\ No newline at end of file
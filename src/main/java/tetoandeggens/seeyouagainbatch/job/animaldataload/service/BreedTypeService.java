@@ -8,14 +8,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.common.jdbc.BulkInsertStatement;
+import tetoandeggens.seeyouagainbatch.common.jdbc.MultiRowBulkInserter;
 import tetoandeggens.seeyouagainbatch.constant.BreedTypeEntityField;
 import tetoandeggens.seeyouagainbatch.domain.BreedType;
 import tetoandeggens.seeyouagainbatch.domain.Species;
@@ -27,8 +26,19 @@ import tetoandeggens.seeyouagainbatch.job.animaldataload.repository.BreedTypeRep
 @RequiredArgsConstructor
 public class BreedTypeService {
 
+	private static final BulkInsertStatement INSERT_STATEMENT = BulkInsertStatement.builder()
+		.table("breed_type")
+		.columns(List.of(
+			BreedTypeEntityField.CODE.getColumnName(),
+			BreedTypeEntityField.NAME.getColumnName(),
+			BreedTypeEntityField.TYPE.getColumnName(),
+			BreedTypeEntityField.CREATED_AT.getColumnName(),
+			BreedTypeEntityField.UPDATED_AT.getColumnName()))
+		.rowTemplate("(?, ?, ?, NOW(), NOW())")
+		.build();
+
 	private final BreedTypeRepository breedTypeRepository;
-	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final MultiRowBulkInserter bulkInserter;
 
 	@Transactional
 	public Map<String, Long> processBreedTypes(List<AnimalPublicDataDto> publicDataList) {
@@ -91,18 +101,10 @@ public class BreedTypeService {
 	}
 
 	private void bulkInsertBreedTypes(List<BreedType> breedTypes) {
-		String sql = "INSERT INTO breed_type (code, name, type, created_at, updated_at) " +
-			"VALUES (:code, :name, :type, NOW(), NOW())";
-
-		SqlParameterSource[] batchParams = new SqlParameterSource[breedTypes.size()];
-		for (int i = 0; i < breedTypes.size(); i++) {
-			BreedType breedType = breedTypes.get(i);
-			batchParams[i] = new MapSqlParameterSource()
-				.addValue(BreedTypeEntityField.CODE.getColumnName(), breedType.getCode())
-				.addValue(BreedTypeEntityField.NAME.getColumnName(), breedType.getName())
-				.addValue(BreedTypeEntityField.TYPE.getColumnName(), breedType.getType().name());
-		}
-
-		namedParameterJdbcTemplate.batchUpdate(sql, batchParams);
+		bulkInserter.insert(INSERT_STATEMENT, breedTypes, (breedType, values, offset) -> {
+			values[offset] = breedType.getCode();
+			values[offset + 1] = breedType.getName();
+			values[offset + 2] = breedType.getType().name();
+		});
 	}
 }
\ No newline at end of file
@@ -0,0 +1,170 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.constant.GeocodeCacheEntityField;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.GeoCoordinateDto;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.GeocodeCacheEntry;
+
+@Slf4j
+@Service
+public class GeocodeCacheService {
+
+	private static final String PARAM_NOW = "now";
+	private static final String PARAM_LIMIT = "limit";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final int maxSize;
+	private final long ttlDays;
+	private final long negativeTtlDays;
+	private final Map<String, GeocodeCacheEntry> localCache;
+
+	public GeocodeCacheService(
+		@Qualifier("businessNamedParameterJdbcTemplate") NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+		@Value("${batch.geocode-cache.max-size:10000}") int maxSize,
+		@Value("${batch.geocode-cache.ttl-days:180}") long ttlDays,
+		@Value("${batch.geocode-cache.negative-ttl-days:7}") long negativeTtlDays
+	) {
+		this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+		this.maxSize = maxSize;
+		this.ttlDays = ttlDays;
+		this.negativeTtlDays = negativeTtlDays;
+		this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, GeocodeCacheEntry> eldest) {
+				return size() > GeocodeCacheService.this.maxSize;
+			}
+		});
+	}
+
+	@EventListener(ApplicationStartedEvent.class)
+	public void warmUp() {
+		String sql =
+			"SELECT address, ST_Latitude(coordinates) AS latitude, ST_Longitude(coordinates) AS longitude " +
+				"FROM animal_location " +
+				"WHERE address IS NOT NULL AND address <> '' " +
+				"ORDER BY animal_location_id DESC LIMIT :limit";
+
+		try {
+			LocalDateTime expiresAt = LocalDateTime.now().plusDays(ttlDays);
+			List<Map<String, Object>> rows = namedParameterJdbcTemplate.queryForList(
+				sql, new MapSqlParameterSource(PARAM_LIMIT, maxSize));
+
+			int warmed = 0;
+			for (Map<String, Object> row : rows) {
+				double latitude = ((Number)row.get("latitude")).doubleValue();
+				double longitude = ((Number)row.get("longitude")).doubleValue();
+				if (latitude == 0.0 && longitude == 0.0) {
+					continue;
+				}
+
+				localCache.putIfAbsent(normalize((String)row.get("address")),
+					new GeocodeCacheEntry(latitude, longitude, true, expiresAt));
+				warmed++;
+			}
+
+			log.info("지오코딩 캐시 사전 적재 완료 - {}건", warmed);
+		} catch (DataAccessException e) {
+			log.warn("지오코딩 캐시 사전 적재 실패: {}", e.getMessage());
+		}
+	}
+
+	public Optional<GeocodeCacheEntry> find(String address) {
+		String addressKey = normalize(address);
+		LocalDateTime now = LocalDateTime.now();
+
+		GeocodeCacheEntry cached = localCache.get(addressKey);
+		if (cached != null) {
+			if (!cached.isExpired(now)) {
+				return Optional.of(cached);
+			}
+			localCache.remove(addressKey);
+		}
+
+		Optional<GeocodeCacheEntry> stored = findStoredEntry(addressKey, now);
+		stored.ifPresent(entry -> localCache.put(addressKey, entry));
+		return stored;
+	}
+
+	public void putResolved(String address, GeoCoordinateDto coordinate) {
+		put(address, new GeocodeCacheEntry(coordinate.getLatitude(), coordinate.getLongitude(), true,
+			LocalDateTime.now().plusDays(ttlDays)));
+	}
+
+	public void putUnresolved(String address) {
+		put(address, new GeocodeCacheEntry(null, null, false, LocalDateTime.now().plusDays(negativeTtlDays)));
+	}
+
+	public void clearLocalCache() {
+		localCache.clear();
+	}
+
+	private void put(String address, GeocodeCacheEntry entry) {
+		String addressKey = normalize(address);
+		localCache.put(addressKey, entry);
+
+		String sql =
+			"INSERT INTO geocode_cache (address_key, latitude, longitude, resolved, expires_at, created_at, updated_at) " +
+				"VALUES (:address_key, :latitude, :longitude, :resolved, :expires_at, NOW(), NOW()) " +
+				"ON DUPLICATE KEY UPDATE latitude = VALUES(latitude), longitude = VALUES(longitude), " +
+				"resolved = VALUES(resolved), expires_at = VALUES(expires_at), updated_at = NOW()";
+
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue(GeocodeCacheEntityField.ADDRESS_KEY.getColumnName(), addressKey)
+			.addValue(GeocodeCacheEntityField.LATITUDE.getColumnName(), entry.getLatitude())
+			.addValue(GeocodeCacheEntityField.LONGITUDE.getColumnName(), entry.getLongitude())
+			.addValue(GeocodeCacheEntityField.RESOLVED.getColumnName(), entry.isResolved())
+			.addValue(GeocodeCacheEntityField.EXPIRES_AT.getColumnName(), Timestamp.valueOf(entry.getExpiresAt()));
+
+		try {
+			namedParameterJdbcTemplate.update(sql, params);
+		} catch (DataAccessException e) {
+			log.warn("지오코딩 캐시 저장 실패: {}, {}", addressKey, e.getMessage());
+		}
+	}
+
+	private Optional<GeocodeCacheEntry> findStoredEntry(String addressKey, LocalDateTime now) {
+		String sql =
+			"SELECT latitude, longitude, resolved, expires_at FROM geocode_cache " +
+				"WHERE address_key = :address_key AND expires_at > :now";
+
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue(GeocodeCacheEntityField.ADDRESS_KEY.getColumnName(), addressKey)
+			.addValue(PARAM_NOW, Timestamp.valueOf(now));
+
+		try {
+			List<GeocodeCacheEntry> entries = namedParameterJdbcTemplate.query(sql, params, (rs, rowNum) ->
+				new GeocodeCacheEntry(
+					rs.getObject(GeocodeCacheEntityField.LATITUDE.getColumnName(), Double.class),
+					rs.getObject(GeocodeCacheEntityField.LONGITUDE.getColumnName(), Double.class),
+					rs.getBoolean(GeocodeCacheEntityField.RESOLVED.getColumnName()),
+					rs.getTimestamp(GeocodeCacheEntityField.EXPIRES_AT.getColumnName()).toLocalDateTime()
+				));
+			return entries.stream().findFirst();
+		} catch (DataAccessException e) {
+			log.warn("지오코딩 캐시 조회 실패: {}, {}", addressKey, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	static String normalize(String address) {
+		return address.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+}
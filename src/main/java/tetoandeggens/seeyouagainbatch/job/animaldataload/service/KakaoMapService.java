@@ -6,20 +6,30 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import tetoandeggens.seeyouagainbatch.job.animaldataload.client.KakaoMapApiClient;
 import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.GeoCoordinateDto;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.GeocodeCacheEntry;
 import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.KakaoMapDocumentDto;
 import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.KakaoMapResponseWrapper;
 
+import java.util.Optional;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class KakaoMapService {
 
     private final KakaoMapApiClient kakaoMapApiClient;
+    private final GeocodeCacheService geocodeCacheService;
 
     @Value("${kakao.api.key}")
     private String kakaoApiKey;
 
     public GeoCoordinateDto searchCoordinates(String address) {
+        Optional<GeocodeCacheEntry> cached = geocodeCacheService.find(address);
+        if (cached.isPresent()) {
+            log.debug("지오코딩 캐시 적중: {}, resolved: {}", address, cached.get().isResolved());
+            return cached.get().toCoordinate();
+        }
+
         try {
             String authorization = "KakaoAK " + kakaoApiKey;
             KakaoMapResponseWrapper response = kakaoMapApiClient.searchCoordinates(authorization, address);
@@ -30,10 +40,13 @@ public class KakaoMapService {
                 Double longitude = Double.parseDouble(document.getLongitude());
 
                 log.info("주소 좌표 변환 성공: {} -> 위도: {}, 경도: {}", address, latitude, longitude);
-                return new GeoCoordinateDto(latitude, longitude);
+                GeoCoordinateDto coordinate = new GeoCoordinateDto(latitude, longitude);
+                geocodeCacheService.putResolved(address, coordinate);
+                return coordinate;
             }
 
             log.warn("주소에 대한 좌표를 찾을 수 없음: {}", address);
+            geocodeCacheService.putUnresolved(address);
             return new GeoCoordinateDto(0.0, 0.0);
         } catch (Exception e) {
             log.error("주소 좌표 변환 중 오류 발생: {}", address, e);
@@ -0,0 +1,118 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.writer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalChangeSet;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataDto;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.service.AnimalChangeIndexService;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.service.AnimalLocationService;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.service.AnimalProfileService;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.service.AnimalService;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.service.BreedTypeService;
+
+// 스텝마다 새로 만들어 건수를 해당 StepExecution에만 쌓는다
+@Slf4j
+@StepScope
+@Component
+public class AnimalDataLoadWriter implements ItemWriter<AnimalPublicDataDto>, StepExecutionListener {
+
+	public static final String INSERT_COUNT_KEY = "animalInsertCount";
+	public static final String UPDATE_COUNT_KEY = "animalUpdateCount";
+	public static final String UNCHANGED_COUNT_KEY = "animalUnchangedCount";
+
+	private final AnimalChangeIndexService animalChangeIndexService;
+	private final AnimalLocationService animalLocationService;
+	private final BreedTypeService breedTypeService;
+	private final AnimalService animalService;
+	private final AnimalProfileService animalProfileService;
+	private final TransactionOperations businessTransactionTemplate;
+	private final StepExecution stepExecution;
+
+	public AnimalDataLoadWriter(
+		AnimalChangeIndexService animalChangeIndexService,
+		AnimalLocationService animalLocationService,
+		BreedTypeService breedTypeService,
+		AnimalService animalService,
+		AnimalProfileService animalProfileService,
+		@Qualifier("businessTransactionTemplate") TransactionOperations businessTransactionTemplate,
+		@Value("#{stepExecution}") StepExecution stepExecution
+	) {
+		this.animalChangeIndexService = animalChangeIndexService;
+		this.animalLocationService = animalLocationService;
+		this.breedTypeService = breedTypeService;
+		this.animalService = animalService;
+		this.animalProfileService = animalProfileService;
+		this.businessTransactionTemplate = businessTransactionTemplate;
+		this.stepExecution = stepExecution;
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		log.info("동물 데이터 변경 감지 결과 - 신규: {}건, 변경: {}건, 변경 없음: {}건",
+			executionContext.getLong(INSERT_COUNT_KEY, 0L),
+			executionContext.getLong(UPDATE_COUNT_KEY, 0L),
+			executionContext.getLong(UNCHANGED_COUNT_KEY, 0L));
+		return stepExecution.getExitStatus();
+	}
+
+	@Override
+	public void write(Chunk<? extends AnimalPublicDataDto> chunk) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+
+		AnimalChangeSet changeSet = animalChangeIndexService.classify(new ArrayList<>(chunk.getItems()));
+		recordChangeCounts(changeSet);
+
+		if (!changeSet.hasChanges()) {
+			log.info("변경된 동물 데이터가 없어 청크 저장 생략 - {}건", chunk.size());
+			return;
+		}
+
+		List<AnimalPublicDataDto> publicDataList = changeSet.getChangedItems();
+		log.info("동물 데이터 청크 저장 시작 - 신규: {}건, 변경: {}건, 변경 없음: {}건",
+			changeSet.getInserts().size(), changeSet.getUpdates().size(), changeSet.getUnchangedCount());
+
+		Map<String, Long> animalLocationIdMap = animalLocationService.processAnimalLocations(publicDataList);
+
+		businessTransactionTemplate.executeWithoutResult(status -> {
+			Map<String, Long> breedTypeIdMap = breedTypeService.processBreedTypes(publicDataList);
+
+			Map<String, Long> animalIdMap = animalService.processAnimals(
+				publicDataList, animalLocationIdMap, breedTypeIdMap);
+
+			animalProfileService.processAnimalProfiles(publicDataList, animalIdMap);
+
+			animalChangeIndexService.record(publicDataList);
+		});
+
+		log.info("동물 데이터 청크 저장 완료 - {}건", publicDataList.size());
+	}
+
+	private void recordChangeCounts(AnimalChangeSet changeSet) {
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		increment(executionContext, INSERT_COUNT_KEY, changeSet.getInserts().size());
+		increment(executionContext, UPDATE_COUNT_KEY, changeSet.getUpdates().size());
+		increment(executionContext, UNCHANGED_COUNT_KEY, changeSet.getUnchangedCount());
+	}
+
+	private void increment(ExecutionContext executionContext, String key, int delta) {
+		executionContext.putLong(key, executionContext.getLong(key, 0L) + delta);
+	}
+}
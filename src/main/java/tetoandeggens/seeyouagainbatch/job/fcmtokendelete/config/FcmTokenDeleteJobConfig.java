@@ -11,20 +11,24 @@ import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
-import tetoandeggens.seeyouagainbatch.common.reader.QuerydslNoOffsetPagingItemReader;
-import tetoandeggens.seeyouagainbatch.common.reader.QuerydslNoOffsetPagingItemReaderBuilder;
+import tetoandeggens.seeyouagainbatch.common.reader.QuerydslCursorItemReader;
+import tetoandeggens.seeyouagainbatch.common.reader.QuerydslCursorItemReaderBuilder;
 import tetoandeggens.seeyouagainbatch.common.reader.expression.Expression;
 import tetoandeggens.seeyouagainbatch.common.reader.options.QuerydslNoOffsetNumberOptions;
 import tetoandeggens.seeyouagainbatch.domain.FcmToken;
 import tetoandeggens.seeyouagainbatch.domain.QFcmToken;
+import tetoandeggens.seeyouagainbatch.job.fcmtokendelete.constant.FcmTokenDeleteMode;
 import tetoandeggens.seeyouagainbatch.job.fcmtokendelete.parameter.FcmTokenDeleteJobParameter;
+import tetoandeggens.seeyouagainbatch.job.fcmtokendelete.tasklet.FcmTokenRangeDeleteTasklet;
 import tetoandeggens.seeyouagainbatch.job.fcmtokendelete.validator.FcmTokenDeleteJobParametersValidator;
 import tetoandeggens.seeyouagainbatch.job.fcmtokendelete.writer.FcmTokenDeleteWriter;
 
@@ -53,8 +57,17 @@ public class FcmTokenDeleteJobConfig {
 	@JobScope
 	public Step fcmTokenDeleteStep(
 		@Value("#{jobParameters['tokenDeleteChunkSize'] ?: 500L}") Long tokenDeleteChunkSize,
-		QuerydslNoOffsetPagingItemReader<FcmToken> fcmTokenReader
+		@Value("#{jobParameters['deleteMode'] ?: 'chunk'}") String deleteMode,
+		QuerydslCursorItemReader<FcmToken> fcmTokenReader,
+		FcmTokenRangeDeleteTasklet fcmTokenRangeDeleteTasklet
 	) {
+		// range 모드는 엔티티를 읽지 않고 ID 구간 단위 DELETE로만 지운다
+		if (FcmTokenDeleteMode.from(deleteMode).orElse(FcmTokenDeleteMode.CHUNK) == FcmTokenDeleteMode.RANGE) {
+			return new StepBuilder("fcmTokenDeleteStep", jobRepository)
+				.tasklet(fcmTokenRangeDeleteTasklet, businessTransactionManager)
+				.build();
+		}
+
 		return new StepBuilder("fcmTokenDeleteStep", jobRepository)
 			.<FcmToken, FcmToken>chunk(tokenDeleteChunkSize.intValue(), businessTransactionManager)
 			.reader(fcmTokenReader)
@@ -64,19 +77,17 @@ public class FcmTokenDeleteJobConfig {
 
 	@Bean
 	@StepScope
-	public QuerydslNoOffsetPagingItemReader<FcmToken> fcmTokenReader(
-		@Value("#{jobParameters['tokenDeleteChunkSize'] ?: 500L}") Long tokenDeleteChunkSize) {
+	public QuerydslCursorItemReader<FcmToken> fcmTokenReader() {
 		QFcmToken fcmToken = QFcmToken.fcmToken;
 
-		LocalDate date = LocalDate.parse(fcmTokenDeleteJobParameter.getDate(), DATE_FORMATTER);
-		LocalDateTime cutoffDate = date.minusDays(60).atStartOfDay();
+		LocalDateTime cutoffDate = getCutoffDate();
 
 		QuerydslNoOffsetNumberOptions<FcmToken, Long> options =
 			QuerydslNoOffsetNumberOptions.of(fcmToken.id, Expression.ASC);
 
-		return QuerydslNoOffsetPagingItemReaderBuilder.<FcmToken>builder()
+		return QuerydslCursorItemReaderBuilder.<FcmToken>builder()
 			.entityManagerFactory(entityManagerFactory)
-			.pageSize(tokenDeleteChunkSize.intValue())
+			.mysqlStreaming()
 			.options(options)
 			.queryFunction(queryFactory -> queryFactory
 				.selectFrom(fcmToken)
@@ -84,4 +95,20 @@ public class FcmTokenDeleteJobConfig {
 			)
 			.build();
 	}
+
+	@Bean
+	@StepScope
+	public FcmTokenRangeDeleteTasklet fcmTokenRangeDeleteTasklet(
+		@Qualifier("businessNamedParameterJdbcTemplate") NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+		@Value("#{jobParameters['rangeSize'] ?: 10000L}") Long rangeSize,
+		@Value("#{jobParameters['tokenDeleteChunkSize'] ?: 500L}") Long tokenDeleteChunkSize
+	) {
+		return new FcmTokenRangeDeleteTasklet(namedParameterJdbcTemplate, getCutoffDate(),
+			rangeSize, tokenDeleteChunkSize.intValue());
+	}
+
+	private LocalDateTime getCutoffDate() {
+		LocalDate date = LocalDate.parse(fcmTokenDeleteJobParameter.getDate(), DATE_FORMATTER);
+		return date.minusDays(60).atStartOfDay();
+	}
 }
\ No newline at end of file
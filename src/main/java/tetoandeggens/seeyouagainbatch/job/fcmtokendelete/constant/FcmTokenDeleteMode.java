@@ -0,0 +1,23 @@
+package tetoandeggens.seeyouagainbatch.job.fcmtokendelete.constant;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum FcmTokenDeleteMode {
+
+	CHUNK("chunk"),
+	RANGE("range");
+
+	private final String value;
+
+	public static Optional<FcmTokenDeleteMode> from(String value) {
+		return Arrays.stream(values())
+			.filter(mode -> mode.value.equalsIgnoreCase(value))
+			.findFirst();
+	}
+}
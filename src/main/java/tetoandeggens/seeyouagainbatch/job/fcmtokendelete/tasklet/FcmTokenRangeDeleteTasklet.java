@@ -0,0 +1,103 @@
+package tetoandeggens.seeyouagainbatch.job.fcmtokendelete.tasklet;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class FcmTokenRangeDeleteTasklet implements Tasklet {
+
+	public static final String NEXT_ID_KEY = "fcmTokenRangeDelete.nextId";
+	public static final String MAX_ID_KEY = "fcmTokenRangeDelete.maxId";
+
+	private static final String ID_RANGE_SQL =
+		"SELECT MIN(fcm_token_id) AS min_id, MAX(fcm_token_id) AS max_id " +
+			"FROM fcm_token " +
+			"WHERE last_used_at < :cutoff";
+
+	private static final String RANGE_DELETE_SQL =
+		"DELETE FROM fcm_token " +
+			"WHERE fcm_token_id BETWEEN :lo AND :hi AND last_used_at < :cutoff " +
+			"LIMIT %d";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final LocalDateTime cutoff;
+	private final long rangeSize;
+	private final int deleteLimit;
+	private final String deleteSql;
+
+	public FcmTokenRangeDeleteTasklet(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+		LocalDateTime cutoff, long rangeSize, int deleteLimit) {
+		this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+		this.cutoff = cutoff;
+		this.rangeSize = rangeSize;
+		this.deleteLimit = deleteLimit;
+		this.deleteSql = String.format(RANGE_DELETE_SQL, deleteLimit);
+	}
+
+	@Override
+	public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+		// 재시작 시 이어서 지울 수 있도록 진행 위치는 스텝 ExecutionContext에 둔다
+		ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+		if (!context.containsKey(NEXT_ID_KEY) && !initIdRange(context)) {
+			log.info("삭제 대상 FCM 토큰 없음 - 기준 시각: {}", cutoff);
+			return RepeatStatus.FINISHED;
+		}
+
+		long lo = context.getLong(NEXT_ID_KEY);
+		long maxId = context.getLong(MAX_ID_KEY);
+		if (lo > maxId) {
+			return RepeatStatus.FINISHED;
+		}
+
+		long hi = Math.min(maxId, lo + rangeSize - 1);
+		long deletedInRange = deleteRange(lo, hi);
+
+		contribution.incrementWriteCount(deletedInRange);
+		context.putLong(NEXT_ID_KEY, hi + 1);
+
+		log.info("{}개의 FCM 토큰을 DB에서 Hard Delete 완료 - ID 범위: {} ~ {}", deletedInRange, lo, hi);
+		return hi < maxId ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED;
+	}
+
+	private boolean initIdRange(ExecutionContext context) {
+		Map<String, Object> idRange = namedParameterJdbcTemplate.queryForMap(ID_RANGE_SQL,
+			new MapSqlParameterSource("cutoff", cutoff));
+
+		Number minId = (Number)idRange.get("min_id");
+		Number maxId = (Number)idRange.get("max_id");
+		if (minId == null || maxId == null) {
+			return false;
+		}
+
+		context.putLong(NEXT_ID_KEY, minId.longValue());
+		context.putLong(MAX_ID_KEY, maxId.longValue());
+		return true;
+	}
+
+	private long deleteRange(long lo, long hi) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("lo", lo)
+			.addValue("hi", hi)
+			.addValue("cutoff", cutoff);
+
+		// LIMIT만큼 지워졌다면 범위 안에 남은 행이 있을 수 있으므로 덜 지워질 때까지 반복한다
+		long total = 0;
+		int deleted;
+		do {
+			deleted = namedParameterJdbcTemplate.update(deleteSql, params);
+			total += deleted;
+		} while (deleted > 0 && deleted >= deleteLimit);
+
+		return total;
+	}
+}
@@ -7,7 +7,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum FcmTokenDeleteJobParameterKey {
 
-	DATE("date");
+	DATE("date"),
+	DELETE_MODE("deleteMode"),
+	RANGE_SIZE("rangeSize"),
+	TOKEN_DELETE_CHUNK_SIZE("tokenDeleteChunkSize");
 
 	private final String key;
 }
\ No newline at end of file
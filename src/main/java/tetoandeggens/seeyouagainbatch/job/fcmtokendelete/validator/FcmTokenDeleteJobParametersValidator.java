@@ -10,10 +10,15 @@ import org.springframework.batch.core.JobParametersValidator;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.Nullable;
+import tetoandeggens.seeyouagainbatch.job.fcmtokendelete.constant.FcmTokenDeleteMode;
 
 @Component
 public class FcmTokenDeleteJobParametersValidator implements JobParametersValidator {
 
+	private static final long MIN_RANGE_SIZE = 1L;
+	private static final long MAX_RANGE_SIZE = 1_000_000L;
+	private static final long MIN_TOKEN_DELETE_CHUNK_SIZE = 1L;
+	private static final long MAX_TOKEN_DELETE_CHUNK_SIZE = 100_000L;
 	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
 	@Override
@@ -24,6 +29,12 @@ public class FcmTokenDeleteJobParametersValidator implements JobParametersValida
 		}
 
 		validateDateParameter(parameters, FcmTokenDeleteJobParameterKey.DATE);
+		validateDeleteModeParameter(parameters, FcmTokenDeleteJobParameterKey.DELETE_MODE);
+		validateOptionalLongParameter(parameters, FcmTokenDeleteJobParameterKey.RANGE_SIZE,
+			MIN_RANGE_SIZE, MAX_RANGE_SIZE);
+		// range 모드에서는 DELETE의 LIMIT으로도 쓰이므로 0 이하면 삭제 반복이 끝나지 않거나 SQL이 깨진다
+		validateOptionalLongParameter(parameters, FcmTokenDeleteJobParameterKey.TOKEN_DELETE_CHUNK_SIZE,
+			MIN_TOKEN_DELETE_CHUNK_SIZE, MAX_TOKEN_DELETE_CHUNK_SIZE);
 	}
 
 	private LocalDate validateDateParameter(JobParameters parameters, FcmTokenDeleteJobParameterKey paramKey)
@@ -44,4 +55,34 @@ public class FcmTokenDeleteJobParametersValidator implements JobParametersValida
 			);
 		}
 	}
+
+	private void validateDeleteModeParameter(JobParameters parameters, FcmTokenDeleteJobParameterKey paramKey)
+		throws JobParametersInvalidException {
+
+		String mode = parameters.getString(paramKey.getKey());
+		if (mode == null) {
+			return;
+		}
+
+		if (FcmTokenDeleteMode.from(mode).isEmpty()) {
+			throw new JobParametersInvalidException(
+				FcmTokenDeleteValidationErrorMessage.INVALID_DELETE_MODE.format(paramKey.getKey(), mode)
+			);
+		}
+	}
+
+	private void validateOptionalLongParameter(JobParameters parameters, FcmTokenDeleteJobParameterKey paramKey,
+		long min, long max) throws JobParametersInvalidException {
+
+		Long value = parameters.getLong(paramKey.getKey());
+		if (value == null) {
+			return;
+		}
+
+		if (value < min || value > max) {
+			throw new JobParametersInvalidException(
+				FcmTokenDeleteValidationErrorMessage.PARAMETER_OUT_OF_RANGE.format(paramKey.getKey(), value, min, max)
+			);
+		}
+	}
 }
\ No newline at end of file
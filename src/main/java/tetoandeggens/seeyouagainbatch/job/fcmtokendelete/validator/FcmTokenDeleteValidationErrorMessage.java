@@ -9,6 +9,8 @@ public enum FcmTokenDeleteValidationErrorMessage {
 
 	PARAMETERS_NULL("Job 파라미터가 없습니다"),
 	PARAMETER_REQUIRED("%s 파라미터는 필수값입니다"),
+	PARAMETER_OUT_OF_RANGE("%s 값이 허용 범위를 벗어났습니다: %d (허용 범위: %d ~ %d)"),
+	INVALID_DELETE_MODE("%s 값이 올바르지 않습니다: %s (허용 값: chunk, range)"),
 	INVALID_DATE_FORMAT("%s 날짜 형식이 올바르지 않습니다: %s (올바른 형식: yyyyMMdd)"),
 	DATE_NOT_OLD_ENOUGH("삭제 대상 날짜는 현재로부터 최소 %d일 이전이어야 합니다. 입력된 날짜: %s");
 
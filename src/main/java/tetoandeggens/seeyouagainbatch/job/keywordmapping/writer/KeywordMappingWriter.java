@@ -7,12 +7,11 @@ import java.util.List;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.common.jdbc.BulkInsertStatement;
+import tetoandeggens.seeyouagainbatch.common.jdbc.MultiRowBulkInserter;
 import tetoandeggens.seeyouagainbatch.constant.AnimalByKeywordEntityField;
 import tetoandeggens.seeyouagainbatch.domain.AnimalByKeyword;
 
@@ -20,17 +19,21 @@ import tetoandeggens.seeyouagainbatch.domain.AnimalByKeyword;
 @Component
 public class KeywordMappingWriter implements ItemWriter<List<AnimalByKeyword>> {
 
-	private static final String PARAM_NOTIFICATION_KEYWORD_ID = "notificationKeywordId";
-	private static final String PARAM_ANIMAL_ID = "animalId";
-	private static final String PARAM_CREATED_AT = "createdAt";
-	private static final String PARAM_UPDATED_AT = "updatedAt";
+	private static final BulkInsertStatement INSERT_STATEMENT = BulkInsertStatement.builder()
+		.table("animal_by_keyword")
+		.columns(List.of(
+			AnimalByKeywordEntityField.NOTIFICATION_KEYWORD_ID.getColumnName(),
+			AnimalByKeywordEntityField.ANIMAL_ID.getColumnName(),
+			AnimalByKeywordEntityField.CREATED_AT.getColumnName(),
+			AnimalByKeywordEntityField.UPDATED_AT.getColumnName()))
+		.build();
 
-	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final MultiRowBulkInserter bulkInserter;
 
 	public KeywordMappingWriter(
-		@Qualifier("businessNamedParameterJdbcTemplate") NamedParameterJdbcTemplate namedParameterJdbcTemplate
+		@Qualifier("businessBulkInserter") MultiRowBulkInserter bulkInserter
 	) {
-		this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+		this.bulkInserter = bulkInserter;
 	}
 
 	@Override
@@ -52,25 +55,13 @@ public class KeywordMappingWriter implements ItemWriter<List<AnimalByKeyword>> {
 	}
 
 	private void bulkInsertMappings(List<AnimalByKeyword> mappings) {
-		String insertSql = "INSERT INTO animal_by_keyword " +
-			"(" + AnimalByKeywordEntityField.NOTIFICATION_KEYWORD_ID.getColumnName() + ", " +
-			AnimalByKeywordEntityField.ANIMAL_ID.getColumnName() + ", " +
-			AnimalByKeywordEntityField.CREATED_AT.getColumnName() + ", " +
-			AnimalByKeywordEntityField.UPDATED_AT.getColumnName() + ") " +
-			"VALUES (:" + PARAM_NOTIFICATION_KEYWORD_ID + ", :" + PARAM_ANIMAL_ID + ", :" + PARAM_CREATED_AT + ", :" + PARAM_UPDATED_AT + ")";
-
-		SqlParameterSource[] batchParams = new SqlParameterSource[mappings.size()];
 		LocalDateTime now = LocalDateTime.now();
 
-		for (int i = 0; i < mappings.size(); i++) {
-			AnimalByKeyword mapping = mappings.get(i);
-			batchParams[i] = new MapSqlParameterSource()
-				.addValue(PARAM_NOTIFICATION_KEYWORD_ID, mapping.getNotificationKeyword().getId())
-				.addValue(PARAM_ANIMAL_ID, mapping.getAnimal().getId())
-				.addValue(PARAM_CREATED_AT, now)
-				.addValue(PARAM_UPDATED_AT, now);
-		}
-
-		namedParameterJdbcTemplate.batchUpdate(insertSql, batchParams);
+		bulkInserter.insert(INSERT_STATEMENT, mappings, (mapping, values, offset) -> {
+			values[offset] = mapping.getNotificationKeyword().getId();
+			values[offset + 1] = mapping.getAnimal().getId();
+			values[offset + 2] = now;
+			values[offset + 3] = now;
+		});
 	}
 }
@@ -14,13 +14,12 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
-import tetoandeggens.seeyouagainbatch.common.reader.QuerydslNoOffsetPagingItemReader;
 import tetoandeggens.seeyouagainbatch.common.reader.QuerydslNoOffsetPagingItemReaderBuilder;
+import tetoandeggens.seeyouagainbatch.common.reader.QuerydslNoOffsetStatelessItemReader;
 import tetoandeggens.seeyouagainbatch.common.reader.expression.Expression;
 import tetoandeggens.seeyouagainbatch.common.reader.options.QuerydslNoOffsetNumberOptions;
 import tetoandeggens.seeyouagainbatch.domain.AnimalS3Profile;
 import tetoandeggens.seeyouagainbatch.domain.QAnimalS3Profile;
-import tetoandeggens.seeyouagainbatch.job.s3profiledelete.processor.S3ProfileDeleteProcessor;
 import tetoandeggens.seeyouagainbatch.job.s3profiledelete.validator.S3ProfileDeleteJobParametersValidator;
 import tetoandeggens.seeyouagainbatch.job.s3profiledelete.writer.S3ProfileDeleteWriter;
 
@@ -31,7 +30,6 @@ public class S3ProfileDeleteJobConfig {
 	private final JobRepository jobRepository;
 	private final PlatformTransactionManager businessTransactionManager;
 	private final EntityManagerFactory entityManagerFactory;
-	private final S3ProfileDeleteProcessor s3ProfileDeleteProcessor;
 	private final S3ProfileDeleteWriter s3ProfileDeleteWriter;
 	private final S3ProfileDeleteJobParametersValidator jobParametersValidator;
 
@@ -47,19 +45,18 @@ public class S3ProfileDeleteJobConfig {
 	@JobScope
 	public Step s3ProfileDeleteStep(
 		@Value("#{jobParameters['deleteChunkSize'] ?: 500L}") Long deleteChunkSize,
-		QuerydslNoOffsetPagingItemReader<AnimalS3Profile> animalS3ProfileReader
+		QuerydslNoOffsetStatelessItemReader<AnimalS3Profile> animalS3ProfileReader
 	) {
 		return new StepBuilder("s3ProfileDeleteStep", jobRepository)
 			.<AnimalS3Profile, AnimalS3Profile>chunk(deleteChunkSize.intValue(), businessTransactionManager)
 			.reader(animalS3ProfileReader)
-			.processor(s3ProfileDeleteProcessor)
 			.writer(s3ProfileDeleteWriter)
 			.build();
 	}
 
 	@Bean
 	@StepScope
-	public QuerydslNoOffsetPagingItemReader<AnimalS3Profile> animalS3ProfileReader(
+	public QuerydslNoOffsetStatelessItemReader<AnimalS3Profile> animalS3ProfileReader(
 		@Value("#{jobParameters['deleteChunkSize'] ?: 500L}") Long deleteChunkSize) {
 		QAnimalS3Profile s3Profile = QAnimalS3Profile.animalS3Profile;
 
@@ -74,6 +71,6 @@ public class S3ProfileDeleteJobConfig {
 				.selectFrom(s3Profile)
 				.where(s3Profile.isDeleted.eq(true))
 			)
-			.build();
+			.buildStateless();
 	}
 }
\ No newline at end of file
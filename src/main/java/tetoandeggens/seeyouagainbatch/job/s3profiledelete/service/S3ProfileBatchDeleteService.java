@@ -0,0 +1,185 @@
+package tetoandeggens.seeyouagainbatch.job.s3profiledelete.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.DeletedObject;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import tetoandeggens.seeyouagainbatch.common.image.WebpTranscoder;
+import tetoandeggens.seeyouagainbatch.domain.AnimalS3Profile;
+
+@Slf4j
+@Service
+public class S3ProfileBatchDeleteService {
+
+	// DeleteObjects 요청 한 번에 담을 수 있는 최대 키 수
+	public static final int MAX_KEYS_PER_REQUEST = 1000;
+
+	// 프로필마다 본 이미지와 썸네일 두 키를 함께 지운다
+	private static final int MAX_PROFILES_PER_REQUEST = MAX_KEYS_PER_REQUEST / 2;
+
+	private static final String NO_SUCH_KEY = "NoSuchKey";
+
+	private final S3Client s3Client;
+	private final S3AsyncClient s3AsyncClient;
+	private final String bucketName;
+	private final String cloudfrontDomain;
+
+	// batch.s3.async.enabled=true로 S3AsyncClient가 등록된 경우에만 비동기로 요청한다
+	public S3ProfileBatchDeleteService(
+		S3Client s3Client,
+		@Nullable S3AsyncClient s3AsyncClient,
+		@Value("${aws.s3.bucket}") String bucketName,
+		@Value("${cloudfront.domain}") String cloudfrontDomain
+	) {
+		this.s3Client = s3Client;
+		this.s3AsyncClient = s3AsyncClient;
+		this.bucketName = bucketName;
+		this.cloudfrontDomain = cloudfrontDomain;
+	}
+
+	public CompletableFuture<List<AnimalS3Profile>> deleteObjects(List<? extends AnimalS3Profile> profiles) {
+		List<AnimalS3Profile> removableProfiles = new ArrayList<>();
+		Map<String, List<AnimalS3Profile>> profilesByKey = new LinkedHashMap<>();
+
+		for (AnimalS3Profile profile : profiles) {
+			String s3Key = extractS3Key(profile.getProfile());
+			if (s3Key == null || s3Key.isBlank()) {
+				removableProfiles.add(profile);
+				continue;
+			}
+			profilesByKey.computeIfAbsent(s3Key, key -> new ArrayList<>()).add(profile);
+		}
+
+		return deleteKeys(new ArrayList<>(profilesByKey.keySet()))
+			.thenApply(removableKeys -> {
+				for (String removableKey : removableKeys) {
+					removableProfiles.addAll(profilesByKey.getOrDefault(removableKey, List.of()));
+				}
+				return removableProfiles;
+			});
+	}
+
+	// 본 이미지 키와 썸네일 키를 함께 지우고, 지워졌거나 원래 없던 키를 돌려준다
+	public CompletableFuture<Set<String>> deleteKeys(List<String> s3Keys) {
+		List<CompletableFuture<Set<String>>> batchFutures = new ArrayList<>();
+		for (int from = 0; from < s3Keys.size(); from += MAX_PROFILES_PER_REQUEST) {
+			batchFutures.add(deleteBatch(s3Keys.subList(from, Math.min(s3Keys.size(), from + MAX_PROFILES_PER_REQUEST))));
+		}
+
+		return CompletableFuture.allOf(batchFutures.toArray(new CompletableFuture[0]))
+			.thenApply(ignored -> {
+				Set<String> removableKeys = new HashSet<>();
+				for (CompletableFuture<Set<String>> batchFuture : batchFutures) {
+					removableKeys.addAll(batchFuture.join());
+				}
+				return removableKeys;
+			});
+	}
+
+	// 썸네일이 없던 이전 프로필도 함께 요청하지만, S3는 없는 키 삭제도 성공으로 응답하므로 문제없다
+	// DB 삭제 여부는 본 이미지 키 결과로만 정하고, 썸네일 삭제 실패는 로그로만 남긴다
+	private CompletableFuture<Set<String>> deleteBatch(List<String> s3Keys) {
+		List<ObjectIdentifier> objects = new ArrayList<>(s3Keys.size() * 2);
+		for (String s3Key : s3Keys) {
+			objects.add(ObjectIdentifier.builder().key(s3Key).build());
+			objects.add(ObjectIdentifier.builder().key(WebpTranscoder.thumbnailKey(s3Key)).build());
+		}
+
+		DeleteObjectsRequest deleteObjectsRequest = DeleteObjectsRequest.builder()
+			.bucket(bucketName)
+			.delete(Delete.builder()
+				.objects(objects)
+				.quiet(false)
+				.build())
+			.build();
+
+		return sendDeleteRequest(deleteObjectsRequest)
+			.thenApply(this::collectRemovableKeys)
+			.exceptionally(e -> handleBatchFailure(s3Keys, e));
+	}
+
+	private CompletableFuture<DeleteObjectsResponse> sendDeleteRequest(DeleteObjectsRequest deleteObjectsRequest) {
+		try {
+			if (s3AsyncClient != null) {
+				return s3AsyncClient.deleteObjects(deleteObjectsRequest);
+			}
+			return CompletableFuture.completedFuture(s3Client.deleteObjects(deleteObjectsRequest));
+		} catch (Exception e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	private Set<String> handleBatchFailure(List<String> s3Keys, Throwable throwable) {
+		Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+			? throwable.getCause()
+			: throwable;
+
+		if (cause instanceof S3Exception s3Exception && s3Exception.statusCode() == 404) {
+			log.warn("S3에 파일이 존재하지 않음. 요청 키 수: {}, 계속 진행", s3Keys.size());
+			return new HashSet<>(s3Keys);
+		}
+
+		log.error("S3 일괄 삭제 실패. 요청 키 수: {}, Error: {}", s3Keys.size(), cause.getMessage(), cause);
+		return Set.of();
+	}
+
+	private Set<String> collectRemovableKeys(DeleteObjectsResponse response) {
+		Set<String> removableKeys = new HashSet<>();
+		for (DeletedObject deleted : response.deleted()) {
+			removableKeys.add(deleted.key());
+		}
+
+		// 키별 실패 중 이미 없는 파일은 삭제된 것으로 보고, 나머지는 DB에 남겨 다음 실행에서 재시도한다
+		int failedCount = 0;
+		for (S3Error error : response.errors()) {
+			if (NO_SUCH_KEY.equals(error.code())) {
+				log.warn("S3에 파일이 존재하지 않음. S3 Key: {}, 계속 진행", error.key());
+				removableKeys.add(error.key());
+			} else {
+				failedCount++;
+				log.error("S3 삭제 실패. S3 Key: {}, Code: {}, Message: {}", error.key(), error.code(), error.message());
+			}
+		}
+
+		log.info("S3 파일 일괄 삭제 완료. 삭제: {}건, 실패: {}건", removableKeys.size(), failedCount);
+		return removableKeys;
+	}
+
+	private String extractS3Key(String profileUrl) {
+		if (profileUrl == null || profileUrl.isBlank()) {
+			return null;
+		}
+
+		if (profileUrl.startsWith(cloudfrontDomain)) {
+			return profileUrl.substring(cloudfrontDomain.length());
+		}
+
+		if (profileUrl.startsWith("http://") || profileUrl.startsWith("https://")) {
+			int domainEnd = profileUrl.indexOf('/', 8);
+			if (domainEnd > 0) {
+				return profileUrl.substring(domainEnd + 1);
+			}
+		}
+
+		return profileUrl;
+	}
+}
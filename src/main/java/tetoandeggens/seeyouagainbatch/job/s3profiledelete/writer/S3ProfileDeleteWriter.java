@@ -13,17 +13,21 @@ import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
 import tetoandeggens.seeyouagainbatch.domain.AnimalS3Profile;
+import tetoandeggens.seeyouagainbatch.job.s3profiledelete.service.S3ProfileBatchDeleteService;
 
 @Slf4j
 @Component
 public class S3ProfileDeleteWriter implements ItemWriter<AnimalS3Profile> {
 
 	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final S3ProfileBatchDeleteService s3ProfileBatchDeleteService;
 
 	public S3ProfileDeleteWriter(
-		@Qualifier("businessNamedParameterJdbcTemplate") NamedParameterJdbcTemplate namedParameterJdbcTemplate
+		@Qualifier("businessNamedParameterJdbcTemplate") NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+		S3ProfileBatchDeleteService s3ProfileBatchDeleteService
 	) {
 		this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+		this.s3ProfileBatchDeleteService = s3ProfileBatchDeleteService;
 	}
 
 	@Override
@@ -39,7 +43,13 @@ public class S3ProfileDeleteWriter implements ItemWriter<AnimalS3Profile> {
 			return;
 		}
 
-		bulkDeleteS3Profiles(validItems);
+		// S3에서 삭제됐거나 이미 없는 파일의 행만 DB에서 지운다
+		List<AnimalS3Profile> removableItems = s3ProfileBatchDeleteService.deleteObjects(validItems).join();
+		if (removableItems.isEmpty()) {
+			return;
+		}
+
+		bulkDeleteS3Profiles(removableItems);
 	}
 
 	private void bulkDeleteS3Profiles(List<? extends AnimalS3Profile> profiles) {
@@ -0,0 +1,39 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import tetoandeggens.seeyouagainbatch.common.buffer.DirectBufferPool;
+
+@Configuration
+public class ImageBufferPoolConfig {
+
+	// 공공데이터 프로필 이미지는 대부분 수백 KB 이하이므로 64KB부터 4MB까지 4배씩 등급을 나눈다
+	private static final List<Integer> SIZE_CLASSES = List.of(64 * 1024, 256 * 1024, 1024 * 1024, 4 * 1024 * 1024);
+
+	@Bean
+	public DirectBufferPool imageBufferPool(
+		@Value("${batch.s3upload.buffer-pool.max-pooled-bytes:268435456}") long maxPooledBytes
+	) {
+		return new DirectBufferPool(SIZE_CLASSES, maxPooledBytes);
+	}
+
+	@Bean
+	public MeterBinder imageBufferPoolMetrics(DirectBufferPool imageBufferPool) {
+		return registry -> {
+			Gauge.builder("batch.s3upload.buffer-pool.hit-rate", imageBufferPool, DirectBufferPool::getHitRate)
+				.description("이미지 버퍼 풀에서 재사용한 버퍼 비율")
+				.register(registry);
+			Gauge.builder("batch.s3upload.buffer-pool.in-use", imageBufferPool, DirectBufferPool::getBytesInUse)
+				.description("업로드가 끝나지 않아 풀로 돌아오지 않은 버퍼 크기")
+				.baseUnit(BaseUnits.BYTES)
+				.register(registry);
+		};
+	}
+}
@@ -0,0 +1,19 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import tetoandeggens.seeyouagainbatch.common.image.WebpTranscoder;
+
+@Configuration
+public class ImageTranscodeConfig {
+
+	@Bean
+	public WebpTranscoder webpTranscoder(
+		@Value("${batch.s3upload.transcode.quality:0.8}") float quality,
+		@Value("${batch.s3upload.transcode.thumbnail-width:320}") int thumbnailWidth
+	) {
+		return new WebpTranscoder(quality, thumbnailWidth);
+	}
+}
@@ -2,18 +2,23 @@ package tetoandeggens.seeyouagainbatch.job.s3profileupload.config;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -25,9 +30,13 @@ import tetoandeggens.seeyouagainbatch.common.reader.options.QuerydslNoOffsetNumb
 import tetoandeggens.seeyouagainbatch.domain.AnimalProfile;
 import tetoandeggens.seeyouagainbatch.domain.QAnimalProfile;
 import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.listener.S3UploadRollbackListener;
 import tetoandeggens.seeyouagainbatch.job.s3profileupload.parameter.S3ProfileUploadJobParameter;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.partitioner.AnimalProfileIdRangePartitioner;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.processor.PipelinedS3ProfileUploadProcessor;
 import tetoandeggens.seeyouagainbatch.job.s3profileupload.processor.S3ProfileUploadProcessor;
 import tetoandeggens.seeyouagainbatch.job.s3profileupload.validator.S3ProfileUploadJobParametersValidator;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.writer.PipelinedS3ProfileUploadWriter;
 import tetoandeggens.seeyouagainbatch.job.s3profileupload.writer.S3ProfileUploadWriter;
 
 @Configuration
@@ -36,8 +45,13 @@ public class S3ProfileUploadJobConfig {
 	private final JobRepository jobRepository;
 	private final PlatformTransactionManager businessTransactionManager;
 	private final EntityManagerFactory entityManagerFactory;
+	private final NamedParameterJdbcTemplate businessNamedParameterJdbcTemplate;
 	private final S3ProfileUploadProcessor s3ProfileUploadProcessor;
 	private final S3ProfileUploadWriter s3ProfileUploadWriter;
+	private final PipelinedS3ProfileUploadProcessor pipelinedS3ProfileUploadProcessor;
+	private final PipelinedS3ProfileUploadWriter pipelinedS3ProfileUploadWriter;
+	private final S3UploadRollbackListener s3UploadRollbackListener;
+	private final boolean pipelineEnabled;
 	private final S3ProfileUploadJobParametersValidator jobParametersValidator;
 	private final S3ProfileUploadJobParameter jobParameter;
 	private final TaskExecutor s3UploadTaskExecutor;
@@ -46,8 +60,13 @@ public class S3ProfileUploadJobConfig {
 		JobRepository jobRepository,
 		PlatformTransactionManager businessTransactionManager,
 		EntityManagerFactory entityManagerFactory,
+		@Qualifier("businessNamedParameterJdbcTemplate") NamedParameterJdbcTemplate businessNamedParameterJdbcTemplate,
 		S3ProfileUploadProcessor s3ProfileUploadProcessor,
 		S3ProfileUploadWriter s3ProfileUploadWriter,
+		PipelinedS3ProfileUploadProcessor pipelinedS3ProfileUploadProcessor,
+		PipelinedS3ProfileUploadWriter pipelinedS3ProfileUploadWriter,
+		S3UploadRollbackListener s3UploadRollbackListener,
+		@Value("${batch.s3upload.pipeline-enabled:false}") boolean pipelineEnabled,
 		S3ProfileUploadJobParametersValidator jobParametersValidator,
 		S3ProfileUploadJobParameter jobParameter,
 		@Autowired(required = false) TaskExecutor s3UploadTaskExecutor
@@ -55,8 +74,13 @@ public class S3ProfileUploadJobConfig {
 		this.jobRepository = jobRepository;
 		this.businessTransactionManager = businessTransactionManager;
 		this.entityManagerFactory = entityManagerFactory;
+		this.businessNamedParameterJdbcTemplate = businessNamedParameterJdbcTemplate;
 		this.s3ProfileUploadProcessor = s3ProfileUploadProcessor;
 		this.s3ProfileUploadWriter = s3ProfileUploadWriter;
+		this.pipelinedS3ProfileUploadProcessor = pipelinedS3ProfileUploadProcessor;
+		this.pipelinedS3ProfileUploadWriter = pipelinedS3ProfileUploadWriter;
+		this.s3UploadRollbackListener = s3UploadRollbackListener;
+		this.pipelineEnabled = pipelineEnabled;
 		this.jobParametersValidator = jobParametersValidator;
 		this.jobParameter = jobParameter;
 		this.s3UploadTaskExecutor = s3UploadTaskExecutor;
@@ -75,26 +99,62 @@ public class S3ProfileUploadJobConfig {
 	@Bean
 	@JobScope
 	public Step s3ProfileUploadStep(
+		@Value("#{jobParameters['gridSize'] ?: 4L}") Long gridSize,
 		@Value("#{jobParameters['uploadChunkSize'] ?: 500L}") Long uploadChunkSize,
+		AnimalProfileIdRangePartitioner animalProfileIdRangePartitioner,
 		QuerydslNoOffsetPagingItemReader<AnimalProfile> animalProfileReader
 	) {
-		var stepBuilder = new StepBuilder("s3ProfileUploadStep", jobRepository)
-			.<AnimalProfile, ProfileImageData>chunk(uploadChunkSize.intValue(), businessTransactionManager)
-			.reader(animalProfileReader)
-			.processor(s3ProfileUploadProcessor)
-			.writer(s3ProfileUploadWriter);
+		// 워커 스텝은 파티션 스레드에서 실행되므로 JobScope 프록시가 아닌 실제 스텝으로 넘긴다
+		Step workerStep = s3ProfileUploadWorkerStep(uploadChunkSize.intValue(), animalProfileReader);
 
-		if (s3UploadTaskExecutor != null) {
-			stepBuilder.taskExecutor(s3UploadTaskExecutor);
+		TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+		partitionHandler.setStep(workerStep);
+		partitionHandler.setGridSize(gridSize.intValue());
+		partitionHandler.setTaskExecutor(s3UploadTaskExecutor != null ? s3UploadTaskExecutor : new SyncTaskExecutor());
+
+		return new StepBuilder("s3ProfileUploadStep", jobRepository)
+			.partitioner("s3ProfileUploadWorkerStep", animalProfileIdRangePartitioner)
+			.partitionHandler(partitionHandler)
+			.build();
+	}
+
+	private Step s3ProfileUploadWorkerStep(int uploadChunkSize,
+		QuerydslNoOffsetPagingItemReader<AnimalProfile> animalProfileReader) {
+		if (pipelineEnabled) {
+			// 다운로드와 업로드를 아이템 단위로 이어 붙여 청크 안에서 수신과 송신이 겹치도록 한다
+			return new StepBuilder("s3ProfileUploadWorkerStep", jobRepository)
+				.<AnimalProfile, CompletableFuture<ProfileImageData>>chunk(uploadChunkSize, businessTransactionManager)
+				.reader(animalProfileReader)
+				.processor(pipelinedS3ProfileUploadProcessor)
+				.writer(pipelinedS3ProfileUploadWriter)
+				.listener(s3UploadRollbackListener)
+				.build();
 		}
 
-		return stepBuilder.build();
+		return new StepBuilder("s3ProfileUploadWorkerStep", jobRepository)
+			.<AnimalProfile, ProfileImageData>chunk(uploadChunkSize, businessTransactionManager)
+			.reader(animalProfileReader)
+			.processor(s3ProfileUploadProcessor)
+			.writer(s3ProfileUploadWriter)
+			.listener(s3UploadRollbackListener)
+			.build();
+	}
+
+	@Bean
+	@StepScope
+	public AnimalProfileIdRangePartitioner animalProfileIdRangePartitioner() {
+		return new AnimalProfileIdRangePartitioner(
+			businessNamedParameterJdbcTemplate,
+			LocalDate.parse(jobParameter.getStartDate(), DATE_FORMATTER),
+			LocalDate.parse(jobParameter.getEndDate(), DATE_FORMATTER));
 	}
 
 	@Bean
 	@StepScope
 	public QuerydslNoOffsetPagingItemReader<AnimalProfile> animalProfileReader(
-		@Value("#{jobParameters['uploadChunkSize'] ?: 500L}") Long uploadChunkSize) {
+		@Value("#{jobParameters['uploadChunkSize'] ?: 500L}") Long uploadChunkSize,
+		@Value("#{stepExecutionContext['minId']}") Long minId,
+		@Value("#{stepExecutionContext['maxId']}") Long maxId) {
 		QAnimalProfile profile = QAnimalProfile.animalProfile;
 
 		LocalDate startDate = LocalDate.parse(jobParameter.getStartDate(), DATE_FORMATTER);
@@ -109,7 +169,10 @@ public class S3ProfileUploadJobConfig {
 			.options(options)
 			.queryFunction(queryFactory -> queryFactory
 				.selectFrom(profile)
-				.where(profile.happenDate.between(startDate, endDate))
+				.where(
+					profile.happenDate.between(startDate, endDate),
+					profile.id.between(minId, maxId)
+				)
 			)
 			.build();
 	}
@@ -1,6 +1,7 @@
 package tetoandeggens.seeyouagainbatch.job.s3profileupload.config;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -9,35 +10,101 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import jakarta.annotation.PreDestroy;
+import tetoandeggens.seeyouagainbatch.config.ConcurrencyLimitedExecutorService;
 import tetoandeggens.seeyouagainbatch.config.NamedThreadFactory;
 
 @Configuration
 @Profile("!test")
 public class S3UploadExecutorConfig {
 
-	private ThreadPoolExecutor s3UploadInternalExecutorService;
+	private static final String VIRTUAL_EXECUTOR_MODE = "virtual";
+	private static final String PLATFORM_EXECUTOR_MODE = "platform";
+
+	private ExecutorService s3UploadInternalExecutorService;
+	private ExecutorService s3DownloadInternalExecutorService;
+	private ExecutorService imageTranscodeInternalExecutorService;
+	private ExecutorService s3PartUploadInternalExecutorService;
 
 	@Bean
-	public ExecutorService s3UploadExecutorService(@Value("${batch.s3upload.thread-pool-size}") int threadPoolSize) {
-		this.s3UploadInternalExecutorService = new ThreadPoolExecutor(
-			threadPoolSize,
-			threadPoolSize,
-			0L,
-			TimeUnit.MILLISECONDS,
-			new LinkedBlockingQueue<>(),
-			new NamedThreadFactory("s3-upload"),
-			new ThreadPoolExecutor.CallerRunsPolicy()
-		);
+	public ExecutorService s3UploadExecutorService(
+		@Value("${batch.s3upload.thread-pool-size}") int threadPoolSize,
+		@Value("${batch.s3upload.executor-mode:platform}") String executorMode,
+		@Value("${batch.s3upload.max-concurrency:${batch.s3upload.thread-pool-size}}") int maxConcurrency,
+		MeterRegistry meterRegistry
+	) {
+		this.s3UploadInternalExecutorService = createExecutorService("s3-upload", "batch.s3upload.active",
+			threadPoolSize, executorMode, maxConcurrency, meterRegistry);
 
-		return this.s3UploadInternalExecutorService;
+		// 두 모드의 처리량을 같은 executor 지표(mode 태그)로 비교할 수 있게 감싼다
+		return ExecutorServiceMetrics.monitor(meterRegistry, this.s3UploadInternalExecutorService,
+			"s3UploadExecutorService", Tags.of("mode", executorMode));
 	}
 
+	// 파이프라인 모드에서 다운로드가 업로드 작업 뒤에 줄 서지 않도록 다운로드 전용 실행기를 따로 둔다
 	@Bean
-	public TaskExecutor s3UploadTaskExecutor(@Value("${batch.s3upload.thread-pool-size}") int threadPoolSize) {
+	public ExecutorService s3DownloadExecutorService(
+		@Value("${batch.s3upload.download-thread-pool-size:${batch.s3upload.thread-pool-size}}") int threadPoolSize,
+		@Value("${batch.s3upload.executor-mode:platform}") String executorMode,
+		@Value("${batch.s3upload.download-max-concurrency:${batch.s3upload.download-thread-pool-size:${batch.s3upload.thread-pool-size}}}") int maxConcurrency,
+		MeterRegistry meterRegistry
+	) {
+		this.s3DownloadInternalExecutorService = createExecutorService("s3-download", "batch.s3download.active",
+			threadPoolSize, executorMode, maxConcurrency, meterRegistry);
+
+		return ExecutorServiceMetrics.monitor(meterRegistry, this.s3DownloadInternalExecutorService,
+			"s3DownloadExecutorService", Tags.of("mode", executorMode));
+	}
+
+	// 업로드 작업이 자기 파트를 기다리며 같은 풀을 막지 않도록 멀티파트 파트는 별도 실행기에서 보낸다
+	@Bean
+	public ExecutorService s3PartUploadExecutorService(
+		@Value("${batch.s3upload.multipart.thread-pool-size:4}") int threadPoolSize,
+		@Value("${batch.s3upload.executor-mode:platform}") String executorMode,
+		MeterRegistry meterRegistry
+	) {
+		this.s3PartUploadInternalExecutorService = createExecutorService("s3-part-upload", "batch.s3upload.part.active",
+			threadPoolSize, executorMode, threadPoolSize, meterRegistry);
+
+		return ExecutorServiceMetrics.monitor(meterRegistry, this.s3PartUploadInternalExecutorService,
+			"s3PartUploadExecutorService", Tags.of("mode", executorMode));
+	}
+
+	// 이미지 변환은 CPU 작업이므로 I/O 실행기와 나누고, 가상 스레드 대신 코어 수만큼의 플랫폼 스레드로 돌린다
+	@Bean
+	public ExecutorService imageTranscodeExecutorService(
+		@Value("${batch.s3upload.transcode.thread-pool-size:0}") int threadPoolSize,
+		MeterRegistry meterRegistry
+	) {
+		int poolSize = threadPoolSize > 0 ? threadPoolSize : Runtime.getRuntime().availableProcessors();
+		this.imageTranscodeInternalExecutorService = createExecutorService("image-transcode", null,
+			poolSize, PLATFORM_EXECUTOR_MODE, poolSize, meterRegistry);
+
+		return ExecutorServiceMetrics.monitor(meterRegistry, this.imageTranscodeInternalExecutorService,
+			"imageTranscodeExecutorService", Tags.of("mode", PLATFORM_EXECUTOR_MODE));
+	}
+
+	@Bean
+	public TaskExecutor s3UploadTaskExecutor(
+		@Value("${batch.s3upload.thread-pool-size}") int threadPoolSize,
+		@Value("${batch.s3upload.executor-mode:platform}") String executorMode,
+		@Value("${batch.s3upload.max-concurrency:${batch.s3upload.thread-pool-size}}") int maxConcurrency
+	) {
+		if (isVirtualMode(executorMode)) {
+			SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("s3-upload-step-vt-");
+			taskExecutor.setVirtualThreads(true);
+			taskExecutor.setConcurrencyLimit(maxConcurrency);
+			return taskExecutor;
+		}
+
 		ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
 
 		taskExecutor.setCorePoolSize(threadPoolSize);
@@ -50,19 +117,55 @@ public class S3UploadExecutorConfig {
 		return taskExecutor;
 	}
 
+	private ExecutorService createExecutorService(String threadNamePrefix, String activeGaugeName,
+		int threadPoolSize, String executorMode, int maxConcurrency, MeterRegistry meterRegistry) {
+		if (isVirtualMode(executorMode)) {
+			// 가상 스레드는 풀 크기 대신 세마포어로 동시에 진행하는 작업 수만 제한한다
+			ConcurrencyLimitedExecutorService virtualExecutorService = new ConcurrencyLimitedExecutorService(
+				Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix + "-vt-", 1).factory()),
+				maxConcurrency
+			);
+			Gauge.builder(activeGaugeName, virtualExecutorService, ConcurrencyLimitedExecutorService::getActiveCount)
+				.description("동시에 실행 중인 작업 수")
+				.register(meterRegistry);
+
+			return virtualExecutorService;
+		}
+
+		return new ThreadPoolExecutor(
+			threadPoolSize,
+			threadPoolSize,
+			0L,
+			TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(),
+			new NamedThreadFactory(threadNamePrefix),
+			new ThreadPoolExecutor.CallerRunsPolicy()
+		);
+	}
+
+	private boolean isVirtualMode(String executorMode) {
+		return VIRTUAL_EXECUTOR_MODE.equalsIgnoreCase(executorMode);
+	}
 
 	@PreDestroy
 	public void destroy() {
-		if (s3UploadInternalExecutorService != null) {
-			s3UploadInternalExecutorService.shutdown();
+		shutdown(s3DownloadInternalExecutorService);
+		shutdown(imageTranscodeInternalExecutorService);
+		shutdown(s3UploadInternalExecutorService);
+		shutdown(s3PartUploadInternalExecutorService);
+	}
+
+	private void shutdown(ExecutorService executorService) {
+		if (executorService != null) {
+			executorService.shutdown();
 			try {
-				if (!s3UploadInternalExecutorService.awaitTermination(60, TimeUnit.SECONDS)) {
-					s3UploadInternalExecutorService.shutdownNow();
-					if (!s3UploadInternalExecutorService.awaitTermination(60, TimeUnit.SECONDS)) {
+				if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
+					executorService.shutdownNow();
+					if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
 					}
 				}
 			} catch (InterruptedException e) {
-				s3UploadInternalExecutorService.shutdownNow();
+				executorService.shutdownNow();
 				Thread.currentThread().interrupt();
 			}
 		}
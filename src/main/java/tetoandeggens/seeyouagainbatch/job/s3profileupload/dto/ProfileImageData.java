@@ -1,14 +1,49 @@
 package tetoandeggens.seeyouagainbatch.job.s3profileupload.dto;
 
+import java.nio.file.Path;
+
 import lombok.Builder;
 import lombok.Getter;
+import tetoandeggens.seeyouagainbatch.common.buffer.PooledBuffer;
 import tetoandeggens.seeyouagainbatch.domain.AnimalProfile;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class ProfileImageData {
 
+	// 원본 응답에 이미지 형식이 없으면 형식을 단정하지 않는다
+	private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
 	private final AnimalProfile profile;
 	private final byte[] imageBytes;
+	// 버퍼 풀 모드에서 이미지를 담은 풀 버퍼. 업로드가 끝나면 반환한다
+	private final PooledBuffer imageBuffer;
+	// 스트리밍 모드에서 응답 본문을 받아 둔 임시 파일. 업로드가 끝나면 지운다
+	private final Path spoolFile;
+	// WebP 변환을 거친 경우 너비를 제한한 썸네일. 본 이미지 키에 -thumb을 붙인 키로 올린다
+	private final byte[] thumbnailBytes;
+	// WebP 변환에 실패해 원본을 그대로 올리는 경우 썸네일 키에도 원본을 올려 썸네일 요청이 404가 되지 않도록 한다
+	private final boolean thumbnailFromOriginal;
+	// 올릴 본문의 형식. 원본 응답의 Content-Type이고, WebP로 변환했다면 image/webp
+	private final String contentType;
 	private final String s3Key;
+	// 파이프라인 단계에서 이미 S3에 올린 경우
+	private final boolean uploaded;
+
+	public String getContentType() {
+		return contentType != null ? contentType : DEFAULT_CONTENT_TYPE;
+	}
+
+	public boolean hasImage() {
+		return imageBytes != null || imageBuffer != null || spoolFile != null;
+	}
+
+	public void releaseImage() {
+		if (imageBuffer != null) {
+			imageBuffer.release();
+		}
+		if (spoolFile != null) {
+			spoolFile.toFile().delete();
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProfileImageValidator {
+
+	private final String contentHash;
+	private final String etag;
+	private final String lastModified;
+
+	public boolean hasValidators() {
+		return etag != null || lastModified != null;
+	}
+}
@@ -0,0 +1,59 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.listener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.job.s3profiledelete.service.S3ProfileBatchDeleteService;
+
+// 청크가 롤백되면 그 청크에서 올린 객체는 DB에서 참조되지 않으므로 S3에서 지운다
+// 워커 스텝마다 따로 만들어지므로 파티션끼리 키를 섞지 않는다
+@Slf4j
+@StepScope
+@Component
+@RequiredArgsConstructor
+public class S3UploadRollbackListener implements ChunkListener {
+
+	private final S3ProfileBatchDeleteService s3ProfileBatchDeleteService;
+	private final Set<String> uploadedKeys = new LinkedHashSet<>();
+
+	// 업로드를 시작하기 전에 등록해 두어야 일부만 올라간 뒤 실패해도 함께 지울 수 있다
+	public void register(Collection<String> s3Keys) {
+		uploadedKeys.addAll(s3Keys);
+	}
+
+	@Override
+	public void beforeChunk(ChunkContext context) {
+		uploadedKeys.clear();
+	}
+
+	@Override
+	public void afterChunk(ChunkContext context) {
+		uploadedKeys.clear();
+	}
+
+	@Override
+	public void afterChunkError(ChunkContext context) {
+		if (uploadedKeys.isEmpty()) {
+			return;
+		}
+
+		log.warn("청크 롤백으로 업로드한 S3 객체 삭제. 키 수: {}", uploadedKeys.size());
+		try {
+			s3ProfileBatchDeleteService.deleteKeys(new ArrayList<>(uploadedKeys)).join();
+		} catch (Exception e) {
+			// 삭제 실패가 원래 예외를 가리지 않도록 로그만 남긴다
+			log.error("롤백된 청크의 S3 객체 삭제 실패. 키 수: {}, Error: {}", uploadedKeys.size(), e.getMessage(), e);
+		} finally {
+			uploadedKeys.clear();
+		}
+	}
+}
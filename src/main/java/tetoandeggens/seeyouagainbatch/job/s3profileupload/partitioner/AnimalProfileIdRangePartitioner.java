@@ -0,0 +1,76 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.partitioner;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class AnimalProfileIdRangePartitioner implements Partitioner {
+
+	public static final String MIN_ID_KEY = "minId";
+	public static final String MAX_ID_KEY = "maxId";
+
+	private static final String PARTITION_PREFIX = "partition";
+
+	private static final String ID_RANGE_SQL =
+		"SELECT MIN(animal_profile_id) AS min_id, MAX(animal_profile_id) AS max_id " +
+			"FROM animal_profile " +
+			"WHERE happen_date BETWEEN :startDate AND :endDate";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final LocalDate startDate;
+	private final LocalDate endDate;
+
+	public AnimalProfileIdRangePartitioner(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+		LocalDate startDate, LocalDate endDate) {
+		this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+		this.startDate = startDate;
+		this.endDate = endDate;
+	}
+
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		Map<String, Object> idRange = namedParameterJdbcTemplate.queryForMap(ID_RANGE_SQL,
+			new MapSqlParameterSource()
+				.addValue("startDate", startDate)
+				.addValue("endDate", endDate));
+
+		Number minId = (Number)idRange.get("min_id");
+		Number maxId = (Number)idRange.get("max_id");
+
+		Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+		if (minId == null || maxId == null) {
+			// 대상이 없어도 워커 스텝이 한 번은 실행되어 정상 완료되도록 빈 범위를 넘긴다
+			partitions.put(PARTITION_PREFIX + 0, createContext(0L, -1L));
+			log.info("파티션 대상 프로필 없음 - 기간: {} ~ {}", startDate, endDate);
+			return partitions;
+		}
+
+		long min = minId.longValue();
+		long max = maxId.longValue();
+		long sliceSize = Math.max(1L, (max - min) / Math.max(1, gridSize) + 1);
+
+		int partitionNo = 0;
+		for (long sliceStart = min; sliceStart <= max; sliceStart += sliceSize) {
+			long sliceEnd = Math.min(max, sliceStart + sliceSize - 1);
+			partitions.put(PARTITION_PREFIX + partitionNo++, createContext(sliceStart, sliceEnd));
+		}
+
+		log.info("프로필 ID 범위 파티션 생성 - 범위: {} ~ {}, 파티션 수: {}", min, max, partitions.size());
+		return partitions;
+	}
+
+	private ExecutionContext createContext(long minId, long maxId) {
+		ExecutionContext context = new ExecutionContext();
+		context.putLong(MIN_ID_KEY, minId);
+		context.putLong(MAX_ID_KEY, maxId);
+		return context;
+	}
+}
@@ -0,0 +1,59 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.processor;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import tetoandeggens.seeyouagainbatch.domain.AnimalProfile;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.service.ImageTranscodeService;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.service.S3UploadService;
+
+// AsyncItemProcessor처럼 아이템마다 Future를 돌려주되, 다운로드가 끝난 아이템은 청크를 기다리지 않고 바로 업로드를 시작한다
+@Component
+public class PipelinedS3ProfileUploadProcessor
+	implements ItemProcessor<AnimalProfile, CompletableFuture<ProfileImageData>> {
+
+	private final S3ProfileUploadProcessor s3ProfileUploadProcessor;
+	private final S3UploadService s3UploadService;
+	private final ImageTranscodeService imageTranscodeService;
+	private final ExecutorService downloadExecutorService;
+
+	public PipelinedS3ProfileUploadProcessor(
+		S3ProfileUploadProcessor s3ProfileUploadProcessor,
+		S3UploadService s3UploadService,
+		ImageTranscodeService imageTranscodeService,
+		@Qualifier("s3DownloadExecutorService") ExecutorService s3DownloadExecutorService
+	) {
+		this.s3ProfileUploadProcessor = s3ProfileUploadProcessor;
+		this.s3UploadService = s3UploadService;
+		this.imageTranscodeService = imageTranscodeService;
+		this.downloadExecutorService = s3DownloadExecutorService;
+	}
+
+	@Override
+	public CompletableFuture<ProfileImageData> process(AnimalProfile profile) {
+		// 다운로드(I/O)와 변환(CPU)을 서로 다른 실행기에서 돌려 한쪽이 다른 쪽 스레드를 잡아먹지 않도록 한다
+		return CompletableFuture.supplyAsync(() -> s3ProfileUploadProcessor.process(profile), downloadExecutorService)
+			.thenCompose(imageTranscodeService::transcodeAsync)
+			.thenCompose(this::upload);
+	}
+
+	private CompletableFuture<ProfileImageData> upload(ProfileImageData imageData) {
+		if (imageData == null || imageData.isUploaded() || !imageData.hasImage()) {
+			return CompletableFuture.completedFuture(imageData);
+		}
+
+		// 업로드가 끝나면 이미지 본문은 버리고 DB 저장에 필요한 값만 writer로 넘긴다
+		return s3UploadService.uploadBatch(List.of(imageData))
+			.thenApply(ignored -> ProfileImageData.builder()
+				.profile(imageData.getProfile())
+				.s3Key(imageData.getS3Key())
+				.uploaded(true)
+				.build());
+	}
+}
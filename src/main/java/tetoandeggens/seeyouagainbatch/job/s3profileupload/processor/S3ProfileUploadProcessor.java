@@ -7,15 +7,25 @@ import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.common.buffer.DirectBufferPool;
+import tetoandeggens.seeyouagainbatch.common.buffer.PooledBuffer;
 import tetoandeggens.seeyouagainbatch.domain.AnimalProfile;
 import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageValidator;
 import tetoandeggens.seeyouagainbatch.job.s3profileupload.exception.ImageNotFoundException;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.service.ProfileImageDedupService;
 
 @Slf4j
 @Component
@@ -32,12 +42,39 @@ public class S3ProfileUploadProcessor implements ItemProcessor<AnimalProfile, Pr
 	private static final String ENCODED_RIGHT_BRACKET = "%5D";
 	private static final String ENCODED_SPACE = "%20";
 	private static final int HTTP_OK = 200;
+	private static final int HTTP_NOT_MODIFIED = 304;
 	private static final int HTTP_NOT_FOUND = 404;
+	private static final String CONTENT_LENGTH = "Content-Length";
+	private static final String CONTENT_TYPE = "Content-Type";
+	private static final String IMAGE_MEDIA_TYPE_PREFIX = "image/";
+	private static final String ETAG = "ETag";
+	private static final String LAST_MODIFIED = "Last-Modified";
+	private static final String IF_NONE_MATCH = "If-None-Match";
+	private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+	private static final String SPOOL_FILE_PREFIX = "s3-upload-";
+	private static final String SPOOL_FILE_SUFFIX = ".spool";
 
 	private final HttpClient httpClient;
+	private final DirectBufferPool imageBufferPool;
+	private final ProfileImageDedupService profileImageDedupService;
+	private final boolean streamingEnabled;
+	private final boolean bufferPoolEnabled;
+	private final boolean dedupEnabled;
 
-	public S3ProfileUploadProcessor(HttpClient httpClient) {
+	public S3ProfileUploadProcessor(
+		HttpClient httpClient,
+		DirectBufferPool imageBufferPool,
+		ProfileImageDedupService profileImageDedupService,
+		@Value("${batch.s3upload.streaming-enabled:false}") boolean streamingEnabled,
+		@Value("${batch.s3upload.buffer-pool.enabled:false}") boolean bufferPoolEnabled,
+		@Value("${batch.s3upload.dedup-enabled:false}") boolean dedupEnabled
+	) {
 		this.httpClient = httpClient;
+		this.imageBufferPool = imageBufferPool;
+		this.profileImageDedupService = profileImageDedupService;
+		this.streamingEnabled = streamingEnabled;
+		this.bufferPoolEnabled = bufferPoolEnabled;
+		this.dedupEnabled = dedupEnabled;
 	}
 
 	@Override
@@ -60,24 +97,40 @@ public class S3ProfileUploadProcessor implements ItemProcessor<AnimalProfile, Pr
 			return null;
 		}
 
-		String s3Key = generateS3Key(profile.getId());
-
 		try {
-			HttpResponse<InputStream> response = downloadImageAsStream(profileUrl);
+			// 스트리밍 모드는 본문을 메모리에 올리지 않으므로 내용 해시 키를 쓰지 않는다
+			if (dedupEnabled && !streamingEnabled) {
+				return downloadDeduplicated(profile, profileUrl);
+			}
 
-			byte[] imageBytes;
-			try (InputStream inputStream = response.body()) {
-				imageBytes = inputStream.readAllBytes();
+			String s3Key = generateS3Key(profile.getId());
+			HttpResponse<InputStream> response = downloadImageAsStream(profileUrl, null);
+
+			if (streamingEnabled) {
+				// 청크 동안 이미지를 힙에 들고 있지 않도록 본문을 임시 파일에 받아 두고, 업로드는 writer 단계에서 한다
+				// 응답 스트림을 열어 둔 채 넘기면 청크가 끝날 때까지 호스트별 동시 요청 허가가 반환되지 않는다
+				return ProfileImageData.builder()
+					.profile(profile)
+					.spoolFile(spoolToFile(response))
+					.s3Key(s3Key)
+					.contentType(contentTypeOf(response))
+					.build();
 			}
 
-			if (imageBytes.length == 0) {
-				throw new IOException("다운로드한 이미지가 비어있음");
+			if (bufferPoolEnabled) {
+				return ProfileImageData.builder()
+					.profile(profile)
+					.imageBuffer(readPooledBuffer(response))
+					.s3Key(s3Key)
+					.contentType(contentTypeOf(response))
+					.build();
 			}
 
 			return ProfileImageData.builder()
 				.profile(profile)
-				.imageBytes(imageBytes)
+				.imageBytes(readImageBytes(response))
 				.s3Key(s3Key)
+				.contentType(contentTypeOf(response))
 				.build();
 
 		} catch (ImageNotFoundException e) {
@@ -88,31 +141,163 @@ public class S3ProfileUploadProcessor implements ItemProcessor<AnimalProfile, Pr
 		}
 	}
 
+	private ProfileImageData downloadDeduplicated(AnimalProfile profile, String profileUrl) throws
+		IOException,
+		InterruptedException,
+		URISyntaxException,
+		ImageNotFoundException {
+		Long animalId = profile.getAnimal().getId();
+
+		Optional<ProfileImageValidator> known = profileImageDedupService.findValidator(profileUrl);
+		boolean knownStored = known.isPresent()
+			&& profileImageDedupService.isStored(generateContentAddressedKey(animalId, known.get().getContentHash()));
+
+		// 저장된 이미지라도 검증자가 있으면 조건부 요청으로 원본이 바뀌지 않았는지 확인한다
+		ProfileImageValidator revalidating = knownStored && known.get().hasValidators() ? known.get() : null;
+		if (knownStored && revalidating == null) {
+			log.debug("이미 저장된 이미지라 다운로드를 건너뜀. Profile ID: {}", profile.getId());
+			return null;
+		}
+
+		HttpResponse<InputStream> response = downloadImageAsStream(profileUrl, revalidating);
+		if (revalidating != null) {
+			profileImageDedupService.recordRevalidation(response == null);
+		}
+		if (response == null) {
+			log.debug("원본 이미지가 바뀌지 않아(304) 다운로드를 건너뜀. Profile ID: {}", profile.getId());
+			return null;
+		}
+
+		byte[] imageBytes = null;
+		PooledBuffer imageBuffer = null;
+		String contentHash;
+		if (bufferPoolEnabled) {
+			imageBuffer = readPooledBuffer(response);
+			contentHash = ProfileImageDedupService.hash(imageBuffer.readOnlyView());
+		} else {
+			imageBytes = readImageBytes(response);
+			contentHash = ProfileImageDedupService.hash(imageBytes);
+		}
+		profileImageDedupService.saveValidator(profileUrl, new ProfileImageValidator(
+			contentHash,
+			response.headers().firstValue(ETAG).orElse(null),
+			response.headers().firstValue(LAST_MODIFIED).orElse(null)));
+
+		String s3Key = generateContentAddressedKey(animalId, contentHash);
+		if (profileImageDedupService.isStored(s3Key)) {
+			// 주소는 달라도 내용이 같은 이미지가 이미 저장되어 있으면 업로드하지 않는다
+			log.debug("같은 내용의 이미지가 이미 저장되어 업로드를 건너뜀. Profile ID: {}", profile.getId());
+			if (imageBuffer != null) {
+				imageBuffer.release();
+			}
+			return null;
+		}
+
+		return ProfileImageData.builder()
+			.profile(profile)
+			.imageBytes(imageBytes)
+			.imageBuffer(imageBuffer)
+			.s3Key(s3Key)
+			.contentType(contentTypeOf(response))
+			.build();
+	}
+
+	// 변환 없이 올릴 때 원본 형식을 그대로 쓰도록 미디어 타입만 남긴다. 이미지가 아니면 형식을 단정하지 않는다
+	private String contentTypeOf(HttpResponse<InputStream> response) {
+		return response.headers().firstValue(CONTENT_TYPE)
+			.map(value -> value.split(";", 2)[0].trim().toLowerCase(Locale.ROOT))
+			.filter(mediaType -> mediaType.startsWith(IMAGE_MEDIA_TYPE_PREFIX))
+			.orElse(null);
+	}
+
+	private byte[] readImageBytes(HttpResponse<InputStream> response) throws IOException {
+		byte[] imageBytes;
+		try (InputStream inputStream = response.body()) {
+			imageBytes = inputStream.readAllBytes();
+		}
+
+		if (imageBytes.length == 0) {
+			throw new IOException("다운로드한 이미지가 비어있음");
+		}
+
+		return imageBytes;
+	}
+
+	private PooledBuffer readPooledBuffer(HttpResponse<InputStream> response) throws IOException {
+		PooledBuffer imageBuffer;
+		try (InputStream inputStream = response.body()) {
+			imageBuffer = imageBufferPool.readFully(inputStream, response.headers().firstValueAsLong(CONTENT_LENGTH).orElse(-1L));
+		}
+
+		if (imageBuffer.size() == 0) {
+			imageBuffer.release();
+			throw new IOException("다운로드한 이미지가 비어있음");
+		}
+
+		return imageBuffer;
+	}
+
+	private Path spoolToFile(HttpResponse<InputStream> response) throws IOException {
+		Path spoolFile = Files.createTempFile(SPOOL_FILE_PREFIX, SPOOL_FILE_SUFFIX);
+		try (InputStream inputStream = response.body()) {
+			if (Files.copy(inputStream, spoolFile, StandardCopyOption.REPLACE_EXISTING) == 0) {
+				throw new IOException("다운로드한 이미지가 비어있음");
+			}
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(spoolFile);
+			throw e;
+		}
+
+		return spoolFile;
+	}
+
 	private String generateS3Key(Long animalProfileId) {
 		String uuid = UUID.randomUUID().toString();
 		return S3_KEY_PREFIX + PUBLIC_DATA_PREFIX + animalProfileId + UNDERSCORE + uuid + FILE_EXTENSION;
 	}
 
-	private HttpResponse<InputStream> downloadImageAsStream(String imageUrl) throws
+	// 같은 동물의 같은 이미지는 항상 같은 키가 되도록 동물 ID와 내용 해시로 키를 만든다
+	private String generateContentAddressedKey(Long animalId, String contentHash) {
+		return S3_KEY_PREFIX + PUBLIC_DATA_PREFIX + animalId + UNDERSCORE + contentHash + FILE_EXTENSION;
+	}
+
+	// validator가 있으면 조건부 요청을 보내고, 원본이 바뀌지 않았으면(304) null을 반환한다
+	private HttpResponse<InputStream> downloadImageAsStream(String imageUrl, ProfileImageValidator validator) throws
 		IOException,
 		InterruptedException,
 		URISyntaxException,
 		ImageNotFoundException {
 		URI uri = encodeUrl(imageUrl);
 
-		HttpRequest request = HttpRequest.newBuilder()
+		HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
 			.uri(uri)
-			.GET()
-			.build();
+			.GET();
+		if (validator != null && validator.getEtag() != null) {
+			requestBuilder.header(IF_NONE_MATCH, validator.getEtag());
+		}
+		if (validator != null && validator.getLastModified() != null) {
+			requestBuilder.header(IF_MODIFIED_SINCE, validator.getLastModified());
+		}
 
-		HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+		HttpResponse<InputStream> response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofInputStream());
 
+		if (response.statusCode() == HTTP_NOT_MODIFIED) {
+			try (InputStream ignored = response.body()) {
+				return null;
+			}
+		}
+
+		// 실패 응답도 본문을 닫아야 커넥션과 호스트별 동시 요청 허가가 반환된다
 		if (response.statusCode() == HTTP_NOT_FOUND) {
-			throw new ImageNotFoundException("이미지를 찾을 수 없음. URL: " + imageUrl);
+			try (InputStream ignored = response.body()) {
+				throw new ImageNotFoundException("이미지를 찾을 수 없음. URL: " + imageUrl);
+			}
 		}
 
 		if (response.statusCode() != HTTP_OK) {
-			throw new IOException("이미지 다운로드 실패. Status: " + response.statusCode() + ", URL: " + imageUrl);
+			try (InputStream ignored = response.body()) {
+				throw new IOException("이미지 다운로드 실패. Status: " + response.statusCode() + ", URL: " + imageUrl);
+			}
 		}
 
 		return response;
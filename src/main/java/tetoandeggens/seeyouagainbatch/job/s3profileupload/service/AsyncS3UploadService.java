@@ -0,0 +1,115 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import tetoandeggens.seeyouagainbatch.common.buffer.PooledBuffer;
+import tetoandeggens.seeyouagainbatch.common.image.WebpTranscoder;
+import tetoandeggens.seeyouagainbatch.domain.ImageType;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "batch.s3.async.enabled", havingValue = "true")
+public class AsyncS3UploadService implements S3UploadService {
+
+	private final S3AsyncClient s3AsyncClient;
+	private final Semaphore inFlightPermits;
+	private final String bucketName;
+
+	public AsyncS3UploadService(
+		S3AsyncClient s3AsyncClient,
+		@Value("${batch.s3.async.max-concurrency:64}") int maxConcurrency,
+		@Value("${aws.s3.bucket}") String bucketName
+	) {
+		this.s3AsyncClient = s3AsyncClient;
+		this.inFlightPermits = new Semaphore(maxConcurrency);
+		this.bucketName = bucketName;
+	}
+
+	@Override
+	public CompletableFuture<Void> uploadBatch(List<? extends ProfileImageData> items) {
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (ProfileImageData imageData : items) {
+			futures.add(uploadToS3(imageData));
+		}
+
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+	}
+
+	private CompletableFuture<Void> uploadToS3(ProfileImageData imageData) {
+		// 동시에 보내는 요청 수를 제한해 응답을 기다리는 요청이 무한정 쌓이지 않도록 한다
+		try {
+			inFlightPermits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			imageData.releaseImage();
+			return CompletableFuture.failedFuture(e);
+		}
+
+		CompletableFuture<?> response;
+		try {
+			response = putObject(imageData.getS3Key(), createRequestBody(imageData), imageData.getContentType());
+			// 썸네일은 본 이미지와 같은 허가 안에서 동시에 올린다
+			String thumbnailKey = WebpTranscoder.thumbnailKey(imageData.getS3Key());
+			if (imageData.getThumbnailBytes() != null) {
+				response = CompletableFuture.allOf(response, putObject(thumbnailKey,
+					AsyncRequestBody.fromBytes(imageData.getThumbnailBytes()), ImageType.WEBP.getType()));
+			} else if (imageData.isThumbnailFromOriginal()) {
+				// 변환하지 못한 이미지는 원본을 썸네일 키에도 올린다
+				response = CompletableFuture.allOf(response,
+					putObject(thumbnailKey, createRequestBody(imageData), imageData.getContentType()));
+			}
+		} catch (Exception e) {
+			response = CompletableFuture.failedFuture(e);
+		}
+
+		return response.handle((result, e) -> {
+			inFlightPermits.release();
+			imageData.releaseImage();
+			if (e != null) {
+				log.error("S3 업로드 실패. Profile ID: {}, S3 Key: {}, Error: {}",
+					imageData.getProfile().getId(),
+					imageData.getS3Key(),
+					e.getMessage(), e);
+			}
+			return null;
+		});
+	}
+
+	private CompletableFuture<PutObjectResponse> putObject(String s3Key, AsyncRequestBody requestBody,
+		String contentType) {
+		PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+			.bucket(bucketName)
+			.key(s3Key)
+			.contentType(contentType)
+			.build();
+
+		return s3AsyncClient.putObject(putObjectRequest, requestBody);
+	}
+
+	private AsyncRequestBody createRequestBody(ProfileImageData imageData) {
+		if (imageData.getSpoolFile() != null) {
+			return AsyncRequestBody.fromFile(imageData.getSpoolFile());
+		}
+
+		PooledBuffer imageBuffer = imageData.getImageBuffer();
+		if (imageBuffer == null) {
+			return AsyncRequestBody.fromBytes(imageData.getImageBytes());
+		}
+
+		// 응답이 끝난 뒤에야 버퍼를 풀에 돌려주므로 복사 없이 풀 버퍼를 그대로 넘긴다
+		return AsyncRequestBody.fromByteBufferUnsafe(imageBuffer.readOnlyView());
+	}
+}
@@ -0,0 +1,107 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.common.image.TranscodedImage;
+import tetoandeggens.seeyouagainbatch.common.image.WebpTranscoder;
+import tetoandeggens.seeyouagainbatch.domain.ImageType;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
+
+@Slf4j
+@Service
+public class ImageTranscodeService {
+
+	private final WebpTranscoder webpTranscoder;
+	private final ExecutorService executorService;
+	private final boolean enabled;
+
+	public ImageTranscodeService(
+		WebpTranscoder webpTranscoder,
+		@Qualifier("imageTranscodeExecutorService") ExecutorService imageTranscodeExecutorService,
+		@Value("${batch.s3upload.transcode.enabled:false}") boolean enabled
+	) {
+		this.webpTranscoder = webpTranscoder;
+		this.executorService = imageTranscodeExecutorService;
+		this.enabled = enabled;
+	}
+
+	public CompletableFuture<ProfileImageData> transcodeAsync(ProfileImageData imageData) {
+		if (!enabled || imageData == null || imageData.isUploaded() || !imageData.hasImage()) {
+			return CompletableFuture.completedFuture(imageData);
+		}
+		return CompletableFuture.supplyAsync(() -> transcode(imageData), executorService);
+	}
+
+	// 청크의 이미지를 CPU 실행기에서 나눠 변환하고 입력 순서대로 돌려준다
+	public List<? extends ProfileImageData> transcodeAll(List<? extends ProfileImageData> items) {
+		if (!enabled) {
+			return items;
+		}
+
+		List<CompletableFuture<ProfileImageData>> futures = new ArrayList<>(items.size());
+		for (ProfileImageData imageData : items) {
+			futures.add(transcodeAsync(imageData));
+		}
+
+		return futures.stream()
+			.map(CompletableFuture::join)
+			.toList();
+	}
+
+	private ProfileImageData transcode(ProfileImageData imageData) {
+		try {
+			TranscodedImage transcoded;
+			try (InputStream image = openImage(imageData)) {
+				transcoded = webpTranscoder.transcode(image);
+			}
+			if (transcoded == null) {
+				log.warn("디코딩할 수 없는 이미지 형식이라 원본 그대로 업로드. Profile ID: {}", imageData.getProfile().getId());
+				return withOriginalAsThumbnail(imageData);
+			}
+
+			// 변환한 결과만 올리므로 원본을 담은 풀 버퍼나 임시 파일은 바로 정리한다
+			imageData.releaseImage();
+			return ProfileImageData.builder()
+				.profile(imageData.getProfile())
+				.imageBytes(transcoded.getImage())
+				.thumbnailBytes(transcoded.getThumbnail())
+				.s3Key(imageData.getS3Key())
+				.contentType(ImageType.WEBP.getType())
+				.build();
+		} catch (Exception | LinkageError e) {
+			// 네이티브 인코더를 불러오지 못한 환경에서도 업로드는 원본으로 계속 진행한다
+			log.warn("WebP 변환 실패로 원본 그대로 업로드. Profile ID: {}, Error: {}",
+				imageData.getProfile().getId(), e.getMessage());
+			return withOriginalAsThumbnail(imageData);
+		}
+	}
+
+	// 원본은 자신의 형식으로 올리고, 썸네일 키에도 원본을 올려 썸네일을 찾는 요청이 실패하지 않도록 한다
+	private ProfileImageData withOriginalAsThumbnail(ProfileImageData imageData) {
+		return imageData.toBuilder()
+			.thumbnailFromOriginal(true)
+			.build();
+	}
+
+	private InputStream openImage(ProfileImageData imageData) throws IOException {
+		if (imageData.getImageBuffer() != null) {
+			return imageData.getImageBuffer().newInputStream();
+		}
+		if (imageData.getSpoolFile() != null) {
+			return Files.newInputStream(imageData.getSpoolFile());
+		}
+		return new ByteArrayInputStream(imageData.getImageBytes());
+	}
+}
@@ -0,0 +1,140 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.service;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import tetoandeggens.seeyouagainbatch.common.buffer.ByteBufferInputStream;
+
+// 큰 이미지를 파트로 나눠 병렬로 올리고, 실패한 파트만 다시 보낸다
+@Slf4j
+@Service
+public class MultipartS3UploadService {
+
+	// S3는 마지막 파트를 제외한 모든 파트가 5MB 이상이어야 한다
+	private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+	private final S3Client s3Client;
+	private final ExecutorService executorService;
+	private final String bucketName;
+	private final int partSize;
+	private final int maxPartAttempts;
+
+	public MultipartS3UploadService(
+		S3Client s3Client,
+		@Qualifier("s3PartUploadExecutorService") ExecutorService s3PartUploadExecutorService,
+		@Value("${aws.s3.bucket}") String bucketName,
+		@Value("${batch.s3upload.multipart.part-size-bytes:8388608}") int partSize,
+		@Value("${batch.s3upload.multipart.max-part-attempts:3}") int maxPartAttempts
+	) {
+		Assert.isTrue(partSize >= MIN_PART_SIZE, "partSize must be at least 5MB");
+		Assert.isTrue(maxPartAttempts > 0, "maxPartAttempts must be positive");
+		this.s3Client = s3Client;
+		this.executorService = s3PartUploadExecutorService;
+		this.bucketName = bucketName;
+		this.partSize = partSize;
+		this.maxPartAttempts = maxPartAttempts;
+	}
+
+	public void upload(String s3Key, ByteBuffer content, String contentType) {
+		String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+				.bucket(bucketName)
+				.key(s3Key)
+				.contentType(contentType)
+				.build())
+			.uploadId();
+
+		List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+		int partNumber = 1;
+		for (int offset = 0; offset < content.remaining(); offset += partSize) {
+			ByteBuffer part = content.slice(content.position() + offset, Math.min(partSize, content.remaining() - offset));
+			int currentPartNumber = partNumber++;
+			futures.add(CompletableFuture.supplyAsync(
+				() -> uploadPart(s3Key, uploadId, currentPartNumber, part, contentType), executorService));
+		}
+
+		try {
+			// allOf는 실패한 파트가 있어도 모든 파트가 끝난 뒤에 완료되므로, 진행 중인 파트 없이 중단할 수 있다
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+			s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+				.bucket(bucketName)
+				.key(s3Key)
+				.uploadId(uploadId)
+				.multipartUpload(CompletedMultipartUpload.builder()
+					.parts(futures.stream().map(CompletableFuture::join).toList())
+					.build())
+				.build());
+		} catch (CompletionException e) {
+			abort(s3Key, uploadId);
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		} catch (RuntimeException e) {
+			abort(s3Key, uploadId);
+			throw e;
+		}
+	}
+
+	private CompletedPart uploadPart(String s3Key, String uploadId, int partNumber, ByteBuffer part,
+		String contentType) {
+		UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+			.bucket(bucketName)
+			.key(s3Key)
+			.uploadId(uploadId)
+			.partNumber(partNumber)
+			.contentLength((long)part.remaining())
+			.build();
+
+		for (int attempt = 1; ; attempt++) {
+			try {
+				// 재시도마다 처음부터 읽도록 파트 뷰를 복제해 넘긴다
+				UploadPartResponse response = s3Client.uploadPart(uploadPartRequest, RequestBody.fromContentProvider(
+					() -> new ByteBufferInputStream(part.duplicate()), part.remaining(), contentType));
+
+				return CompletedPart.builder()
+					.partNumber(partNumber)
+					.eTag(response.eTag())
+					.build();
+			} catch (SdkException e) {
+				if (attempt >= maxPartAttempts) {
+					throw e;
+				}
+				log.warn("멀티파트 파트 업로드 재시도. S3 Key: {}, Part: {}, 시도: {}/{}, Error: {}",
+					s3Key, partNumber, attempt, maxPartAttempts, e.getMessage());
+			}
+		}
+	}
+
+	private void abort(String s3Key, String uploadId) {
+		try {
+			s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+				.bucket(bucketName)
+				.key(s3Key)
+				.uploadId(uploadId)
+				.build());
+		} catch (Exception e) {
+			log.error("멀티파트 업로드 중단 실패. S3 Key: {}, Upload ID: {}, Error: {}", s3Key, uploadId, e.getMessage(), e);
+		}
+	}
+}
@@ -1,39 +1,59 @@
 package tetoandeggens.seeyouagainbatch.job.s3profileupload.service;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import tetoandeggens.seeyouagainbatch.common.buffer.PooledBuffer;
+import tetoandeggens.seeyouagainbatch.common.image.WebpTranscoder;
 import tetoandeggens.seeyouagainbatch.domain.ImageType;
 import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
 
 @Slf4j
 @Service
-public class ParallelS3UploadService {
+@ConditionalOnProperty(name = "batch.s3.async.enabled", havingValue = "false", matchIfMissing = true)
+public class ParallelS3UploadService implements S3UploadService {
 
 	private final S3Client s3Client;
+	private final MultipartS3UploadService multipartS3UploadService;
 	private final ExecutorService executorService;
 	private final String bucketName;
+	private final boolean multipartEnabled;
+	private final long multipartThreshold;
 
 	public ParallelS3UploadService(
 		S3Client s3Client,
-		ExecutorService s3UploadExecutorService,
-		@Value("${aws.s3.bucket}") String bucketName
+		MultipartS3UploadService multipartS3UploadService,
+		@Qualifier("s3UploadExecutorService") ExecutorService s3UploadExecutorService,
+		@Value("${aws.s3.bucket}") String bucketName,
+		@Value("${batch.s3upload.multipart.enabled:false}") boolean multipartEnabled,
+		@Value("${batch.s3upload.multipart.threshold-bytes:16777216}") long multipartThreshold
 	) {
 		this.s3Client = s3Client;
+		this.multipartS3UploadService = multipartS3UploadService;
 		this.executorService = s3UploadExecutorService;
 		this.bucketName = bucketName;
+		this.multipartEnabled = multipartEnabled;
+		this.multipartThreshold = multipartThreshold;
 	}
 
-	public void uploadBatch(List<? extends ProfileImageData> items) {
+	@Override
+	public CompletableFuture<Void> uploadBatch(List<? extends ProfileImageData> items) {
 		List<CompletableFuture<Void>> futures = new ArrayList<>();
 		for (ProfileImageData imageData : items) {
 			CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
@@ -44,21 +64,83 @@ public class ParallelS3UploadService {
 						imageData.getProfile().getId(),
 						imageData.getS3Key(),
 						e.getMessage(), e);
+				} finally {
+					imageData.releaseImage();
 				}
 			}, executorService);
 			futures.add(future);
 		}
 
-		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
 	}
 
-	private void uploadToS3(ProfileImageData imageData) {
+	private void uploadToS3(ProfileImageData imageData) throws IOException {
+		uploadImage(imageData.getS3Key(), imageData);
+
+		String thumbnailKey = WebpTranscoder.thumbnailKey(imageData.getS3Key());
+		if (imageData.getThumbnailBytes() != null) {
+			putObject(thumbnailKey, RequestBody.fromBytes(imageData.getThumbnailBytes()), ImageType.WEBP.getType());
+		} else if (imageData.isThumbnailFromOriginal()) {
+			// 변환하지 못한 이미지는 원본을 썸네일 키에도 올린다
+			uploadImage(thumbnailKey, imageData);
+		}
+	}
+
+	private void uploadImage(String s3Key, ProfileImageData imageData) throws IOException {
+		if (multipartEnabled && imageSize(imageData) >= multipartThreshold) {
+			// 큰 이미지는 한 요청에 업로드 스레드를 오래 붙잡지 않도록 파트로 나눠 올린다
+			multipartS3UploadService.upload(s3Key, imageContent(imageData), imageData.getContentType());
+		} else {
+			putObject(s3Key, createRequestBody(imageData), imageData.getContentType());
+		}
+	}
+
+	private void putObject(String s3Key, RequestBody requestBody, String contentType) {
 		PutObjectRequest putObjectRequest = PutObjectRequest.builder()
 			.bucket(bucketName)
-			.key(imageData.getS3Key())
-			.contentType(ImageType.WEBP.getType())
+			.key(s3Key)
+			.contentType(contentType)
 			.build();
 
-		s3Client.putObject(putObjectRequest, RequestBody.fromBytes(imageData.getImageBytes()));
+		s3Client.putObject(putObjectRequest, requestBody);
+	}
+
+	private long imageSize(ProfileImageData imageData) throws IOException {
+		if (imageData.getSpoolFile() != null) {
+			return Files.size(imageData.getSpoolFile());
+		}
+		if (imageData.getImageBuffer() != null) {
+			return imageData.getImageBuffer().size();
+		}
+		return imageData.getImageBytes().length;
+	}
+
+	private ByteBuffer imageContent(ProfileImageData imageData) throws IOException {
+		if (imageData.getSpoolFile() != null) {
+			// 임시 파일은 힙에 올리지 않고 매핑해 파트로 나눈다
+			try (FileChannel channel = FileChannel.open(imageData.getSpoolFile(), StandardOpenOption.READ)) {
+				return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			}
+		}
+
+		PooledBuffer imageBuffer = imageData.getImageBuffer();
+		if (imageBuffer != null) {
+			return imageBuffer.readOnlyView();
+		}
+		return ByteBuffer.wrap(imageData.getImageBytes()).asReadOnlyBuffer();
+	}
+
+	private RequestBody createRequestBody(ProfileImageData imageData) {
+		if (imageData.getSpoolFile() != null) {
+			return RequestBody.fromFile(imageData.getSpoolFile());
+		}
+
+		PooledBuffer imageBuffer = imageData.getImageBuffer();
+		if (imageBuffer == null) {
+			return RequestBody.fromBytes(imageData.getImageBytes());
+		}
+
+		// fromByteBuffer는 내용을 byte[]로 복사하므로 풀 버퍼를 그대로 읽는 스트림으로 넘긴다
+		return RequestBody.fromContentProvider(imageBuffer::newInputStream, imageBuffer.size(), imageData.getContentType());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.constant.ProfileImageHashEntityField;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageValidator;
+
+// 원본 URL별 이미지 내용 해시와 조건부 요청 검증자(ETag, Last-Modified)를 기억해 이미 저장된 이미지는 다시 받거나 올리지 않도록 한다
+@Slf4j
+@Service
+public class ProfileImageDedupService implements MeterBinder {
+
+	private static final String HASH_ALGORITHM = "SHA-256";
+	private static final String PARAM_PROFILE = "profile";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private final String cloudfrontDomain;
+	private final int maxSize;
+	private final Map<String, ProfileImageValidator> localCache;
+	private final AtomicLong notModifiedCount = new AtomicLong();
+	private final AtomicLong modifiedCount = new AtomicLong();
+
+	public ProfileImageDedupService(
+		@Qualifier("businessNamedParameterJdbcTemplate") NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+		@Value("${cloudfront.domain}") String cloudfrontDomain,
+		@Value("${batch.s3upload.dedup.cache-size:10000}") int maxSize
+	) {
+		this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+		this.cloudfrontDomain = cloudfrontDomain;
+		this.maxSize = maxSize;
+		this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ProfileImageValidator> eldest) {
+				return size() > ProfileImageDedupService.this.maxSize;
+			}
+		});
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("batch.s3upload.conditional-fetch", notModifiedCount, AtomicLong::get)
+			.description("검증자를 붙여 보낸 이미지 요청 수")
+			.tag("result", "not-modified")
+			.register(registry);
+		FunctionCounter.builder("batch.s3upload.conditional-fetch", modifiedCount, AtomicLong::get)
+			.description("검증자를 붙여 보낸 이미지 요청 수")
+			.tag("result", "modified")
+			.register(registry);
+		Gauge.builder("batch.s3upload.conditional-fetch.hit-ratio", this, ProfileImageDedupService::getHitRatio)
+			.description("조건부 요청 중 304로 전송을 건너뛴 비율")
+			.register(registry);
+	}
+
+	public Optional<ProfileImageValidator> findValidator(String sourceUrl) {
+		String urlKey = hash(sourceUrl.getBytes(StandardCharsets.UTF_8));
+
+		ProfileImageValidator cached = localCache.get(urlKey);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+
+		String sql = "SELECT content_hash, etag, last_modified FROM profile_image_hash WHERE url_key = :url_key";
+		MapSqlParameterSource params = new MapSqlParameterSource(ProfileImageHashEntityField.URL_KEY.getColumnName(), urlKey);
+
+		try {
+			List<ProfileImageValidator> validators = namedParameterJdbcTemplate.query(sql, params, (rs, rowNum) ->
+				new ProfileImageValidator(
+					rs.getString(ProfileImageHashEntityField.CONTENT_HASH.getColumnName()),
+					rs.getString(ProfileImageHashEntityField.ETAG.getColumnName()),
+					rs.getString(ProfileImageHashEntityField.LAST_MODIFIED.getColumnName())
+				));
+			Optional<ProfileImageValidator> stored = validators.stream().findFirst();
+			stored.ifPresent(validator -> localCache.put(urlKey, validator));
+			return stored;
+		} catch (DataAccessException e) {
+			log.warn("이미지 해시 조회 실패: {}, {}", sourceUrl, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	public void saveValidator(String sourceUrl, ProfileImageValidator validator) {
+		String urlKey = hash(sourceUrl.getBytes(StandardCharsets.UTF_8));
+		localCache.put(urlKey, validator);
+
+		String sql =
+			"INSERT INTO profile_image_hash (url_key, content_hash, etag, last_modified, created_at, updated_at) " +
+				"VALUES (:url_key, :content_hash, :etag, :last_modified, NOW(), NOW()) " +
+				"ON DUPLICATE KEY UPDATE content_hash = VALUES(content_hash), etag = VALUES(etag), " +
+				"last_modified = VALUES(last_modified), updated_at = NOW()";
+
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue(ProfileImageHashEntityField.URL_KEY.getColumnName(), urlKey)
+			.addValue(ProfileImageHashEntityField.CONTENT_HASH.getColumnName(), validator.getContentHash())
+			.addValue(ProfileImageHashEntityField.ETAG.getColumnName(), validator.getEtag())
+			.addValue(ProfileImageHashEntityField.LAST_MODIFIED.getColumnName(), validator.getLastModified());
+
+		try {
+			namedParameterJdbcTemplate.update(sql, params);
+		} catch (DataAccessException e) {
+			log.warn("이미지 해시 저장 실패: {}, {}", sourceUrl, e.getMessage());
+		}
+	}
+
+	// 삭제 Job이 객체와 함께 행을 지우므로 animal_s3_profile을 저장 여부의 기준으로 삼는다
+	public boolean isStored(String s3Key) {
+		String sql = "SELECT COUNT(*) FROM animal_s3_profile WHERE profile = :profile AND is_deleted = false";
+
+		try {
+			Long count = namedParameterJdbcTemplate.queryForObject(sql,
+				new MapSqlParameterSource(PARAM_PROFILE, cloudfrontDomain + s3Key), Long.class);
+			return count != null && count > 0;
+		} catch (DataAccessException e) {
+			log.warn("S3 프로필 저장 여부 조회 실패: {}, {}", s3Key, e.getMessage());
+			return false;
+		}
+	}
+
+	public void recordRevalidation(boolean notModified) {
+		if (notModified) {
+			notModifiedCount.incrementAndGet();
+		} else {
+			modifiedCount.incrementAndGet();
+		}
+	}
+
+	public double getHitRatio() {
+		long hits = notModifiedCount.get();
+		long total = hits + modifiedCount.get();
+		return total == 0 ? 0d : (double)hits / total;
+	}
+
+	public void clearLocalCache() {
+		localCache.clear();
+	}
+
+	public static String hash(byte[] content) {
+		return HexFormat.of().formatHex(newDigest().digest(content));
+	}
+
+	public static String hash(ByteBuffer content) {
+		MessageDigest digest = newDigest();
+		digest.update(content.duplicate());
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(HASH_ALGORITHM + " 알고리즘을 사용할 수 없음", e);
+		}
+	}
+}
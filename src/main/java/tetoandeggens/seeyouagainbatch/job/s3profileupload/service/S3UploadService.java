@@ -0,0 +1,11 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
+
+public interface S3UploadService {
+
+	CompletableFuture<Void> uploadBatch(List<? extends ProfileImageData> items);
+}
@@ -8,7 +8,8 @@ import lombok.RequiredArgsConstructor;
 public enum S3ProfileUploadJobParameterKey {
 
 	START_DATE("startDate"),
-	END_DATE("endDate");
+	END_DATE("endDate"),
+	GRID_SIZE("gridSize");
 
 	private final String key;
 }
\ No newline at end of file
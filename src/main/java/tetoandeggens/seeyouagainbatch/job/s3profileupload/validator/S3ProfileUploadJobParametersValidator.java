@@ -14,6 +14,8 @@ import jakarta.annotation.Nullable;
 @Component
 public class S3ProfileUploadJobParametersValidator implements JobParametersValidator {
 
+	private static final int MIN_GRID_SIZE = 1;
+	private static final int MAX_GRID_SIZE = 64;
 	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
 	@Override
@@ -27,6 +29,9 @@ public class S3ProfileUploadJobParametersValidator implements JobParametersValid
 		LocalDate endDate = validateDateParameter(parameters, S3ProfileUploadJobParameterKey.END_DATE);
 
 		validateDateRange(startDate, endDate);
+
+		validateOptionalIntegerParameter(parameters, S3ProfileUploadJobParameterKey.GRID_SIZE,
+			MIN_GRID_SIZE, MAX_GRID_SIZE);
 	}
 
 	private LocalDate validateDateParameter(JobParameters parameters, S3ProfileUploadJobParameterKey paramKey)
@@ -48,6 +53,21 @@ public class S3ProfileUploadJobParametersValidator implements JobParametersValid
 		}
 	}
 
+	private void validateOptionalIntegerParameter(JobParameters parameters, S3ProfileUploadJobParameterKey paramKey,
+		int min, int max) throws JobParametersInvalidException {
+
+		Long value = parameters.getLong(paramKey.getKey());
+		if (value == null) {
+			return;
+		}
+
+		if (value < min || value > max) {
+			throw new JobParametersInvalidException(
+				S3ProfileUploadValidationErrorMessage.PARAMETER_OUT_OF_RANGE.format(paramKey.getKey(), value, min, max)
+			);
+		}
+	}
+
 	private void validateDateRange(LocalDate startDate, LocalDate endDate) throws JobParametersInvalidException {
 
 		if (startDate.isAfter(endDate)) {
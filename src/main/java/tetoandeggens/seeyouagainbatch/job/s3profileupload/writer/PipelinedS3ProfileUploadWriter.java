@@ -0,0 +1,62 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.writer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.listener.S3UploadRollbackListener;
+
+// AsyncItemWriter처럼 프로세서가 넘긴 Future를 모두 기다린 뒤, 업로드가 끝난 결과만 DB 저장 writer로 넘긴다
+@Component
+@RequiredArgsConstructor
+public class PipelinedS3ProfileUploadWriter implements ItemWriter<CompletableFuture<ProfileImageData>> {
+
+	private final S3ProfileUploadWriter s3ProfileUploadWriter;
+	private final S3UploadRollbackListener s3UploadRollbackListener;
+
+	@Override
+	public void write(Chunk<? extends CompletableFuture<ProfileImageData>> chunk) throws Exception {
+		List<ProfileImageData> results = new ArrayList<>(chunk.size());
+		Exception failure = null;
+		for (CompletableFuture<ProfileImageData> future : chunk) {
+			try {
+				ProfileImageData imageData = await(future);
+				if (imageData != null) {
+					results.add(imageData);
+				}
+			} catch (Exception e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+
+		// 실패한 Future가 있어도 나머지 업로드가 끝날 때까지 기다린 뒤 키를 등록해야 롤백 때 빠짐없이 지운다
+		s3UploadRollbackListener.register(results.stream().map(ProfileImageData::getS3Key).toList());
+		if (failure != null) {
+			throw failure;
+		}
+
+		s3ProfileUploadWriter.write(new Chunk<>(results));
+	}
+
+	private ProfileImageData await(CompletableFuture<ProfileImageData> future) throws Exception {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof Exception cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
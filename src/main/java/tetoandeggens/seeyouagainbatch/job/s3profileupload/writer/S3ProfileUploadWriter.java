@@ -6,46 +6,77 @@ import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
+import tetoandeggens.seeyouagainbatch.common.jdbc.BulkInsertStatement;
+import tetoandeggens.seeyouagainbatch.common.jdbc.MultiRowBulkInserter;
 import tetoandeggens.seeyouagainbatch.constant.AnimalS3ProfileEntityField;
 import tetoandeggens.seeyouagainbatch.domain.AnimalS3Profile;
 import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
-import tetoandeggens.seeyouagainbatch.job.s3profileupload.service.ParallelS3UploadService;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.listener.S3UploadRollbackListener;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.service.ImageTranscodeService;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.service.S3UploadService;
 
 @Slf4j
 @Component
 public class S3ProfileUploadWriter implements ItemWriter<ProfileImageData> {
 
-	private final ParallelS3UploadService parallelS3UploadService;
-	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private static final BulkInsertStatement INSERT_STATEMENT = BulkInsertStatement.builder()
+		.table("animal_s3_profile")
+		.columns(List.of(
+			AnimalS3ProfileEntityField.PROFILE.getColumnName(),
+			AnimalS3ProfileEntityField.IMAGE_TYPE.getColumnName(),
+			AnimalS3ProfileEntityField.ANIMAL_ID.getColumnName(),
+			AnimalS3ProfileEntityField.IS_DELETED.getColumnName(),
+			AnimalS3ProfileEntityField.CREATED_AT.getColumnName(),
+			AnimalS3ProfileEntityField.UPDATED_AT.getColumnName()))
+		.rowTemplate("(?, ?, ?, false, NOW(), NOW())")
+		// 내용 해시 키에서는 같은 동물의 같은 이미지가 한 번 더 들어와도 실패하지 않도록 한다
+		// 재등록된 동물이면 기존 행이 소프트 삭제되어 있으므로 되살려야 삭제 작업이 새로 올린 이미지를 지우지 않는다
+		.onDuplicateKeyUpdate(AnimalS3ProfileEntityField.IS_DELETED.getColumnName() + " = false, "
+			+ AnimalS3ProfileEntityField.UPDATED_AT.getColumnName() + " = NOW()")
+		.build();
+
+	private final S3UploadService s3UploadService;
+	private final ImageTranscodeService imageTranscodeService;
+	private final MultiRowBulkInserter bulkInserter;
+	private final S3UploadRollbackListener s3UploadRollbackListener;
 	private final String cloudfrontDomain;
 
 	public S3ProfileUploadWriter(
-		ParallelS3UploadService parallelS3UploadService,
-		@Qualifier("businessNamedParameterJdbcTemplate") NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+		S3UploadService s3UploadService,
+		ImageTranscodeService imageTranscodeService,
+		@Qualifier("businessBulkInserter") MultiRowBulkInserter bulkInserter,
+		S3UploadRollbackListener s3UploadRollbackListener,
 		@Value("${cloudfront.domain}") String cloudfrontDomain
 	) {
-		this.parallelS3UploadService = parallelS3UploadService;
-		this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+		this.s3UploadService = s3UploadService;
+		this.imageTranscodeService = imageTranscodeService;
+		this.bulkInserter = bulkInserter;
+		this.s3UploadRollbackListener = s3UploadRollbackListener;
 		this.cloudfrontDomain = cloudfrontDomain;
 	}
 
 	@Override
 	public void write(Chunk<? extends ProfileImageData> chunk) {
 		List<? extends ProfileImageData> items = chunk.getItems().stream()
-			.filter(item -> item != null && item.getImageBytes() != null)
+			.filter(item -> item != null && (item.isUploaded() || item.hasImage()))
 			.toList();
 
 		if (items.isEmpty()) {
 			return;
 		}
 
-		parallelS3UploadService.uploadBatch(items);
+		// DB 저장이나 커밋이 실패하면 여기서 올린 객체는 참조되지 않으므로 롤백 때 지우도록 등록한다
+		s3UploadRollbackListener.register(items.stream().map(ProfileImageData::getS3Key).toList());
+
+		List<? extends ProfileImageData> pendingItems = items.stream()
+			.filter(item -> !item.isUploaded())
+			.toList();
+		if (!pendingItems.isEmpty()) {
+			s3UploadService.uploadBatch(imageTranscodeService.transcodeAll(pendingItems)).join();
+		}
 
 		List<AnimalS3Profile> s3Profiles = items.stream()
 			.map(imageData -> AnimalS3Profile.builder()
@@ -58,19 +89,11 @@ public class S3ProfileUploadWriter implements ItemWriter<ProfileImageData> {
 	}
 
 	private void bulkInsertS3Profiles(List<AnimalS3Profile> profiles) {
-		String insertSql = "INSERT INTO animal_s3_profile (profile, image_type, animal_id, is_deleted, created_at, updated_at) " +
-			"VALUES (:profile, :image_type, :animal_id, false, NOW(), NOW())";
-
-		SqlParameterSource[] batchParams = new SqlParameterSource[profiles.size()];
-		for (int i = 0; i < profiles.size(); i++) {
-			AnimalS3Profile profile = profiles.get(i);
-			batchParams[i] = new MapSqlParameterSource()
-				.addValue(AnimalS3ProfileEntityField.PROFILE.getColumnName(), profile.getProfile())
-				.addValue(AnimalS3ProfileEntityField.IMAGE_TYPE.getColumnName(), profile.getImageType().name())
-				.addValue(AnimalS3ProfileEntityField.ANIMAL_ID.getColumnName(), profile.getAnimal().getId());
-		}
-
-		namedParameterJdbcTemplate.batchUpdate(insertSql, batchParams);
+		bulkInserter.insert(INSERT_STATEMENT, profiles, (profile, values, offset) -> {
+			values[offset] = profile.getProfile();
+			values[offset + 1] = profile.getImageType().name();
+			values[offset + 2] = profile.getAnimal().getId();
+		});
 		log.info("{}개의 S3 프로필을 Bulk Insert 완료", profiles.size());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package tetoandeggens.seeyouagainbatch.common.buffer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DirectBufferPool 단위 테스트")
+class DirectBufferPoolTest {
+
+	private static final int SMALL = 1024;
+	private static final int LARGE = 4096;
+
+	private DirectBufferPool pool;
+
+	@BeforeEach
+	void setUp() {
+		pool = new DirectBufferPool(List.of(SMALL, LARGE), LARGE * 2);
+	}
+
+	@Test
+	@DisplayName("요청 크기보다 크거나 같은 가장 작은 등급의 다이렉트 버퍼를 준다")
+	void shouldAcquireSmallestFittingSizeClass() {
+		PooledBuffer pooled = pool.acquire(2000);
+
+		assertThat(pooled.buffer().isDirect()).isTrue();
+		assertThat(pooled.buffer().capacity()).isEqualTo(LARGE);
+		assertThat(pool.getBytesInUse()).isEqualTo(LARGE);
+	}
+
+	@Test
+	@DisplayName("반환한 버퍼는 같은 등급 요청에서 재사용되고 적중률에 반영된다")
+	void shouldReuseReleasedBuffer() {
+		PooledBuffer first = pool.acquire(SMALL);
+		first.release();
+
+		PooledBuffer second = pool.acquire(SMALL);
+
+		assertThat(second.buffer()).isSameAs(first.buffer());
+		assertThat(second.buffer().position()).isZero();
+		assertThat(pool.getHitRate()).isEqualTo(0.5);
+		assertThat(pool.getBytesInUse()).isEqualTo(SMALL);
+	}
+
+	@Test
+	@DisplayName("release를 여러 번 호출해도 한 번만 반환된다")
+	void shouldReleaseOnlyOnce() {
+		PooledBuffer pooled = pool.acquire(SMALL);
+
+		pooled.release();
+		pooled.release();
+
+		assertThat(pool.getBytesInUse()).isZero();
+		assertThat(pool.getPooledBytes()).isEqualTo(SMALL);
+	}
+
+	@Test
+	@DisplayName("보관 상한을 넘는 버퍼는 풀에 되돌리지 않는다")
+	void shouldNotRetainBeyondMaxPooledBytes() {
+		PooledBuffer first = pool.acquire(LARGE);
+		PooledBuffer second = pool.acquire(LARGE);
+		PooledBuffer third = pool.acquire(LARGE);
+
+		first.release();
+		second.release();
+		third.release();
+
+		assertThat(pool.getPooledBytes()).isEqualTo(LARGE * 2);
+		assertThat(pool.getBytesInUse()).isZero();
+	}
+
+	@Test
+	@DisplayName("가장 큰 등급보다 큰 요청은 풀에 두지 않는 버퍼로 처리한다")
+	void shouldAllocateUnpooledBufferForOversizedRequest() {
+		PooledBuffer pooled = pool.acquire(LARGE + 1);
+
+		assertThat(pooled.buffer().capacity()).isEqualTo(LARGE + 1);
+		pooled.release();
+
+		assertThat(pool.getBytesInUse()).isZero();
+		assertThat(pool.getPooledBytes()).isZero();
+	}
+
+	@Test
+	@DisplayName("크기 힌트가 없으면 버퍼를 키워 가며 스트림을 끝까지 읽는다")
+	void shouldGrowBufferWhenSizeIsUnknown() throws IOException {
+		byte[] source = createBytes(3000);
+
+		PooledBuffer pooled = pool.readFully(new ByteArrayInputStream(source), -1);
+
+		assertThat(pooled.size()).isEqualTo(3000);
+		assertThat(pooled.newInputStream().readAllBytes()).isEqualTo(source);
+		assertThat(pool.getBytesInUse()).isEqualTo(LARGE);
+		assertThat(pool.getPooledBytes()).isEqualTo(SMALL);
+	}
+
+	@Test
+	@DisplayName("크기 힌트와 본문 길이가 정확히 같으면 버퍼를 키우지 않는다")
+	void shouldNotGrowWhenSizeHintMatchesExactly() throws IOException {
+		byte[] source = createBytes(SMALL);
+
+		PooledBuffer pooled = pool.readFully(new ByteArrayInputStream(source), SMALL);
+
+		assertThat(pooled.buffer().capacity()).isEqualTo(SMALL);
+		assertThat(pooled.newInputStream().readAllBytes()).isEqualTo(source);
+	}
+
+	@Test
+	@DisplayName("읽기 뷰는 몇 번을 읽어도 원본 버퍼 위치를 바꾸지 않는다")
+	void shouldKeepBufferPositionWhenReadingViews() throws IOException {
+		PooledBuffer pooled = pool.readFully(new ByteArrayInputStream(createBytes(100)), 100);
+
+		pooled.newInputStream().readAllBytes();
+		pooled.newInputStream().readAllBytes();
+
+		assertThat(pooled.size()).isEqualTo(100);
+		assertThat(pooled.readOnlyView().remaining()).isEqualTo(100);
+	}
+
+	@Test
+	@DisplayName("읽는 도중 예외가 나면 버퍼를 반환하고 예외를 그대로 던진다")
+	void shouldReleaseBufferWhenReadFails() {
+		InputStream failing = new InputStream() {
+			@Override
+			public int read() throws IOException {
+				throw new IOException("연결 끊김");
+			}
+		};
+
+		assertThatThrownBy(() -> pool.readFully(failing, SMALL))
+			.isInstanceOf(IOException.class)
+			.hasMessage("연결 끊김");
+		assertThat(pool.getBytesInUse()).isZero();
+	}
+
+	private byte[] createBytes(int size) {
+		byte[] bytes = new byte[size];
+		for (int i = 0; i < size; i++) {
+			bytes[i] = (byte)i;
+		}
+		return bytes;
+	}
+}
@@ -0,0 +1,178 @@
+package tetoandeggens.seeyouagainbatch.common.http;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("HostLimitedHttpClient 단위 테스트")
+class HostLimitedHttpClientTest {
+
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+	private HttpClient delegate;
+	private SimpleMeterRegistry meterRegistry;
+	private HostLimitedHttpClient httpClient;
+	private ExecutorService callerThread;
+
+	@BeforeEach
+	void setUp() {
+		delegate = mock(HttpClient.class);
+		meterRegistry = new SimpleMeterRegistry();
+		httpClient = new HostLimitedHttpClient(delegate, 1, REQUEST_TIMEOUT, meterRegistry);
+		callerThread = Executors.newSingleThreadExecutor();
+	}
+
+	@AfterEach
+	void tearDown() {
+		callerThread.shutdownNow();
+		httpClient.close();
+	}
+
+	@Test
+	@DisplayName("타임아웃이 없는 요청에는 기본 요청 타임아웃을 붙인다")
+	void shouldApplyDefaultRequestTimeout() throws Exception {
+		stubStreamResponse();
+
+		httpClient.send(request("http://images.example.com/a.jpg"), HttpResponse.BodyHandlers.ofInputStream())
+			.body().close();
+
+		ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+		verify(delegate).send(requestCaptor.capture(), any());
+		assertThat(requestCaptor.getValue().timeout()).contains(REQUEST_TIMEOUT);
+	}
+
+	@Test
+	@DisplayName("같은 호스트의 다음 요청은 앞선 응답 본문이 닫힐 때까지 기다린다")
+	void shouldHoldHostPermitUntilBodyClosed() throws Exception {
+		stubStreamResponse();
+
+		HttpResponse<InputStream> first = httpClient.send(request("http://images.example.com/a.jpg"),
+			HttpResponse.BodyHandlers.ofInputStream());
+		assertThat(httpClient.availablePermits("images.example.com")).isZero();
+
+		Future<HttpResponse<InputStream>> second = callerThread.submit(() ->
+			httpClient.send(request("http://images.example.com/b.jpg"), HttpResponse.BodyHandlers.ofInputStream()));
+		Thread.sleep(100);
+		assertThat(second).isNotDone();
+
+		first.body().close();
+
+		second.get(1, TimeUnit.SECONDS).body().close();
+		assertThat(httpClient.availablePermits("images.example.com")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("다른 호스트 요청은 서로의 동시 요청 제한에 묶이지 않는다")
+	void shouldLimitConcurrencyPerHost() throws Exception {
+		stubStreamResponse();
+
+		HttpResponse<InputStream> first = httpClient.send(request("http://images.example.com/a.jpg"),
+			HttpResponse.BodyHandlers.ofInputStream());
+		HttpResponse<InputStream> other = callerThread.submit(() ->
+				httpClient.send(request("http://other.example.com/a.jpg"), HttpResponse.BodyHandlers.ofInputStream()))
+			.get(1, TimeUnit.SECONDS);
+
+		assertThat(other.statusCode()).isEqualTo(200);
+		first.body().close();
+		other.body().close();
+	}
+
+	@Test
+	@DisplayName("요청이 실패하면 허가를 반환하고 호스트별 지연 시간을 기록한다")
+	void shouldReleasePermitAndRecordLatencyWhenSendFails() throws Exception {
+		when(delegate.send(any(), any())).thenThrow(new IOException("연결 실패"));
+
+		assertThatThrownBy(() -> httpClient.send(request("http://images.example.com/a.jpg"),
+			HttpResponse.BodyHandlers.ofInputStream()))
+			.isInstanceOf(IOException.class);
+
+		assertThat(httpClient.availablePermits("images.example.com")).isEqualTo(1);
+		assertThat(meterRegistry.get("batch.image-download.latency").tag("host", "images.example.com")
+			.timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("헤더만 보내고 본문을 멈춘 원본은 요청 타임아웃 안에 끊고 허가를 반환한다")
+	void shouldAbortStalledBodyAfterRequestTimeout() throws Exception {
+		CountDownLatch releaseServer = new CountDownLatch(1);
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/stalled.jpg", exchange -> {
+			exchange.sendResponseHeaders(200, 1024);
+			try (OutputStream body = exchange.getResponseBody()) {
+				body.write(new byte[16]);
+				body.flush();
+				releaseServer.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		ExecutorService serverExecutor = Executors.newCachedThreadPool();
+		server.setExecutor(serverExecutor);
+		server.start();
+
+		Duration requestTimeout = Duration.ofMillis(300);
+		HostLimitedHttpClient realClient = new HostLimitedHttpClient(
+			HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(), 1, requestTimeout, meterRegistry);
+		try {
+			HttpResponse<InputStream> response = realClient.send(
+				request("http://127.0.0.1:" + server.getAddress().getPort() + "/stalled.jpg"),
+				HttpResponse.BodyHandlers.ofInputStream());
+
+			assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+				assertThatThrownBy(() -> response.body().readAllBytes()).isInstanceOf(HttpTimeoutException.class);
+				assertThat(Thread.currentThread().isInterrupted()).isFalse();
+			});
+
+			assertThat(realClient.availablePermits("127.0.0.1")).isEqualTo(1);
+			assertThat(meterRegistry.get("batch.image-download.latency").tag("host", "127.0.0.1").timer()
+				.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(requestTimeout.toMillis());
+		} finally {
+			releaseServer.countDown();
+			realClient.close();
+			server.stop(0);
+			serverExecutor.shutdownNow();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void stubStreamResponse() throws Exception {
+		when(delegate.send(any(), any())).thenAnswer(invocation -> {
+			HttpResponse<InputStream> response = (HttpResponse<InputStream>)mock(HttpResponse.class);
+			when(response.statusCode()).thenReturn(200);
+			when(response.body()).thenReturn(new ByteArrayInputStream(new byte[16]));
+			return response;
+		});
+	}
+
+	private HttpRequest request(String url) {
+		return HttpRequest.newBuilder().uri(URI.create(url)).GET().build();
+	}
+}
@@ -0,0 +1,100 @@
+package tetoandeggens.seeyouagainbatch.common.image;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("WebpTranscoder 단위 테스트")
+class WebpTranscoderTest {
+
+	private static final int THUMBNAIL_WIDTH = 320;
+
+	private WebpTranscoder transcoder;
+
+	@BeforeEach
+	void setUp() {
+		transcoder = new WebpTranscoder(0.8f, THUMBNAIL_WIDTH);
+	}
+
+	@Test
+	@DisplayName("JPEG를 WebP 본 이미지와 너비를 제한한 썸네일로 변환한다")
+	void shouldTranscodeToWebpWithThumbnail() throws IOException {
+		byte[] jpeg = createImage(800, 600, "jpg");
+
+		TranscodedImage transcoded = transcoder.transcode(new ByteArrayInputStream(jpeg));
+
+		assertThat(isWebp(transcoded.getImage())).isTrue();
+		assertThat(isWebp(transcoded.getThumbnail())).isTrue();
+
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(transcoded.getImage()));
+		assertThat(image.getWidth()).isEqualTo(800);
+		assertThat(image.getHeight()).isEqualTo(600);
+
+		BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(transcoded.getThumbnail()));
+		assertThat(thumbnail.getWidth()).isEqualTo(THUMBNAIL_WIDTH);
+		assertThat(thumbnail.getHeight()).isEqualTo(240);
+	}
+
+	@Test
+	@DisplayName("썸네일 너비보다 작은 이미지는 키우지 않고 본 이미지를 썸네일로 쓴다")
+	void shouldNotUpscaleSmallImage() throws IOException {
+		byte[] png = createImage(200, 100, "png");
+
+		TranscodedImage transcoded = transcoder.transcode(new ByteArrayInputStream(png));
+
+		assertThat(transcoded.getThumbnail()).isSameAs(transcoded.getImage());
+		BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(transcoded.getThumbnail()));
+		assertThat(thumbnail.getWidth()).isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("디코딩할 수 없는 내용이면 null을 반환한다")
+	void shouldReturnNullForUndecodableImage() throws IOException {
+		byte[] notImage = "not an image".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(transcoder.transcode(new ByteArrayInputStream(notImage))).isNull();
+	}
+
+	@Test
+	@DisplayName("썸네일 키는 본 이미지 키의 확장자 앞에 -thumb을 붙인다")
+	void shouldBuildThumbnailKey() {
+		assertThat(WebpTranscoder.thumbnailKey("animal-profiles/public-data/1_abc.webp"))
+			.isEqualTo("animal-profiles/public-data/1_abc-thumb.webp");
+		assertThat(WebpTranscoder.thumbnailKey("animal-profiles/legacy"))
+			.isEqualTo("animal-profiles/legacy-thumb");
+	}
+
+	private byte[] createImage(int width, int height, String format) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.ORANGE);
+		graphics.fillRect(0, 0, width, height);
+		graphics.setColor(Color.DARK_GRAY);
+		graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+		graphics.dispose();
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ImageIO.write(image, format, output);
+		return output.toByteArray();
+	}
+
+	// WebP 파일은 RIFF 헤더 뒤 8번째 바이트부터 WEBP로 시작한다
+	private boolean isWebp(byte[] bytes) {
+		return bytes.length > 12
+			&& Arrays.equals(Arrays.copyOfRange(bytes, 0, 4), "RIFF".getBytes(StandardCharsets.US_ASCII))
+			&& Arrays.equals(Arrays.copyOfRange(bytes, 8, 12), "WEBP".getBytes(StandardCharsets.US_ASCII));
+	}
+}
@@ -0,0 +1,142 @@
+package tetoandeggens.seeyouagainbatch.common.jdbc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MultiRowBulkInserter 단위 테스트")
+class MultiRowBulkInserterTest {
+
+	private static final BulkInsertStatement STATEMENT = BulkInsertStatement.builder()
+		.table("animal_by_keyword")
+		.columns(List.of("notification_keyword_id", "animal_id", "created_at", "updated_at"))
+		.rowTemplate("(?, ?, NOW(), NOW())")
+		.build();
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Captor
+	private ArgumentCaptor<String> sqlCaptor;
+
+	@Captor
+	private ArgumentCaptor<PreparedStatementSetter> setterCaptor;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+			.thenAnswer(invocation -> countRows(invocation.getArgument(0)));
+	}
+
+	@Test
+	@DisplayName("여러 행을 하나의 multi-row INSERT로 저장해야 한다")
+	void shouldInsertRowsWithSingleMultiRowStatement() throws Exception {
+		MultiRowBulkInserter inserter = new MultiRowBulkInserter(jdbcTemplate, 4L * 1024 * 1024);
+
+		int affectedRows = inserter.insert(STATEMENT, List.of("a", "b", "c"), (row, values, offset) -> {
+			values[offset] = row;
+			values[offset + 1] = row + "-animal";
+		});
+
+		assertThat(affectedRows).isEqualTo(3);
+		verify(jdbcTemplate, times(1)).update(sqlCaptor.capture(), setterCaptor.capture());
+		assertThat(sqlCaptor.getValue()).isEqualTo(
+			"INSERT INTO animal_by_keyword (notification_keyword_id, animal_id, created_at, updated_at) VALUES " +
+				"(?, ?, NOW(), NOW()), (?, ?, NOW(), NOW()), (?, ?, NOW(), NOW())");
+
+		PreparedStatement ps = mock(PreparedStatement.class);
+		setterCaptor.getValue().setValues(ps);
+		verify(ps).setString(1, "a");
+		verify(ps).setString(2, "a-animal");
+		verify(ps).setString(5, "c");
+		verify(ps).setString(6, "c-animal");
+	}
+
+	@Test
+	@DisplayName("플레이스홀더가 65535개를 넘지 않도록 문장을 나눠야 한다")
+	void shouldSplitByPlaceholderLimit() {
+		MultiRowBulkInserter inserter = new MultiRowBulkInserter(jdbcTemplate, Long.MAX_VALUE / 2);
+		List<Integer> rows = IntStream.range(0, 40_000).boxed().toList();
+
+		int affectedRows = inserter.insert(STATEMENT, rows, (row, values, offset) -> {
+			values[offset] = row;
+			values[offset + 1] = row;
+		});
+
+		assertThat(affectedRows).isEqualTo(40_000);
+		verify(jdbcTemplate, times(2)).update(sqlCaptor.capture(), any(PreparedStatementSetter.class));
+		assertThat(sqlCaptor.getAllValues()).extracting(MultiRowBulkInserterTest::countRows)
+			.containsExactly(32_767, 7_233);
+	}
+
+	@Test
+	@DisplayName("max_allowed_packet을 넘지 않도록 문장을 나눠야 한다")
+	void shouldSplitByPacketSize() {
+		MultiRowBulkInserter inserter = new MultiRowBulkInserter(jdbcTemplate, 4 * 1024);
+		String longValue = "x".repeat(300);
+
+		int affectedRows = inserter.insert(STATEMENT, IntStream.range(0, 20).boxed().toList(),
+			(row, values, offset) -> {
+				values[offset] = longValue;
+				values[offset + 1] = row;
+			});
+
+		assertThat(affectedRows).isEqualTo(20);
+		verify(jdbcTemplate, atLeast(2)).update(sqlCaptor.capture(), any(PreparedStatementSetter.class));
+		assertThat(sqlCaptor.getAllValues()).allSatisfy(sql -> assertThat(countRows(sql)).isLessThan(20));
+	}
+
+	@Test
+	@DisplayName("max_allowed_packet 조회에 실패하면 기본값으로 저장해야 한다")
+	void shouldFallbackToDefaultPacketSize() {
+		when(jdbcTemplate.queryForObject("SELECT @@max_allowed_packet", Long.class))
+			.thenThrow(new DataAccessResourceFailureException("unsupported"));
+		MultiRowBulkInserter inserter = new MultiRowBulkInserter(jdbcTemplate);
+
+		int affectedRows = inserter.insert(STATEMENT, List.of(1L, 2L), (row, values, offset) -> {
+			values[offset] = row;
+			values[offset + 1] = row;
+		});
+
+		assertThat(affectedRows).isEqualTo(2);
+		verify(jdbcTemplate, times(1)).update(anyString(), any(PreparedStatementSetter.class));
+	}
+
+	@Test
+	@DisplayName("빈 목록은 쿼리를 실행하지 않아야 한다")
+	void shouldSkipEmptyRows() {
+		MultiRowBulkInserter inserter = new MultiRowBulkInserter(jdbcTemplate);
+
+		int affectedRows = inserter.insert(STATEMENT, List.<String>of(), (row, values, offset) -> values[offset] = row);
+
+		assertThat(affectedRows).isZero();
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	private static int countRows(String sql) {
+		int count = 0;
+		int index = sql.indexOf("(?");
+		while (index >= 0) {
+			count++;
+			index = sql.indexOf("(?", index + 1);
+		}
+		return count;
+	}
+}
@@ -0,0 +1,161 @@
+package tetoandeggens.seeyouagainbatch.common.reader;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+
+@DisplayName("HandOffItemReader 단위 테스트")
+class HandOffItemReaderTest {
+
+	private static final int THREAD_COUNT = 16;
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 동시에 읽어도 항목이 중복되거나 누락되지 않아야 한다")
+	void shouldHandOffEachItemExactlyOnceUnderConcurrentReads() throws Exception {
+		int itemCount = 100_000;
+		HandOffItemReader<Long> reader = new HandOffItemReader<>(new PagedCounterReader(itemCount, 500));
+		reader.open(new ExecutionContext());
+
+		Queue<Long> readItems = new ConcurrentLinkedQueue<>();
+		List<Future<Integer>> results = readConcurrently(reader, readItems);
+
+		int nullCount = 0;
+		for (Future<Integer> result : results) {
+			nullCount += result.get(30, TimeUnit.SECONDS);
+		}
+		reader.close();
+
+		assertThat(readItems).hasSize(itemCount);
+		assertThat(readItems).doesNotHaveDuplicates();
+		assertThat(readItems).allMatch(item -> item >= 1 && item <= itemCount);
+		assertThat(nullCount).isEqualTo(THREAD_COUNT);
+	}
+
+	@Test
+	@DisplayName("조회가 끝난 뒤에는 모든 스레드가 null을 받아야 한다")
+	void shouldReturnNullToEveryThreadAfterEnd() throws Exception {
+		HandOffItemReader<Long> reader = new HandOffItemReader<>(new PagedCounterReader(0, 10));
+		reader.open(new ExecutionContext());
+
+		List<Future<Integer>> results = readConcurrently(reader, new ConcurrentLinkedQueue<>());
+
+		for (Future<Integer> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+		}
+		assertThat(reader.read()).isNull();
+		reader.close();
+	}
+
+	@Test
+	@DisplayName("delegate 조회 중 예외가 발생하면 읽는 스레드로 전달해야 한다")
+	void shouldPropagateDelegateFailure() throws Exception {
+		HandOffItemReader<Long> reader = new HandOffItemReader<>(new PagedCounterReader(5, 10) {
+			@Override
+			public Long read() {
+				Long item = super.read();
+				if (item != null && item == 3L) {
+					throw new IllegalStateException("조회 실패");
+				}
+				return item;
+			}
+		});
+		reader.open(new ExecutionContext());
+
+		assertThat(reader.read()).isEqualTo(1L);
+		assertThat(reader.read()).isEqualTo(2L);
+		assertThatThrownBy(reader::read)
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("조회 실패");
+		assertThatThrownBy(reader::read)
+			.isInstanceOf(IllegalStateException.class);
+		reader.close();
+	}
+
+	@Test
+	@DisplayName("모두 읽기 전에 닫아도 조회 스레드가 종료되어야 한다")
+	void shouldStopFetcherWhenClosedEarly() throws Exception {
+		List<Thread> fetchers = new ArrayList<>();
+		HandOffItemReader<Long> reader = new HandOffItemReader<>(new PagedCounterReader(1_000, 10), runnable -> {
+			Thread thread = new Thread(runnable, "hand-off-test");
+			fetchers.add(thread);
+			return thread;
+		});
+		reader.open(new ExecutionContext());
+
+		assertThat(reader.read()).isEqualTo(1L);
+		reader.close();
+
+		assertThat(fetchers).hasSize(1);
+		assertThat(fetchers.get(0).isAlive()).isFalse();
+	}
+
+	private List<Future<Integer>> readConcurrently(HandOffItemReader<Long> reader, Queue<Long> readItems) {
+		CountDownLatch startLatch = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>();
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			Callable<Integer> task = () -> {
+				startLatch.await();
+				Long item;
+				while ((item = reader.read()) != null) {
+					readItems.add(item);
+				}
+				return 1;
+			};
+			results.add(executorService.submit(task));
+		}
+		startLatch.countDown();
+		return results;
+	}
+
+	// 페이지 버퍼와 커서를 동기화 없이 갱신하는, 스레드에 안전하지 않은 delegate
+	private static class PagedCounterReader implements ItemStreamReader<Long> {
+
+		private final int itemCount;
+		private final int pageSize;
+		private final List<Long> page = new ArrayList<>();
+		private long cursor;
+		private int pageIndex;
+
+		private PagedCounterReader(int itemCount, int pageSize) {
+			this.itemCount = itemCount;
+			this.pageSize = pageSize;
+		}
+
+		@Override
+		public Long read() {
+			if (pageIndex >= page.size()) {
+				page.clear();
+				pageIndex = 0;
+				for (int i = 0; i < pageSize && cursor < itemCount; i++) {
+					page.add(++cursor);
+				}
+				if (page.isEmpty()) {
+					return null;
+				}
+			}
+			return page.get(pageIndex++);
+		}
+	}
+}
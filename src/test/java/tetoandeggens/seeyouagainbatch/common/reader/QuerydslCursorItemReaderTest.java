@@ -0,0 +1,130 @@
+package tetoandeggens.seeyouagainbatch.common.reader;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+import com.querydsl.jpa.impl.JPAQuery;
+
+import jakarta.persistence.EntityManagerFactory;
+import tetoandeggens.seeyouagainbatch.common.reader.options.QuerydslNoOffsetOptions;
+import tetoandeggens.seeyouagainbatch.domain.FcmToken;
+import tetoandeggens.seeyouagainbatch.domain.QFcmToken;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuerydslCursorItemReader 단위 테스트")
+class QuerydslCursorItemReaderTest {
+
+	private static final String LAST_KEY = "QuerydslCursorItemReader.last.key";
+
+	@Mock
+	private EntityManagerFactory entityManagerFactory;
+
+	@Mock
+	private SessionFactory sessionFactory;
+
+	@Mock
+	private StatelessSession statelessSession;
+
+	@Mock
+	private Query<FcmToken> query;
+
+	@Mock
+	private ScrollableResults<FcmToken> scrollableResults;
+
+	@Mock
+	private QuerydslNoOffsetOptions<FcmToken> options;
+
+	private QuerydslCursorItemReader<FcmToken> reader;
+
+	@BeforeEach
+	void setUp() {
+		QFcmToken fcmToken = QFcmToken.fcmToken;
+
+		when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+		when(sessionFactory.openStatelessSession()).thenReturn(statelessSession);
+		when(options.createCursorQuery(any(), any()))
+			.thenAnswer(invocation -> new JPAQuery<Void>().select(fcmToken).from(fcmToken));
+		when(statelessSession.createQuery(anyString(), eq(FcmToken.class))).thenReturn(query);
+		when(query.setFetchSize(anyInt())).thenReturn(query);
+		when(query.scroll(ScrollMode.FORWARD_ONLY)).thenReturn(scrollableResults);
+
+		reader = QuerydslCursorItemReaderBuilder.<FcmToken>builder()
+			.entityManagerFactory(entityManagerFactory)
+			.mysqlStreaming()
+			.options(options)
+			.queryFunction(queryFactory -> queryFactory.selectFrom(fcmToken))
+			.build();
+	}
+
+	@Test
+	@DisplayName("MySQL 스트리밍 fetchSize로 전진 전용 커서를 열고 끝까지 읽어야 한다")
+	void shouldStreamWithForwardOnlyCursor() throws Exception {
+		FcmToken first = mock(FcmToken.class);
+		FcmToken second = mock(FcmToken.class);
+		when(scrollableResults.next()).thenReturn(true, true, false);
+		when(scrollableResults.get()).thenReturn(first, second);
+
+		reader.open(new ExecutionContext());
+
+		assertThat(reader.read()).isSameAs(first);
+		assertThat(reader.read()).isSameAs(second);
+		assertThat(reader.read()).isNull();
+
+		verify(query).setFetchSize(Integer.MIN_VALUE);
+		verify(options).createCursorQuery(any(), isNull());
+
+		reader.close();
+		verify(scrollableResults).close();
+		verify(statelessSession).close();
+	}
+
+	@Test
+	@DisplayName("update 시 마지막으로 내보낸 키를 저장해야 한다")
+	void shouldSaveLastEmittedKey() throws Exception {
+		FcmToken first = mock(FcmToken.class);
+		FcmToken second = mock(FcmToken.class);
+		when(scrollableResults.next()).thenReturn(true, true);
+		when(scrollableResults.get()).thenReturn(first, second);
+		when(options.extractKey(first)).thenReturn(10L);
+		when(options.extractKey(second)).thenReturn(11L);
+
+		ExecutionContext executionContext = new ExecutionContext();
+		reader.open(executionContext);
+		reader.read();
+		reader.read();
+		reader.update(executionContext);
+
+		assertThat(executionContext.get(LAST_KEY)).isEqualTo(11L);
+		reader.close();
+	}
+
+	@Test
+	@DisplayName("재시작 시 건너뛰며 읽지 않고 마지막 키 이후부터 커서를 열어야 한다")
+	void shouldRestartAfterLastKey() throws Exception {
+		ExecutionContext executionContext = new ExecutionContext();
+		executionContext.put(LAST_KEY, 11L);
+		executionContext.putInt("QuerydslCursorItemReader.read.count", 2);
+		when(scrollableResults.next()).thenReturn(false);
+
+		reader.open(executionContext);
+
+		assertThat(reader.read()).isNull();
+		verify(options).createCursorQuery(any(), eq(11L));
+		verify(scrollableResults, times(1)).next();
+		reader.close();
+	}
+}
@@ -61,6 +61,9 @@ public abstract class BatchTestConfig {
         namedParameterJdbcTemplate.getJdbcTemplate().execute("DELETE FROM animal");
         namedParameterJdbcTemplate.getJdbcTemplate().execute("DELETE FROM animal_location");
         namedParameterJdbcTemplate.getJdbcTemplate().execute("DELETE FROM breed_type");
+        namedParameterJdbcTemplate.getJdbcTemplate().execute("DELETE FROM geocode_cache");
+        namedParameterJdbcTemplate.getJdbcTemplate().execute("DELETE FROM profile_image_hash");
+        namedParameterJdbcTemplate.getJdbcTemplate().execute("DELETE FROM animal_change_index");
         namedParameterJdbcTemplate.getJdbcTemplate().execute("SET FOREIGN_KEY_CHECKS = 1");
     }
 }
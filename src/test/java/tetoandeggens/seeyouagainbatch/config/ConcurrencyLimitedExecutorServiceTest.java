@@ -0,0 +1,127 @@
+package tetoandeggens.seeyouagainbatch.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ConcurrencyLimitedExecutorService 단위 테스트")
+class ConcurrencyLimitedExecutorServiceTest {
+
+	private static final int MAX_CONCURRENCY = 4;
+
+	private ExecutorService delegate;
+	private ConcurrencyLimitedExecutorService executorService;
+
+	@BeforeEach
+	void setUp() {
+		delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().factory());
+		executorService = new ConcurrencyLimitedExecutorService(delegate, MAX_CONCURRENCY);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("가상 스레드로 실행하되 동시 실행 수는 상한을 넘지 않는다")
+	void shouldNotExceedMaxConcurrency() throws Exception {
+		int taskCount = 200;
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxObserved = new AtomicInteger();
+		AtomicInteger virtualCount = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(taskCount);
+
+		for (int i = 0; i < taskCount; i++) {
+			executorService.execute(() -> {
+				int current = running.incrementAndGet();
+				maxObserved.accumulateAndGet(current, Math::max);
+				if (Thread.currentThread().isVirtual()) {
+					virtualCount.incrementAndGet();
+				}
+				try {
+					Thread.sleep(5);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					running.decrementAndGet();
+					done.countDown();
+				}
+			});
+		}
+
+		assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(maxObserved.get()).isLessThanOrEqualTo(MAX_CONCURRENCY);
+		assertThat(virtualCount.get()).isEqualTo(taskCount);
+		assertThat(executorService.getActiveCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("상한에 도달해도 제출 스레드는 막히지 않는다")
+	void shouldNotBlockSubmitterWhenLimitReached() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(MAX_CONCURRENCY * 2);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < MAX_CONCURRENCY * 2; i++) {
+			executorService.execute(() -> {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		long submitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertThat(submitMillis).isLessThan(1000);
+
+		release.countDown();
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	@DisplayName("허가 대기 중 인터럽트되어도 runAsync Future는 인터럽트 상태로 실행되어 완료된다")
+	void shouldCompleteFutureWhenInterruptedWhileAcquiring() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch occupied = new CountDownLatch(MAX_CONCURRENCY);
+		for (int i = 0; i < MAX_CONCURRENCY; i++) {
+			executorService.execute(() -> {
+				occupied.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		assertThat(occupied.await(5, TimeUnit.SECONDS)).isTrue();
+
+		CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> {
+			if (Thread.currentThread().isInterrupted()) {
+				throw new IllegalStateException("interrupted");
+			}
+		}, executorService);
+
+		// 가상 스레드 실행기의 shutdownNow는 허가를 기다리는 스레드까지 인터럽트한다
+		delegate.shutdownNow();
+
+		assertThat(waiting).failsWithin(Duration.ofSeconds(5))
+			.withThrowableOfType(ExecutionException.class)
+			.withCauseInstanceOf(IllegalStateException.class);
+	}
+}
@@ -15,4 +15,19 @@ public class TestExecutorConfig {
 	public ExecutorService s3UploadExecutorService() {
 		return Executors.newFixedThreadPool(2);
 	}
+
+	@Bean
+	public ExecutorService s3DownloadExecutorService() {
+		return Executors.newFixedThreadPool(2);
+	}
+
+	@Bean
+	public ExecutorService s3PartUploadExecutorService() {
+		return Executors.newFixedThreadPool(2);
+	}
+
+	@Bean
+	public ExecutorService imageTranscodeExecutorService() {
+		return Executors.newFixedThreadPool(2);
+	}
 }
\ No newline at end of file
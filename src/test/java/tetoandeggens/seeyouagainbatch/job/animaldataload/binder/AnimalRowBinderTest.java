@@ -0,0 +1,124 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.binder;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+
+import tetoandeggens.seeyouagainbatch.constant.AnimalEntityField;
+import tetoandeggens.seeyouagainbatch.domain.Animal;
+import tetoandeggens.seeyouagainbatch.domain.AnimalLocation;
+import tetoandeggens.seeyouagainbatch.domain.BreedType;
+import tetoandeggens.seeyouagainbatch.domain.NeuteredState;
+import tetoandeggens.seeyouagainbatch.domain.Sex;
+import tetoandeggens.seeyouagainbatch.domain.Species;
+
+@DisplayName("AnimalRowBinder 단위 테스트")
+class AnimalRowBinderTest {
+
+	private static final LocalDate HAPPEN_DATE = LocalDate.of(2025, 1, 1);
+	private static final LocalDateTime FINAL_UPDATED_AT = LocalDateTime.of(2025, 1, 2, 10, 30);
+
+	@Test
+	@DisplayName("감사 컬럼을 제외한 AnimalEntityField 순서대로 컬럼을 구성해야 한다")
+	void shouldFollowAnimalEntityFieldOrder() {
+		List<String> expected = Arrays.stream(AnimalEntityField.values())
+			.filter(field -> field != AnimalEntityField.CREATED_AT && field != AnimalEntityField.UPDATED_AT)
+			.map(AnimalEntityField::getColumnName)
+			.toList();
+
+		assertThat(AnimalRowBinder.columnNames()).containsExactlyElementsOf(expected);
+		assertThat(AnimalRowBinder.columnCount()).isEqualTo(expected.size());
+	}
+
+	@Test
+	@DisplayName("PreparedStatement에 컬럼 순서대로 타입에 맞게 바인딩해야 한다")
+	void shouldBindToPreparedStatementInColumnOrder() throws Exception {
+		PreparedStatement ps = mock(PreparedStatement.class);
+
+		AnimalRowBinder.bind(ps, 1, createAnimal("D001", "서울특별시"));
+
+		verify(ps).setString(1, "ABANDONED");
+		verify(ps).setString(2, "D001");
+		verify(ps).setObject(3, HAPPEN_DATE);
+		verify(ps).setString(5, "서울특별시");
+		verify(ps).setString(7, Species.DOG.name());
+		verify(ps).setString(15, Sex.M.name());
+		verify(ps).setObject(19, FINAL_UPDATED_AT);
+		verify(ps).setLong(20, 10L);
+		verify(ps).setLong(21, 20L);
+	}
+
+	@Test
+	@DisplayName("값이 없는 컬럼은 SQL 타입을 지정해 NULL로 바인딩해야 한다")
+	void shouldBindNullWithSqlType() throws Exception {
+		PreparedStatement ps = mock(PreparedStatement.class);
+
+		AnimalRowBinder.bind(ps, 1, createAnimal("D001", null));
+
+		verify(ps).setNull(5, Types.VARCHAR);
+		verify(ps, never()).setString(eq(5), anyString());
+	}
+
+	@Test
+	@DisplayName("배열 바인딩은 지정한 오프셋부터 컬럼 순서대로 값을 채워야 한다")
+	void shouldFillValuesFromOffset() {
+		Object[] values = new Object[AnimalRowBinder.columnCount() + 2];
+
+		AnimalRowBinder.bind(createAnimal("D001", "서울특별시"), values, 2);
+
+		assertThat(values[0]).isNull();
+		assertThat(values[2]).isEqualTo("ABANDONED");
+		assertThat(values[3]).isEqualTo("D001");
+		assertThat(values[values.length - 1]).isEqualTo(20L);
+	}
+
+	@Test
+	@DisplayName("BatchPreparedStatementSetter는 행 순서대로 바인딩해야 한다")
+	void shouldBindBatchRowsInOrder() throws Exception {
+		PreparedStatement ps = mock(PreparedStatement.class);
+		BatchPreparedStatementSetter setter = AnimalRowBinder.batchSetter(
+			List.of(createAnimal("D001", "서울특별시"), createAnimal("D002", "부산광역시")));
+
+		setter.setValues(ps, 1);
+
+		assertThat(setter.getBatchSize()).isEqualTo(2);
+		verify(ps).setString(2, "D002");
+		verify(ps, never()).setString(2, "D001");
+	}
+
+	private Animal createAnimal(String desertionNo, String city) {
+		return Animal.builder()
+			.desertionNo(desertionNo)
+			.happenDate(HAPPEN_DATE)
+			.happenPlace("강남구")
+			.city(city)
+			.town("강남구")
+			.species(Species.DOG)
+			.color("갈색")
+			.birth("2024(년생)")
+			.weight("5(Kg)")
+			.noticeNo("서울-강남-2025-00001")
+			.noticeStartDate("20250101")
+			.noticeEndDate("20250111")
+			.processState("보호중")
+			.sex(Sex.M)
+			.neuteredState(NeuteredState.Y)
+			.specialMark("온순함")
+			.centerPhone("02-123-4567")
+			.finalUpdatedAt(FINAL_UPDATED_AT)
+			.animalLocation(AnimalLocation.builder().id(10L).build())
+			.breedType(BreedType.builder().id(20L).build())
+			.build();
+	}
+}
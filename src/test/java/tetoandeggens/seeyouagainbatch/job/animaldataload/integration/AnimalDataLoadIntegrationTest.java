@@ -15,6 +15,8 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.test.JobLauncherTestUtils;
 import org.springframework.batch.test.JobRepositoryTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +30,8 @@ import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalApiResponseWr
 import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataDto;
 import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.KakaoMapDocumentDto;
 import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.KakaoMapResponseWrapper;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.service.GeocodeCacheService;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.writer.AnimalDataLoadWriter;
 
 @BatchIntegrationTest
 class AnimalDataLoadIntegrationTest extends BatchTestConfig {
@@ -41,6 +45,9 @@ class AnimalDataLoadIntegrationTest extends BatchTestConfig {
 	@Autowired
 	private Job animalDataLoadJob;
 
+	@Autowired
+	private GeocodeCacheService geocodeCacheService;
+
 	@MockitoBean
 	private PublicDataApiClient publicDataApiClient;
 
@@ -60,6 +67,7 @@ class AnimalDataLoadIntegrationTest extends BatchTestConfig {
 	void tearDown() {
 		cleanupJobExecutions();
 		cleanupTestData();
+		geocodeCacheService.clearLocalCache();
 	}
 
 	@Test
@@ -176,6 +184,149 @@ class AnimalDataLoadIntegrationTest extends BatchTestConfig {
 		jobRepositoryTestUtils.removeJobExecutions();
 	}
 
+	@Test
+	@DisplayName("이미 좌표를 변환한 주소는 재실행 시 카카오 API를 다시 호출하지 않아야 한다")
+	void shouldReuseGeocodeCacheOnRerun() throws Exception {
+		when(publicDataApiClient.fetchAnimals(
+			anyString(), anyString(), anyString(), anyInt(), anyString(), anyInt()))
+			.thenReturn(createMockApiResponse());
+
+		jobLauncherTestUtils.launchJob(jobParameters);
+		namedParameterJdbcTemplate.getJdbcTemplate().execute("SET FOREIGN_KEY_CHECKS = 0");
+		namedParameterJdbcTemplate.getJdbcTemplate().execute("DELETE FROM animal_profile");
+		namedParameterJdbcTemplate.getJdbcTemplate().execute("DELETE FROM animal");
+		namedParameterJdbcTemplate.getJdbcTemplate().execute("DELETE FROM animal_location");
+		namedParameterJdbcTemplate.getJdbcTemplate().execute("DELETE FROM animal_change_index");
+		namedParameterJdbcTemplate.getJdbcTemplate().execute("SET FOREIGN_KEY_CHECKS = 1");
+		geocodeCacheService.clearLocalCache();
+
+		JobExecution jobExecution = jobLauncherTestUtils.launchJob(
+			jobLauncherTestUtils.getUniqueJobParametersBuilder()
+				.addString("startDate", "20250101")
+				.addString("endDate", "20250131")
+				.addLong("numOfRows", 100L)
+				.addLong("pageNo", 1L)
+				.toJobParameters());
+
+		assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(countCenterLocations()).isEqualTo(2);
+		verify(kakaoMapApiClient, times(2)).searchCoordinates(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("같은 기간을 다시 적재해도 동물과 프로필이 중복 저장되지 않아야 한다")
+	void shouldNotDuplicateAnimalsOnRerunOverSameWindow() throws Exception {
+		when(publicDataApiClient.fetchAnimals(
+			anyString(), anyString(), anyString(), anyInt(), anyString(), anyInt()))
+			.thenReturn(createMockApiResponse());
+
+		jobLauncherTestUtils.launchJob(jobParameters);
+		List<Long> firstAnimalIds = findAnimalIds();
+
+		JobExecution jobExecution = jobLauncherTestUtils.launchJob(
+			jobLauncherTestUtils.getUniqueJobParametersBuilder()
+				.addString("startDate", "20250101")
+				.addString("endDate", "20250131")
+				.addLong("numOfRows", 100L)
+				.addLong("pageNo", 1L)
+				.toJobParameters());
+
+		assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(countAnimals()).isEqualTo(2);
+		assertThat(countAnimalProfiles()).isEqualTo(6);
+		assertThat(findAnimalIds()).isEqualTo(firstAnimalIds);
+
+		ExecutionContext stepContext = getStepExecutionContext(jobExecution);
+		assertThat(stepContext.getLong(AnimalDataLoadWriter.INSERT_COUNT_KEY)).isZero();
+		assertThat(stepContext.getLong(AnimalDataLoadWriter.UPDATE_COUNT_KEY)).isZero();
+		assertThat(stepContext.getLong(AnimalDataLoadWriter.UNCHANGED_COUNT_KEY)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("변경된 기록만 다시 저장하고 신규, 변경, 변경 없음 건수를 StepExecution에 기록해야 한다")
+	void shouldReprocessOnlyChangedRecords() throws Exception {
+		AnimalApiResponseWrapper changedResponse = createResponse(List.of(
+			createTestAnimalDto("448853202500001", "20250101", "서울특별시 강남구",
+				"[개] 믹스견", "417000", "개", "믹스견", "갈색", "2023(년생)", "5(Kg)",
+				"서울특별시 강남구", "강남구청", "02-3423-5555",
+				"서울특별시 강남구 학동로 426", "test-reg-001", "종료(입양)", "M", "Y",
+				"매우 순하고 사람을 좋아함"),
+			createTestAnimalDto("448853202500002", "20250102", "서울특별시 송파구",
+				"[고양이] 코리안숏헤어", "422400", "고양이", "코리안숏헤어", "검은색", "2024(년생)", "3.5(Kg)",
+				"서울특별시 송파구", "송파구청", "02-2147-2222",
+				"서울특별시 송파구 올림픽로 326", "test-reg-002", "종료(입양)", "F", "N",
+				"건강 상태 양호, 사람에게 친근함"),
+			createTestAnimalDto("448853202500099", "20250105", "서울특별시 송파구",
+				"[개] 믹스견", "417000", "개", "믹스견", "흰색", "2022(년생)", "7(Kg)",
+				"서울특별시 송파구", "송파구청", "02-2147-2222",
+				"서울특별시 송파구 올림픽로 326", "test-reg-002", "보호중", "M", "N",
+				"활발함")
+		));
+
+		when(publicDataApiClient.fetchAnimals(
+			anyString(), anyString(), anyString(), anyInt(), anyString(), anyInt()))
+			.thenReturn(createMockApiResponse())
+			.thenReturn(changedResponse);
+
+		jobLauncherTestUtils.launchJob(jobParameters);
+
+		JobExecution jobExecution = jobLauncherTestUtils.launchJob(
+			jobLauncherTestUtils.getUniqueJobParametersBuilder()
+				.addString("startDate", "20250101")
+				.addString("endDate", "20250131")
+				.addLong("numOfRows", 100L)
+				.addLong("pageNo", 1L)
+				.toJobParameters());
+
+		assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(countAnimals()).isEqualTo(3);
+
+		ExecutionContext stepContext = getStepExecutionContext(jobExecution);
+		assertThat(stepContext.getLong(AnimalDataLoadWriter.INSERT_COUNT_KEY)).isEqualTo(1);
+		assertThat(stepContext.getLong(AnimalDataLoadWriter.UPDATE_COUNT_KEY)).isEqualTo(1);
+		assertThat(stepContext.getLong(AnimalDataLoadWriter.UNCHANGED_COUNT_KEY)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("인덱스 항목이 남아 있어도 animal 행이 없으면 다시 저장해야 한다")
+	void shouldReinsertAnimalsMissingDespiteIndexEntry() throws Exception {
+		when(publicDataApiClient.fetchAnimals(
+			anyString(), anyString(), anyString(), anyInt(), anyString(), anyInt()))
+			.thenReturn(createMockApiResponse());
+
+		jobLauncherTestUtils.launchJob(jobParameters);
+		namedParameterJdbcTemplate.getJdbcTemplate().execute("SET FOREIGN_KEY_CHECKS = 0");
+		namedParameterJdbcTemplate.getJdbcTemplate().execute("DELETE FROM animal_profile");
+		namedParameterJdbcTemplate.getJdbcTemplate().execute("DELETE FROM animal");
+		namedParameterJdbcTemplate.getJdbcTemplate().execute("SET FOREIGN_KEY_CHECKS = 1");
+
+		JobExecution jobExecution = jobLauncherTestUtils.launchJob(
+			jobLauncherTestUtils.getUniqueJobParametersBuilder()
+				.addString("startDate", "20250101")
+				.addString("endDate", "20250131")
+				.addLong("numOfRows", 100L)
+				.addLong("pageNo", 1L)
+				.toJobParameters());
+
+		assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(countAnimals()).isEqualTo(2);
+		assertThat(countAnimalProfiles()).isEqualTo(6);
+
+		ExecutionContext stepContext = getStepExecutionContext(jobExecution);
+		assertThat(stepContext.getLong(AnimalDataLoadWriter.INSERT_COUNT_KEY)).isEqualTo(2);
+		assertThat(stepContext.getLong(AnimalDataLoadWriter.UNCHANGED_COUNT_KEY)).isZero();
+	}
+
+	private ExecutionContext getStepExecutionContext(JobExecution jobExecution) {
+		StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+		return stepExecution.getExecutionContext();
+	}
+
+	private List<Long> findAnimalIds() {
+		return namedParameterJdbcTemplate.getJdbcTemplate()
+			.queryForList("SELECT animal_id FROM animal ORDER BY animal_id", Long.class);
+	}
+
 	private int countCenterLocations() {
 		return namedParameterJdbcTemplate.getJdbcTemplate()
 			.queryForObject("SELECT COUNT(*) FROM animal_location", Integer.class);
@@ -210,6 +361,10 @@ class AnimalDataLoadIntegrationTest extends BatchTestConfig {
 				"건강 상태 양호, 사람에게 친근함")
 		);
 
+		return createResponse(itemList);
+	}
+
+	private AnimalApiResponseWrapper createResponse(List<AnimalPublicDataDto> itemList) {
 		AnimalApiResponseWrapper.Items items = new AnimalApiResponseWrapper.Items(itemList);
 		AnimalApiResponseWrapper.Body body = new AnimalApiResponseWrapper.Body(items);
 		AnimalApiResponseWrapper.Response response = new AnimalApiResponseWrapper.Response(body);
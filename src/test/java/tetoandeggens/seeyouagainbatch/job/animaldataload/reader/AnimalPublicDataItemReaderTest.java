@@ -0,0 +1,99 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.reader;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataDto;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataPage;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.service.AnimalPublicDataService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnimalPublicDataItemReader 단위 테스트")
+class AnimalPublicDataItemReaderTest {
+
+	private static final String START_DATE = "20250101";
+	private static final String END_DATE = "20250131";
+	private static final int NUM_OF_ROWS = 2;
+
+	@Mock
+	private AnimalPublicDataService animalPublicDataService;
+
+	@Test
+	@DisplayName("페이지를 순차적으로 읽고 마지막 페이지에서 종료해야 한다")
+	void shouldReadPagesLazilyUntilLastPage() {
+		AnimalPublicDataDto first = mock(AnimalPublicDataDto.class);
+		AnimalPublicDataDto second = mock(AnimalPublicDataDto.class);
+		AnimalPublicDataDto third = mock(AnimalPublicDataDto.class);
+
+		when(animalPublicDataService.fetchPage(START_DATE, END_DATE, NUM_OF_ROWS, 1))
+			.thenReturn(new AnimalPublicDataPage(1, List.of(first, second), null));
+		when(animalPublicDataService.fetchPage(START_DATE, END_DATE, NUM_OF_ROWS, 2))
+			.thenReturn(new AnimalPublicDataPage(2, List.of(third), null));
+
+		AnimalPublicDataItemReader reader = createReader();
+		reader.open(new ExecutionContext());
+
+		assertThat(reader.read()).isSameAs(first);
+		verify(animalPublicDataService, never()).fetchPage(anyString(), anyString(), anyInt(), eq(2));
+
+		assertThat(reader.read()).isSameAs(second);
+		assertThat(reader.read()).isSameAs(third);
+		assertThat(reader.read()).isNull();
+
+		verify(animalPublicDataService, times(2)).fetchPage(anyString(), anyString(), anyInt(), anyInt());
+	}
+
+	@Test
+	@DisplayName("빈 페이지를 받으면 바로 종료해야 한다")
+	void shouldStopOnEmptyPage() {
+		when(animalPublicDataService.fetchPage(START_DATE, END_DATE, NUM_OF_ROWS, 1))
+			.thenReturn(new AnimalPublicDataPage(1, List.of(), null));
+
+		AnimalPublicDataItemReader reader = createReader();
+		reader.open(new ExecutionContext());
+
+		assertThat(reader.read()).isNull();
+	}
+
+	@Test
+	@DisplayName("ExecutionContext에 저장된 페이지와 위치부터 재시작해야 한다")
+	void shouldRestartFromSavedPageAndIndex() {
+		AnimalPublicDataDto first = mock(AnimalPublicDataDto.class);
+		AnimalPublicDataDto second = mock(AnimalPublicDataDto.class);
+		AnimalPublicDataDto third = mock(AnimalPublicDataDto.class);
+
+		when(animalPublicDataService.fetchPage(START_DATE, END_DATE, NUM_OF_ROWS, 1))
+			.thenReturn(new AnimalPublicDataPage(1, List.of(first, second), null));
+		when(animalPublicDataService.fetchPage(START_DATE, END_DATE, NUM_OF_ROWS, 2))
+			.thenReturn(new AnimalPublicDataPage(2, List.of(third), null));
+
+		ExecutionContext executionContext = new ExecutionContext();
+		AnimalPublicDataItemReader reader = createReader();
+		reader.open(executionContext);
+		reader.read();
+		reader.update(executionContext);
+		reader.close();
+
+		AnimalPublicDataItemReader restarted = createReader();
+		restarted.open(executionContext);
+
+		assertThat(restarted.read()).isSameAs(second);
+		assertThat(restarted.read()).isSameAs(third);
+		assertThat(restarted.read()).isNull();
+	}
+
+	private AnimalPublicDataItemReader createReader() {
+		return new AnimalPublicDataItemReader(
+			animalPublicDataService, Runnable::run, START_DATE, END_DATE, NUM_OF_ROWS, 1, 4);
+	}
+}
@@ -0,0 +1,109 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.reader;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataDto;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataPage;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.service.AnimalPublicDataService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnimalPublicDataPagePrefetcher 단위 테스트")
+class AnimalPublicDataPagePrefetcherTest {
+
+	private static final String START_DATE = "20250101";
+	private static final String END_DATE = "20250131";
+	private static final int NUM_OF_ROWS = 2;
+
+	@Mock
+	private AnimalPublicDataService animalPublicDataService;
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(3);
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("totalCount 기준으로 남은 페이지를 동시에 조회하고 순서대로 반환해야 한다")
+	void shouldPrefetchRemainingPagesAndReturnInOrder() {
+		when(animalPublicDataService.fetchPage(START_DATE, END_DATE, NUM_OF_ROWS, 1))
+			.thenReturn(createPage(1, 2, 5));
+		when(animalPublicDataService.fetchPage(START_DATE, END_DATE, NUM_OF_ROWS, 2))
+			.thenAnswer(invocation -> {
+				Thread.sleep(100);
+				return createPage(2, 2, 5);
+			});
+		when(animalPublicDataService.fetchPage(START_DATE, END_DATE, NUM_OF_ROWS, 3))
+			.thenReturn(createPage(3, 1, 5));
+
+		AnimalPublicDataPagePrefetcher prefetcher = createPrefetcher(4);
+		prefetcher.start(1);
+
+		assertThat(prefetcher.next().getPageNo()).isEqualTo(1);
+		assertThat(prefetcher.next().getPageNo()).isEqualTo(2);
+		assertThat(prefetcher.next().getPageNo()).isEqualTo(3);
+		assertThat(prefetcher.next()).isNull();
+
+		verify(animalPublicDataService, times(3)).fetchPage(anyString(), anyString(), anyInt(), anyInt());
+	}
+
+	@Test
+	@DisplayName("동시 조회 윈도우 크기를 넘겨서 페이지를 요청하지 않아야 한다")
+	void shouldBoundInFlightPagesByWindowSize() {
+		when(animalPublicDataService.fetchPage(anyString(), anyString(), anyInt(), anyInt()))
+			.thenAnswer(invocation -> createPage(invocation.getArgument(3), 2, 20));
+
+		AnimalPublicDataPagePrefetcher prefetcher = createPrefetcher(2);
+		prefetcher.start(1);
+
+		verify(animalPublicDataService, timeout(1000).times(3)).fetchPage(anyString(), anyString(), anyInt(), anyInt());
+		verify(animalPublicDataService, never()).fetchPage(anyString(), anyString(), anyInt(), eq(4));
+
+		prefetcher.close();
+	}
+
+	@Test
+	@DisplayName("totalCount가 없으면 짧은 페이지를 받을 때까지 순차 조회해야 한다")
+	void shouldFetchSequentiallyWithoutTotalCount() {
+		when(animalPublicDataService.fetchPage(START_DATE, END_DATE, NUM_OF_ROWS, 1))
+			.thenReturn(createPage(1, 2, null));
+		when(animalPublicDataService.fetchPage(START_DATE, END_DATE, NUM_OF_ROWS, 2))
+			.thenReturn(createPage(2, 0, null));
+
+		AnimalPublicDataPagePrefetcher prefetcher = createPrefetcher(4);
+		prefetcher.start(1);
+
+		assertThat(prefetcher.next().getPageNo()).isEqualTo(1);
+		verify(animalPublicDataService, never()).fetchPage(anyString(), anyString(), anyInt(), eq(2));
+
+		assertThat(prefetcher.next().getItems()).isEmpty();
+		assertThat(prefetcher.next()).isNull();
+	}
+
+	private AnimalPublicDataPagePrefetcher createPrefetcher(int windowSize) {
+		return new AnimalPublicDataPagePrefetcher(
+			animalPublicDataService, executorService, START_DATE, END_DATE, NUM_OF_ROWS, windowSize);
+	}
+
+	private AnimalPublicDataPage createPage(int pageNo, int size, Integer totalCount) {
+		List<AnimalPublicDataDto> items = IntStream.range(0, size)
+			.mapToObj(i -> new AnimalPublicDataDto())
+			.toList();
+		return new AnimalPublicDataPage(pageNo, items, totalCount);
+	}
+}
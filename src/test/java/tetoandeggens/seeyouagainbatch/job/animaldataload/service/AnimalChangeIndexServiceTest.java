@@ -0,0 +1,127 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalChangeIndexEntry;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalChangeSet;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataDto;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnimalChangeIndexService 단위 테스트")
+class AnimalChangeIndexServiceTest {
+
+	private static final String UPD_TM = "2025-01-15 10:30:00";
+
+	@Mock
+	private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	@InjectMocks
+	private AnimalChangeIndexService animalChangeIndexService;
+
+	@Test
+	@DisplayName("인덱스와 비교해 신규, 변경, 변경 없음으로 분류해야 한다")
+	void shouldClassifyIntoInsertsUpdatesAndUnchanged() {
+		AnimalPublicDataDto unchanged = createDto("D-001", UPD_TM, "보호중");
+		AnimalPublicDataDto contentChanged = createDto("D-002", UPD_TM, "종료(입양)");
+		AnimalPublicDataDto updTmChanged = createDto("D-003", "2025-01-16 09:00:00", "보호중");
+		AnimalPublicDataDto inserted = createDto("D-004", UPD_TM, "보호중");
+
+		Map<String, AnimalChangeIndexEntry> indexed = Map.of(
+			"D-001", new AnimalChangeIndexEntry(UPD_TM, AnimalChangeIndexService.contentHash(unchanged)),
+			"D-002", new AnimalChangeIndexEntry(UPD_TM,
+				AnimalChangeIndexService.contentHash(createDto("D-002", UPD_TM, "보호중"))),
+			"D-003", new AnimalChangeIndexEntry(UPD_TM, AnimalChangeIndexService.contentHash(updTmChanged)));
+		stubIndexedEntries(indexed);
+
+		AnimalChangeSet changeSet = animalChangeIndexService.classify(
+			List.of(unchanged, contentChanged, updTmChanged, inserted));
+
+		assertThat(changeSet.getInserts()).containsExactly(inserted);
+		assertThat(changeSet.getUpdates()).containsExactly(contentChanged, updTmChanged);
+		assertThat(changeSet.getUnchangedCount()).isEqualTo(1);
+		assertThat(changeSet.getChangedItems()).containsExactly(inserted, contentChanged, updTmChanged);
+	}
+
+	@Test
+	@DisplayName("모든 기록이 변경되지 않았으면 변경 사항이 없어야 한다")
+	void shouldReportNoChangesWhenAllRecordsMatch() {
+		AnimalPublicDataDto dto = createDto("D-001", UPD_TM, "보호중");
+		stubIndexedEntries(Map.of(
+			"D-001", new AnimalChangeIndexEntry(UPD_TM, AnimalChangeIndexService.contentHash(dto))));
+
+		AnimalChangeSet changeSet = animalChangeIndexService.classify(List.of(dto));
+
+		assertThat(changeSet.hasChanges()).isFalse();
+		assertThat(changeSet.getUnchangedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("animal 행은 있지만 인덱스 항목이 없으면 변경으로 분류해 다시 저장해야 한다")
+	void shouldTreatAnimalWithoutIndexEntryAsUpdate() {
+		AnimalPublicDataDto dto = createDto("D-001", UPD_TM, "보호중");
+		Map<String, AnimalChangeIndexEntry> indexed = new HashMap<>();
+		indexed.put("D-001", null);
+		stubIndexedEntries(indexed);
+
+		AnimalChangeSet changeSet = animalChangeIndexService.classify(List.of(dto));
+
+		assertThat(changeSet.getInserts()).isEmpty();
+		assertThat(changeSet.getUpdates()).containsExactly(dto);
+	}
+
+	@Test
+	@DisplayName("인덱스 조회는 animal 행을 기준으로 해 animal 행이 없는 인덱스 항목을 신규로 분류해야 한다")
+	@SuppressWarnings("unchecked")
+	void shouldClassifyAgainstAnimalRows() {
+		AnimalPublicDataDto dto = createDto("D-001", UPD_TM, "보호중");
+		stubIndexedEntries(Map.of());
+
+		AnimalChangeSet changeSet = animalChangeIndexService.classify(List.of(dto));
+
+		assertThat(changeSet.getInserts()).containsExactly(dto);
+		verify(namedParameterJdbcTemplate).query(
+			argThat((String sql) -> sql.contains("FROM animal a") && sql.contains("LEFT JOIN animal_change_index")),
+			any(SqlParameterSource.class), any(ResultSetExtractor.class));
+	}
+
+	@Test
+	@DisplayName("같은 내용은 같은 해시를, 필드 경계가 다르면 다른 해시를 만들어야 한다")
+	void shouldHashContentDeterministically() {
+		long hash = AnimalChangeIndexService.contentHash(createDto("D-001", UPD_TM, "보호중"));
+
+		assertThat(AnimalChangeIndexService.contentHash(createDto("D-001", UPD_TM, "보호중"))).isEqualTo(hash);
+		assertThat(AnimalChangeIndexService.contentHash(createDto("D-001", UPD_TM, "보호"))).isNotEqualTo(hash);
+		assertThat(AnimalChangeIndexService.contentHash(createDto("D-001", UPD_TM, null))).isNotEqualTo(
+			AnimalChangeIndexService.contentHash(createDto("D-001", UPD_TM, "")));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void stubIndexedEntries(Map<String, AnimalChangeIndexEntry> indexed) {
+		when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class),
+			any(ResultSetExtractor.class))).thenReturn(indexed);
+	}
+
+	private AnimalPublicDataDto createDto(String desertionNo, String updTm, String processState) {
+		return new AnimalPublicDataDto(
+			desertionNo, "20250101", "서울특별시 강남구", "[개] 믹스견", "417000", "개", "믹스견", "417000",
+			"갈색", "2023(년생)", "5(Kg)", "notice-" + desertionNo, "20250101", "20250131",
+			null, null, null, processState, "M", "Y", "순함",
+			"강남구청", "02-3423-5555", "서울특별시 강남구 학동로 426", "test-reg-001", updTm, "서울특별시 강남구");
+	}
+}
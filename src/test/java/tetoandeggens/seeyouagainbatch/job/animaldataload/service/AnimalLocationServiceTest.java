@@ -10,15 +10,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionOperations;
 
+import tetoandeggens.seeyouagainbatch.common.concurrent.RateLimiter;
+import tetoandeggens.seeyouagainbatch.common.jdbc.BulkInsertStatement;
+import tetoandeggens.seeyouagainbatch.common.jdbc.MultiRowBulkInserter;
 import tetoandeggens.seeyouagainbatch.domain.AnimalLocation;
 import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataDto;
 import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.GeoCoordinateDto;
@@ -35,11 +37,22 @@ class AnimalLocationServiceTest {
     private KakaoMapService kakaoMapService;
 
     @Mock
-    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private MultiRowBulkInserter bulkInserter;
 
-    @InjectMocks
     private AnimalLocationService animalLocationService;
 
+    @BeforeEach
+    void setUp() {
+        animalLocationService = new AnimalLocationService(
+                animalLocationRepository,
+                kakaoMapService,
+                bulkInserter,
+                Runnable::run,
+                new RateLimiter(1000),
+                TransactionOperations.withoutTransaction()
+        );
+    }
+
     @Test
     @DisplayName("새로운 보호소 위치를 처리하고 ID 맵을 반환해야 한다")
     void shouldProcessNewAnimalLocations() {
@@ -58,8 +71,8 @@ class AnimalLocationServiceTest {
                         createAnimalLocation(2L, "test-reg-002", "송파구청")
                 ));
 
-        when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-                .thenReturn(new int[]{1, 1});
+        when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+                .thenReturn(2);
 
         Map<String, Long> result = animalLocationService.processAnimalLocations(dataList);
 
@@ -70,7 +83,7 @@ class AnimalLocationServiceTest {
 
         verify(animalLocationRepository, times(2)).findByCenterNoIn(any(Set.class));
         verify(kakaoMapService, times(2)).searchCoordinates(anyString());
-        verify(namedParameterJdbcTemplate, times(1)).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        verify(bulkInserter, times(1)).insert(any(BulkInsertStatement.class), anyList(), any());
     }
 
     @Test
@@ -90,7 +103,7 @@ class AnimalLocationServiceTest {
 
         verify(animalLocationRepository, times(1)).findByCenterNoIn(any(Set.class));
         verify(kakaoMapService, never()).searchCoordinates(anyString());
-        verify(namedParameterJdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        verify(bulkInserter, never()).insert(any(BulkInsertStatement.class), anyList(), any());
     }
 
     @Test
@@ -108,8 +121,8 @@ class AnimalLocationServiceTest {
                 .thenReturn(List.of(createAnimalLocation(1L, "test-reg-001", "강남구청")))
                 .thenReturn(List.of(createAnimalLocation(2L, "test-reg-002", "송파구청")));
 
-        when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-                .thenReturn(new int[]{1});
+        when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+                .thenReturn(1);
 
         Map<String, Long> result = animalLocationService.processAnimalLocations(dataList);
 
@@ -118,7 +131,7 @@ class AnimalLocationServiceTest {
 
         verify(animalLocationRepository, times(2)).findByCenterNoIn(any(Set.class));
         verify(kakaoMapService, times(1)).searchCoordinates(anyString());
-        verify(namedParameterJdbcTemplate, times(1)).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        verify(bulkInserter, times(1)).insert(any(BulkInsertStatement.class), anyList(), any());
     }
 
     @Test
@@ -134,7 +147,7 @@ class AnimalLocationServiceTest {
         assertThat(result).isEmpty();
         verify(animalLocationRepository, times(1)).findByCenterNoIn(any(Set.class));
         verify(kakaoMapService, never()).searchCoordinates(anyString());
-        verify(namedParameterJdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        verify(bulkInserter, never()).insert(any(BulkInsertStatement.class), anyList(), any());
     }
 
     @Test
@@ -153,8 +166,8 @@ class AnimalLocationServiceTest {
                 .thenReturn(Collections.emptyList())
                 .thenReturn(List.of(createAnimalLocation(1L, "test-reg-001", "강남구청")));
 
-        when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-                .thenReturn(new int[]{1});
+        when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+                .thenReturn(1);
 
         Map<String, Long> result = animalLocationService.processAnimalLocations(dataList);
 
@@ -162,7 +175,7 @@ class AnimalLocationServiceTest {
         assertThat(result).containsKey("test-reg-001");
 
         verify(animalLocationRepository, times(2)).findByCenterNoIn(any(Set.class));
-        verify(namedParameterJdbcTemplate, times(1)).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        verify(bulkInserter, times(1)).insert(any(BulkInsertStatement.class), anyList(), any());
     }
 
     @Test
@@ -181,8 +194,8 @@ class AnimalLocationServiceTest {
                 .thenReturn(Collections.emptyList())
                 .thenReturn(List.of(createAnimalLocation(1L, "test-reg-001", "강남구청")));
 
-        when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-                .thenReturn(new int[]{1});
+        when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+                .thenReturn(1);
 
         Map<String, Long> result = animalLocationService.processAnimalLocations(dataList);
 
@@ -191,8 +204,8 @@ class AnimalLocationServiceTest {
 
         verify(animalLocationRepository, times(2)).findByCenterNoIn(argThat(set -> set.size() == 1));
         verify(kakaoMapService, times(1)).searchCoordinates(anyString());
-        verify(namedParameterJdbcTemplate, times(1))
-                .batchUpdate(anyString(), any(SqlParameterSource[].class));
+        verify(bulkInserter, times(1))
+                .insert(any(BulkInsertStatement.class), anyList(), any());
     }
 
     @Test
@@ -211,8 +224,8 @@ class AnimalLocationServiceTest {
                 .thenReturn(Collections.emptyList())
                 .thenReturn(List.of(createAnimalLocation(3L, "test-reg-003", "성남시청")));
 
-        when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-                .thenReturn(new int[]{1});
+        when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+                .thenReturn(1);
 
         Map<String, Long> result = animalLocationService.processAnimalLocations(dataList);
 
@@ -220,8 +233,8 @@ class AnimalLocationServiceTest {
         assertThat(result).containsKey("test-reg-003");
 
         verify(kakaoMapService, times(1)).searchCoordinates(anyString());
-        verify(namedParameterJdbcTemplate, times(1))
-                .batchUpdate(anyString(), any(SqlParameterSource[].class));
+        verify(bulkInserter, times(1))
+                .insert(any(BulkInsertStatement.class), anyList(), any());
     }
 
     private AnimalPublicDataDto createMockDto(String careRegNo, String careNm, String careAddr) {
@@ -16,9 +16,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
+import tetoandeggens.seeyouagainbatch.common.jdbc.BulkInsertStatement;
+import tetoandeggens.seeyouagainbatch.common.jdbc.MultiRowBulkInserter;
 import tetoandeggens.seeyouagainbatch.domain.BreedType;
 import tetoandeggens.seeyouagainbatch.domain.Species;
 import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.AnimalPublicDataDto;
@@ -32,7 +32,7 @@ class BreedTypeServiceTest {
     private BreedTypeRepository breedTypeRepository;
 
     @Mock
-    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private MultiRowBulkInserter bulkInserter;
 
     @InjectMocks
     private BreedTypeService breedTypeService;
@@ -52,8 +52,8 @@ class BreedTypeServiceTest {
                         createBreedType(2L, "422400", "코리안숏헤어", Species.CAT)
                 ));
 
-        when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-                .thenReturn(new int[]{1, 1});
+        when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+                .thenReturn(2);
 
         Map<String, Long> result = breedTypeService.processBreedTypes(dataList);
 
@@ -63,7 +63,7 @@ class BreedTypeServiceTest {
         assertThat(result.get("422400")).isEqualTo(2L);
 
         verify(breedTypeRepository, times(2)).findByCodeIn(any(Set.class));
-        verify(namedParameterJdbcTemplate, times(1)).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        verify(bulkInserter, times(1)).insert(any(BulkInsertStatement.class), anyList(), any());
     }
 
     @Test
@@ -82,7 +82,7 @@ class BreedTypeServiceTest {
         assertThat(result.get("417000")).isEqualTo(1L);
 
         verify(breedTypeRepository, times(1)).findByCodeIn(any(Set.class));
-        verify(namedParameterJdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        verify(bulkInserter, never()).insert(any(BulkInsertStatement.class), anyList(), any());
     }
 
     @Test
@@ -97,8 +97,8 @@ class BreedTypeServiceTest {
                 .thenReturn(List.of(createBreedType(1L, "417000", "믹스견", Species.DOG)))
                 .thenReturn(List.of(createBreedType(2L, "422400", "코리안숏헤어", Species.CAT)));
 
-        when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-                .thenReturn(new int[]{1});
+        when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+                .thenReturn(1);
 
         Map<String, Long> result = breedTypeService.processBreedTypes(dataList);
 
@@ -106,7 +106,7 @@ class BreedTypeServiceTest {
         assertThat(result).containsKeys("417000", "422400");
 
         verify(breedTypeRepository, times(2)).findByCodeIn(any(Set.class));
-        verify(namedParameterJdbcTemplate, times(1)).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        verify(bulkInserter, times(1)).insert(any(BulkInsertStatement.class), anyList(), any());
     }
 
     @Test
@@ -121,7 +121,7 @@ class BreedTypeServiceTest {
 
         assertThat(result).isEmpty();
         verify(breedTypeRepository, times(1)).findByCodeIn(any(Set.class));
-        verify(namedParameterJdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        verify(bulkInserter, never()).insert(any(BulkInsertStatement.class), anyList(), any());
     }
 
     @Test
@@ -137,8 +137,8 @@ class BreedTypeServiceTest {
                 .thenReturn(Collections.emptyList())
                 .thenReturn(List.of(createBreedType(1L, "417000", "믹스견", Species.DOG)));
 
-        when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-                .thenReturn(new int[]{1});
+        when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+                .thenReturn(1);
 
         Map<String, Long> result = breedTypeService.processBreedTypes(dataList);
 
@@ -146,7 +146,7 @@ class BreedTypeServiceTest {
         assertThat(result).containsKey("417000");
 
         verify(breedTypeRepository, times(2)).findByCodeIn(any(Set.class));
-        verify(namedParameterJdbcTemplate, times(1)).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        verify(bulkInserter, times(1)).insert(any(BulkInsertStatement.class), anyList(), any());
     }
 
     @Test
@@ -162,8 +162,8 @@ class BreedTypeServiceTest {
                 .thenReturn(Collections.emptyList())
                 .thenReturn(List.of(createBreedType(1L, "417000", "믹스견", Species.DOG)));
 
-        when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-                .thenReturn(new int[]{1});
+        when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+                .thenReturn(1);
 
         Map<String, Long> result = breedTypeService.processBreedTypes(dataList);
 
@@ -171,8 +171,8 @@ class BreedTypeServiceTest {
         assertThat(result.get("417000")).isEqualTo(1L);
 
         verify(breedTypeRepository, times(2)).findByCodeIn(argThat(set -> set.size() == 1));
-        verify(namedParameterJdbcTemplate, times(1))
-                .batchUpdate(anyString(), any(SqlParameterSource[].class));
+        verify(bulkInserter, times(1))
+                .insert(any(BulkInsertStatement.class), anyList(), any());
     }
 
     private AnimalPublicDataDto createMockDto(String kindCd, String kindNm, String upKindCd) {
@@ -0,0 +1,103 @@
+package tetoandeggens.seeyouagainbatch.job.animaldataload.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import tetoandeggens.seeyouagainbatch.job.animaldataload.client.KakaoMapApiClient;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.GeoCoordinateDto;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.GeocodeCacheEntry;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.KakaoMapDocumentDto;
+import tetoandeggens.seeyouagainbatch.job.animaldataload.dto.KakaoMapResponseWrapper;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KakaoMapService 단위 테스트")
+class KakaoMapServiceTest {
+
+	private static final String ADDRESS = "서울특별시 강남구 학동로 426";
+
+	@Mock
+	private KakaoMapApiClient kakaoMapApiClient;
+
+	@Mock
+	private GeocodeCacheService geocodeCacheService;
+
+	@InjectMocks
+	private KakaoMapService kakaoMapService;
+
+	@Test
+	@DisplayName("캐시에 좌표가 있으면 카카오 API를 호출하지 않아야 한다")
+	void shouldReturnCachedCoordinateWithoutApiCall() {
+		when(geocodeCacheService.find(ADDRESS)).thenReturn(Optional.of(
+			new GeocodeCacheEntry(37.5665, 126.9780, true, LocalDateTime.now().plusDays(1))));
+
+		GeoCoordinateDto result = kakaoMapService.searchCoordinates(ADDRESS);
+
+		assertThat(result.getLatitude()).isEqualTo(37.5665);
+		assertThat(result.getLongitude()).isEqualTo(126.9780);
+		verify(kakaoMapApiClient, never()).searchCoordinates(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("변환 실패로 캐시된 주소는 카카오 API를 호출하지 않고 기본 좌표를 반환해야 한다")
+	void shouldReturnDefaultCoordinateForNegativeEntry() {
+		when(geocodeCacheService.find(ADDRESS)).thenReturn(Optional.of(
+			new GeocodeCacheEntry(null, null, false, LocalDateTime.now().plusDays(1))));
+
+		GeoCoordinateDto result = kakaoMapService.searchCoordinates(ADDRESS);
+
+		assertThat(result.getLatitude()).isEqualTo(0.0);
+		assertThat(result.getLongitude()).isEqualTo(0.0);
+		verify(kakaoMapApiClient, never()).searchCoordinates(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("캐시 미스 시 카카오 API 결과를 캐시에 저장해야 한다")
+	void shouldStoreResolvedCoordinateOnCacheMiss() {
+		when(geocodeCacheService.find(ADDRESS)).thenReturn(Optional.empty());
+		when(kakaoMapApiClient.searchCoordinates(anyString(), eq(ADDRESS))).thenReturn(
+			new KakaoMapResponseWrapper(List.of(new KakaoMapDocumentDto("126.9780", "37.5665"))));
+
+		GeoCoordinateDto result = kakaoMapService.searchCoordinates(ADDRESS);
+
+		assertThat(result.getLatitude()).isEqualTo(37.5665);
+		verify(geocodeCacheService).putResolved(eq(ADDRESS), any(GeoCoordinateDto.class));
+	}
+
+	@Test
+	@DisplayName("카카오 API가 좌표를 찾지 못하면 실패 항목으로 캐시해야 한다")
+	void shouldStoreNegativeEntryWhenNotFound() {
+		when(geocodeCacheService.find(ADDRESS)).thenReturn(Optional.empty());
+		when(kakaoMapApiClient.searchCoordinates(anyString(), eq(ADDRESS)))
+			.thenReturn(new KakaoMapResponseWrapper(List.of()));
+
+		kakaoMapService.searchCoordinates(ADDRESS);
+
+		verify(geocodeCacheService).putUnresolved(ADDRESS);
+	}
+
+	@Test
+	@DisplayName("카카오 API 호출 중 오류가 발생하면 캐시에 저장하지 않아야 한다")
+	void shouldNotCacheOnApiError() {
+		when(geocodeCacheService.find(ADDRESS)).thenReturn(Optional.empty());
+		when(kakaoMapApiClient.searchCoordinates(anyString(), eq(ADDRESS)))
+			.thenThrow(new RuntimeException("timeout"));
+
+		GeoCoordinateDto result = kakaoMapService.searchCoordinates(ADDRESS);
+
+		assertThat(result.getLatitude()).isEqualTo(0.0);
+		verify(geocodeCacheService, never()).putResolved(anyString(), any());
+		verify(geocodeCacheService, never()).putUnresolved(anyString());
+	}
+}
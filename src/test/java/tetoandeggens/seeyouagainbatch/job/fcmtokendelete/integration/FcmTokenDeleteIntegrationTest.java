@@ -132,6 +132,47 @@ class FcmTokenDeleteIntegrationTest extends BatchTestConfig {
 		assertThat(countAllFcmTokens()).isEqualTo(1);
 	}
 
+	@Test
+	@DisplayName("range 모드에서도 cutoff 이전 토큰만 ID 구간 단위로 삭제해야 한다")
+	void shouldDeleteTokensByIdRangeInRangeMode() throws Exception {
+		namedParameterJdbcTemplate.getJdbcTemplate().execute("DELETE FROM fcm_token");
+		setupLargeTestData(1000);
+		insertFcmToken(1001L, "token-1001", "device-1001", LocalDateTime.now().minusDays(5));
+
+		JobParameters rangeJobParameters = new JobParametersBuilder()
+			.addString("date", LocalDate.now().format(DATE_FORMATTER))
+			.addString("deleteMode", "range")
+			.addLong("rangeSize", 300L)
+			.addLong("tokenDeleteChunkSize", 100L)
+			.addLong("timestamp", System.currentTimeMillis())
+			.toJobParameters();
+
+		JobExecution jobExecution = jobLauncherTestUtils.launchJob(rangeJobParameters);
+
+		assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(jobExecution.getStepExecutions())
+			.singleElement()
+			.satisfies(stepExecution -> assertThat(stepExecution.getWriteCount()).isEqualTo(1000));
+		assertThat(countAllFcmTokens()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("range 모드에서 삭제할 토큰이 없으면 Job이 정상 완료되어야 한다")
+	void shouldCompleteSuccessfullyWithNoTokensInRangeMode() throws Exception {
+		namedParameterJdbcTemplate.getJdbcTemplate().execute("DELETE FROM fcm_token");
+
+		JobParameters rangeJobParameters = new JobParametersBuilder()
+			.addString("date", LocalDate.now().format(DATE_FORMATTER))
+			.addString("deleteMode", "range")
+			.addLong("timestamp", System.currentTimeMillis())
+			.toJobParameters();
+
+		JobExecution jobExecution = jobLauncherTestUtils.launchJob(rangeJobParameters);
+
+		assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(countAllFcmTokens()).isEqualTo(0);
+	}
+
 	private void setupJobLauncherTestUtils() {
 		jobLauncherTestUtils.setJob(fcmTokenDeleteJob);
 	}
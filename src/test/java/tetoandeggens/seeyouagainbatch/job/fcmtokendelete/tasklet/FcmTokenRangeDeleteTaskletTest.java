@@ -0,0 +1,115 @@
+package tetoandeggens.seeyouagainbatch.job.fcmtokendelete.tasklet;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FcmTokenRangeDeleteTasklet 단위 테스트")
+class FcmTokenRangeDeleteTaskletTest {
+
+	private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+	@Mock
+	private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	private FcmTokenRangeDeleteTasklet tasklet;
+	private StepExecution stepExecution;
+	private StepContribution contribution;
+	private ChunkContext chunkContext;
+
+	@BeforeEach
+	void setUp() {
+		tasklet = new FcmTokenRangeDeleteTasklet(namedParameterJdbcTemplate, CUTOFF, 100L, 50);
+		stepExecution = MetaDataInstanceFactory.createStepExecution();
+		contribution = stepExecution.createStepContribution();
+		chunkContext = new ChunkContext(new StepContext(stepExecution));
+	}
+
+	@Test
+	@DisplayName("삭제 대상이 없으면 DELETE 없이 종료한다")
+	void shouldFinishWithoutDeleteWhenNoTargets() {
+		givenIdRange(null, null);
+
+		RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+		assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+		assertThat(contribution.getWriteCount()).isZero();
+		verify(namedParameterJdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	@DisplayName("ID 구간마다 LIMIT만큼 반복 삭제하고 삭제 건수를 StepContribution에 반영한다")
+	void shouldDeleteEachRangeUntilNothingIsLeft() {
+		givenIdRange(1L, 250L);
+		when(namedParameterJdbcTemplate.update(anyString(), any(SqlParameterSource.class)))
+			.thenReturn(50, 30, 10, 0);
+
+		RepeatStatus first = tasklet.execute(contribution, chunkContext);
+		assertThat(first).isEqualTo(RepeatStatus.CONTINUABLE);
+		assertThat(contribution.getWriteCount()).isEqualTo(80);
+
+		RepeatStatus second = tasklet.execute(contribution, chunkContext);
+		RepeatStatus third = tasklet.execute(contribution, chunkContext);
+
+		assertThat(second).isEqualTo(RepeatStatus.CONTINUABLE);
+		assertThat(third).isEqualTo(RepeatStatus.FINISHED);
+		assertThat(contribution.getWriteCount()).isEqualTo(90);
+		assertThat(stepExecution.getExecutionContext().getLong(FcmTokenRangeDeleteTasklet.NEXT_ID_KEY))
+			.isEqualTo(251L);
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+		verify(namedParameterJdbcTemplate, times(4)).update(sqlCaptor.capture(), any(SqlParameterSource.class));
+		assertThat(sqlCaptor.getValue())
+			.contains("DELETE FROM fcm_token")
+			.contains("fcm_token_id BETWEEN :lo AND :hi")
+			.contains("last_used_at < :cutoff")
+			.endsWith("LIMIT 50");
+	}
+
+	@Test
+	@DisplayName("재시작 시 저장된 위치부터 이어서 삭제한다")
+	void shouldResumeFromSavedPosition() {
+		stepExecution.getExecutionContext().putLong(FcmTokenRangeDeleteTasklet.NEXT_ID_KEY, 201L);
+		stepExecution.getExecutionContext().putLong(FcmTokenRangeDeleteTasklet.MAX_ID_KEY, 250L);
+		when(namedParameterJdbcTemplate.update(anyString(), any(SqlParameterSource.class))).thenReturn(20);
+
+		RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+		assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+		assertThat(contribution.getWriteCount()).isEqualTo(20);
+
+		ArgumentCaptor<SqlParameterSource> paramsCaptor = ArgumentCaptor.forClass(SqlParameterSource.class);
+		verify(namedParameterJdbcTemplate).update(anyString(), paramsCaptor.capture());
+		assertThat(paramsCaptor.getValue().getValue("lo")).isEqualTo(201L);
+		assertThat(paramsCaptor.getValue().getValue("hi")).isEqualTo(250L);
+		verify(namedParameterJdbcTemplate, never()).queryForMap(anyString(), any(SqlParameterSource.class));
+	}
+
+	private void givenIdRange(Long minId, Long maxId) {
+		Map<String, Object> idRange = new HashMap<>();
+		idRange.put("min_id", minId);
+		idRange.put("max_id", maxId);
+		when(namedParameterJdbcTemplate.queryForMap(anyString(), any(SqlParameterSource.class))).thenReturn(idRange);
+	}
+}
@@ -180,4 +180,57 @@ class FcmTokenDeleteJobParametersValidatorTest {
 		assertThatCode(() -> validator.validate(parameters))
 			.doesNotThrowAnyException();
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("range 삭제 모드와 rangeSize는 통과해야 한다")
+	void shouldPassValidationForRangeDeleteMode() {
+		JobParameters parameters = new JobParametersBuilder()
+			.addString("date", LocalDate.now().format(DATE_FORMATTER))
+			.addString("deleteMode", "range")
+			.addLong("rangeSize", 5000L)
+			.toJobParameters();
+
+		assertThatCode(() -> validator.validate(parameters))
+			.doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("알 수 없는 삭제 모드는 예외가 발생해야 한다")
+	void shouldThrowExceptionWhenDeleteModeIsUnknown() {
+		JobParameters parameters = new JobParametersBuilder()
+			.addString("date", LocalDate.now().format(DATE_FORMATTER))
+			.addString("deleteMode", "bulk")
+			.toJobParameters();
+
+		assertThatThrownBy(() -> validator.validate(parameters))
+			.isInstanceOf(JobParametersInvalidException.class)
+			.hasMessageContaining("deleteMode");
+	}
+
+	@Test
+	@DisplayName("rangeSize가 허용 범위를 벗어나면 예외가 발생해야 한다")
+	void shouldThrowExceptionWhenRangeSizeIsOutOfRange() {
+		JobParameters parameters = new JobParametersBuilder()
+			.addString("date", LocalDate.now().format(DATE_FORMATTER))
+			.addLong("rangeSize", 0L)
+			.toJobParameters();
+
+		assertThatThrownBy(() -> validator.validate(parameters))
+			.isInstanceOf(JobParametersInvalidException.class)
+			.hasMessageContaining("허용 범위를 벗어났습니다");
+	}
+
+	@Test
+	@DisplayName("tokenDeleteChunkSize가 1보다 작으면 예외가 발생해야 한다")
+	void shouldThrowExceptionWhenTokenDeleteChunkSizeIsNotPositive() {
+		JobParameters parameters = new JobParametersBuilder()
+			.addString("date", LocalDate.now().format(DATE_FORMATTER))
+			.addString("deleteMode", "range")
+			.addLong("tokenDeleteChunkSize", 0L)
+			.toJobParameters();
+
+		assertThatThrownBy(() -> validator.validate(parameters))
+			.isInstanceOf(JobParametersInvalidException.class)
+			.hasMessageContaining("tokenDeleteChunkSize");
+	}
+}
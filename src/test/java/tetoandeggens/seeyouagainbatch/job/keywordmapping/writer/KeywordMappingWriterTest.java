@@ -17,9 +17,9 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.item.Chunk;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
+import tetoandeggens.seeyouagainbatch.common.jdbc.BulkInsertStatement;
+import tetoandeggens.seeyouagainbatch.common.jdbc.MultiRowBulkInserter;
 import tetoandeggens.seeyouagainbatch.domain.Animal;
 import tetoandeggens.seeyouagainbatch.domain.AnimalByKeyword;
 import tetoandeggens.seeyouagainbatch.domain.KeywordCategoryType;
@@ -31,19 +31,19 @@ import tetoandeggens.seeyouagainbatch.domain.NotificationKeyword;
 class KeywordMappingWriterTest {
 
 	@Mock
-	private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private MultiRowBulkInserter bulkInserter;
 
 	private KeywordMappingWriter writer;
 
 	@Captor
-	private ArgumentCaptor<String> sqlCaptor;
+	private ArgumentCaptor<BulkInsertStatement> statementCaptor;
 
 	@Captor
-	private ArgumentCaptor<SqlParameterSource[]> paramsCaptor;
+	private ArgumentCaptor<List<AnimalByKeyword>> rowsCaptor;
 
 	@BeforeEach
 	void setUp() {
-		writer = new KeywordMappingWriter(namedParameterJdbcTemplate);
+		writer = new KeywordMappingWriter(bulkInserter);
 	}
 
 	@Test
@@ -59,23 +59,22 @@ class KeywordMappingWriterTest {
 
 		Chunk<List<AnimalByKeyword>> chunk = new Chunk<>(List.of(mappings1, mappings2));
 
-		when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-			.thenReturn(new int[]{1, 1, 1});
+		when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+			.thenReturn(3);
 
 		writer.write(chunk);
 
-		verify(namedParameterJdbcTemplate, times(1))
-			.batchUpdate(sqlCaptor.capture(), paramsCaptor.capture());
+		verify(bulkInserter, times(1))
+			.insert(statementCaptor.capture(), rowsCaptor.capture(), any());
 
-		String sql = sqlCaptor.getValue();
+		String sql = statementCaptor.getValue().toSql(1);
 		assertThat(sql).contains("INSERT INTO animal_by_keyword");
 		assertThat(sql).contains("notification_keyword_id");
 		assertThat(sql).contains("animal_id");
 		assertThat(sql).contains("created_at");
 		assertThat(sql).contains("updated_at");
 
-		SqlParameterSource[] params = paramsCaptor.getValue();
-		assertThat(params).hasSize(3);
+		assertThat(rowsCaptor.getValue()).hasSize(3);
 	}
 
 	@Test
@@ -91,16 +90,15 @@ class KeywordMappingWriterTest {
 
 		Chunk<List<AnimalByKeyword>> chunk = new Chunk<>(List.of(mappings1, emptyMappings, mappings2));
 
-		when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-			.thenReturn(new int[]{1, 1});
+		when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+			.thenReturn(2);
 
 		writer.write(chunk);
 
-		verify(namedParameterJdbcTemplate, times(1))
-			.batchUpdate(anyString(), paramsCaptor.capture());
+		verify(bulkInserter, times(1))
+			.insert(any(BulkInsertStatement.class), rowsCaptor.capture(), any());
 
-		SqlParameterSource[] params = paramsCaptor.getValue();
-		assertThat(params).hasSize(2);
+		assertThat(rowsCaptor.getValue()).hasSize(2);
 	}
 
 	@Test
@@ -110,7 +108,7 @@ class KeywordMappingWriterTest {
 
 		writer.write(emptyChunk);
 
-		verify(namedParameterJdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+		verify(bulkInserter, never()).insert(any(BulkInsertStatement.class), anyList(), any());
 	}
 
 	@Test
@@ -123,7 +121,7 @@ class KeywordMappingWriterTest {
 
 		writer.write(chunk);
 
-		verify(namedParameterJdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+		verify(bulkInserter, never()).insert(any(BulkInsertStatement.class), anyList(), any());
 	}
 
 	@Test
@@ -136,16 +134,15 @@ class KeywordMappingWriterTest {
 
 		Chunk<List<AnimalByKeyword>> chunk = new Chunk<>(Arrays.asList(mappings, null));
 
-		when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-			.thenReturn(new int[]{1, 1});
+		when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+			.thenReturn(2);
 
 		writer.write(chunk);
 
-		verify(namedParameterJdbcTemplate, times(1))
-			.batchUpdate(anyString(), paramsCaptor.capture());
+		verify(bulkInserter, times(1))
+			.insert(any(BulkInsertStatement.class), rowsCaptor.capture(), any());
 
-		SqlParameterSource[] params = paramsCaptor.getValue();
-		assertThat(params).hasSize(2);
+		assertThat(rowsCaptor.getValue()).hasSize(2);
 	}
 
 	@Test
@@ -157,16 +154,15 @@ class KeywordMappingWriterTest {
 
 		Chunk<List<AnimalByKeyword>> chunk = new Chunk<>(List.of(mappings));
 
-		when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-			.thenReturn(new int[]{1});
+		when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+			.thenReturn(1);
 
 		writer.write(chunk);
 
-		verify(namedParameterJdbcTemplate, times(1))
-			.batchUpdate(anyString(), paramsCaptor.capture());
+		verify(bulkInserter, times(1))
+			.insert(any(BulkInsertStatement.class), rowsCaptor.capture(), any());
 
-		SqlParameterSource[] params = paramsCaptor.getValue();
-		assertThat(params).hasSize(1);
+		assertThat(rowsCaptor.getValue()).hasSize(1);
 	}
 
 	@Test
@@ -179,21 +175,15 @@ class KeywordMappingWriterTest {
 
 		Chunk<List<AnimalByKeyword>> chunk = new Chunk<>(List.of(largeMappings));
 
-		int[] expectedResult = new int[100];
-		for (int i = 0; i < 100; i++) {
-			expectedResult[i] = 1;
-		}
-
-		when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-			.thenReturn(expectedResult);
+		when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+			.thenReturn(100);
 
 		writer.write(chunk);
 
-		verify(namedParameterJdbcTemplate, times(1))
-			.batchUpdate(anyString(), paramsCaptor.capture());
+		verify(bulkInserter, times(1))
+			.insert(any(BulkInsertStatement.class), rowsCaptor.capture(), any());
 
-		SqlParameterSource[] params = paramsCaptor.getValue();
-		assertThat(params).hasSize(100);
+		assertThat(rowsCaptor.getValue()).hasSize(100);
 	}
 
 	private AnimalByKeyword createMapping(Long notificationKeywordId, Long animalId) {
@@ -19,9 +19,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
-import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.DeletedObject;
+import software.amazon.awssdk.services.s3.model.S3Error;
 import tetoandeggens.seeyouagainbatch.config.BatchIntegrationTest;
 import tetoandeggens.seeyouagainbatch.config.BatchTestConfig;
 
@@ -66,7 +67,7 @@ class S3ProfileDeleteIntegrationTest extends BatchTestConfig {
 
 		assertThat(countDeletedS3Profiles()).isEqualTo(0);
 
-		verify(s3Client, times(3)).deleteObject(any(DeleteObjectRequest.class));
+		verify(s3Client, times(1)).deleteObjects(any(DeleteObjectsRequest.class));
 	}
 
 	@Test
@@ -81,7 +82,7 @@ class S3ProfileDeleteIntegrationTest extends BatchTestConfig {
 		assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
 
 		assertThat(countAllS3Profiles()).isEqualTo(1);
-		verify(s3Client, times(3)).deleteObject(any(DeleteObjectRequest.class));
+		verify(s3Client, times(1)).deleteObjects(any(DeleteObjectsRequest.class));
 	}
 
 	@Test
@@ -95,40 +96,40 @@ class S3ProfileDeleteIntegrationTest extends BatchTestConfig {
 		assertThat(jobExecution.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
 
 		assertThat(countAllS3Profiles()).isEqualTo(0);
-		verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+		verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
 	}
 
 	@Test
 	@DisplayName("S3에 파일이 없어도(404) Job은 정상 완료되어야 한다")
 	void shouldCompleteSuccessfullyWhenS3FileNotFound() throws Exception {
-		S3Exception s3Exception = (S3Exception) S3Exception.builder()
-			.statusCode(404)
-			.message("Not Found")
-			.build();
-
-		when(s3Client.deleteObject(any(DeleteObjectRequest.class)))
-			.thenThrow(s3Exception);
+		when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+			.thenAnswer(invocation -> {
+				DeleteObjectsRequest request = invocation.getArgument(0);
+				return DeleteObjectsResponse.builder()
+					.errors(request.delete().objects().stream()
+						.map(object -> S3Error.builder().key(object.key()).code("NoSuchKey").build())
+						.toList())
+					.build();
+			});
 
 		JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
 
 		assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
 
 		assertThat(countDeletedS3Profiles()).isEqualTo(0);
-		verify(s3Client, times(3)).deleteObject(any(DeleteObjectRequest.class));
+		verify(s3Client, times(1)).deleteObjects(any(DeleteObjectsRequest.class));
 	}
 
 	@Test
 	@DisplayName("S3 삭제 실패 시 해당 항목은 건너뛰고 계속 진행해야 한다")
 	void shouldSkipFailedItemsAndContinue() throws Exception {
-		S3Exception s3Exception = (S3Exception) S3Exception.builder()
-			.statusCode(500)
-			.message("Internal Server Error")
-			.build();
-
-		when(s3Client.deleteObject(any(DeleteObjectRequest.class)))
-			.thenReturn(DeleteObjectResponse.builder().build())
-			.thenThrow(s3Exception)
-			.thenReturn(DeleteObjectResponse.builder().build());
+		when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+			.thenReturn(DeleteObjectsResponse.builder()
+				.deleted(
+					DeletedObject.builder().key("animal-profiles/test1.webp").build(),
+					DeletedObject.builder().key("animal-profiles/test3.webp").build())
+				.errors(S3Error.builder().key("animal-profiles/test2.webp").code("InternalError").build())
+				.build());
 
 		JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
 
@@ -136,7 +137,7 @@ class S3ProfileDeleteIntegrationTest extends BatchTestConfig {
 
 		assertThat(countDeletedS3Profiles()).isEqualTo(1);
 		assertThat(countAllS3Profiles()).isEqualTo(1);
-		verify(s3Client, times(3)).deleteObject(any(DeleteObjectRequest.class));
+		verify(s3Client, times(1)).deleteObjects(any(DeleteObjectsRequest.class));
 	}
 
 	@Test
@@ -153,7 +154,7 @@ class S3ProfileDeleteIntegrationTest extends BatchTestConfig {
 		assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
 		assertThat(countAllS3Profiles()).isEqualTo(0);
 
-		verify(s3Client, times(1000)).deleteObject(any(DeleteObjectRequest.class));
+		verify(s3Client, times(2)).deleteObjects(any(DeleteObjectsRequest.class));
 	}
 
 	private void setupJobLauncherTestUtils() {
@@ -161,8 +162,15 @@ class S3ProfileDeleteIntegrationTest extends BatchTestConfig {
 	}
 
 	private void setupMockS3Service() {
-		when(s3Client.deleteObject(any(DeleteObjectRequest.class)))
-			.thenReturn(DeleteObjectResponse.builder().build());
+		when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+			.thenAnswer(invocation -> {
+				DeleteObjectsRequest request = invocation.getArgument(0);
+				return DeleteObjectsResponse.builder()
+					.deleted(request.delete().objects().stream()
+						.map(object -> DeletedObject.builder().key(object.key()).build())
+						.toList())
+					.build();
+			});
 	}
 
 	private void setupJobParameters() {
@@ -0,0 +1,242 @@
+package tetoandeggens.seeyouagainbatch.job.s3profiledelete.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.DeletedObject;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import tetoandeggens.seeyouagainbatch.domain.Animal;
+import tetoandeggens.seeyouagainbatch.domain.AnimalS3Profile;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3ProfileBatchDeleteService 단위 테스트")
+class S3ProfileBatchDeleteServiceTest {
+
+	@Mock
+	private S3Client s3Client;
+
+	@Mock
+	private S3AsyncClient s3AsyncClient;
+
+	private S3ProfileBatchDeleteService service;
+
+	private static final String TEST_BUCKET = "test-bucket";
+	private static final String TEST_CLOUDFRONT_DOMAIN = "https://test.cloudfront.net/";
+
+	private Animal testAnimal;
+
+	@BeforeEach
+	void setUp() {
+		testAnimal = new Animal(1L);
+		service = new S3ProfileBatchDeleteService(s3Client, null, TEST_BUCKET, TEST_CLOUDFRONT_DOMAIN);
+	}
+
+	@Test
+	@DisplayName("여러 프로필을 DeleteObjects 한 번으로 삭제한다")
+	void shouldDeleteProfilesWithSingleRequest() {
+		List<AnimalS3Profile> profiles = List.of(
+			createS3Profile(1L, "animal-profiles/test1.webp"),
+			createS3Profile(2L, TEST_CLOUDFRONT_DOMAIN + "animal-profiles/test2.webp"),
+			createS3Profile(3L, "https://example.com/animal-profiles/test3.webp")
+		);
+
+		when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+			.thenAnswer(invocation -> deletedAll(invocation.getArgument(0)));
+
+		List<AnimalS3Profile> result = service.deleteObjects(profiles).join();
+
+		assertThat(result).extracting(AnimalS3Profile::getId).containsExactlyInAnyOrder(1L, 2L, 3L);
+
+		ArgumentCaptor<DeleteObjectsRequest> requestCaptor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+		verify(s3Client, times(1)).deleteObjects(requestCaptor.capture());
+		assertThat(requestCaptor.getValue().bucket()).isEqualTo(TEST_BUCKET);
+		assertThat(requestCaptor.getValue().delete().objects())
+			.extracting(ObjectIdentifier::key)
+			.containsExactly(
+				"animal-profiles/test1.webp", "animal-profiles/test1-thumb.webp",
+				"animal-profiles/test2.webp", "animal-profiles/test2-thumb.webp",
+				"animal-profiles/test3.webp", "animal-profiles/test3-thumb.webp");
+	}
+
+	@Test
+	@DisplayName("썸네일 키를 포함해 1000개를 넘는 키는 1000개 단위로 나누어 요청한다")
+	void shouldSplitRequestsByMaxKeys() {
+		List<AnimalS3Profile> profiles = new ArrayList<>();
+		for (int i = 1; i <= 2500; i++) {
+			profiles.add(createS3Profile((long)i, "animal-profiles/test-" + i + ".webp"));
+		}
+
+		when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+			.thenAnswer(invocation -> deletedAll(invocation.getArgument(0)));
+
+		List<AnimalS3Profile> result = service.deleteObjects(profiles).join();
+
+		assertThat(result).hasSize(2500);
+
+		ArgumentCaptor<DeleteObjectsRequest> requestCaptor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+		verify(s3Client, times(5)).deleteObjects(requestCaptor.capture());
+		assertThat(requestCaptor.getAllValues())
+			.extracting(request -> request.delete().objects().size())
+			.containsExactly(1000, 1000, 1000, 1000, 1000);
+	}
+
+	@Test
+	@DisplayName("NoSuchKey 오류는 삭제된 것으로 보고 그 외 오류 키는 제외한다")
+	void shouldTreatNoSuchKeyAsDeletedAndSkipOtherErrors() {
+		List<AnimalS3Profile> profiles = List.of(
+			createS3Profile(1L, "animal-profiles/test1.webp"),
+			createS3Profile(2L, "animal-profiles/test2.webp"),
+			createS3Profile(3L, "animal-profiles/test3.webp")
+		);
+
+		when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+			.thenReturn(DeleteObjectsResponse.builder()
+				.deleted(DeletedObject.builder().key("animal-profiles/test1.webp").build())
+				.errors(
+					S3Error.builder().key("animal-profiles/test2.webp").code("NoSuchKey").build(),
+					S3Error.builder().key("animal-profiles/test3.webp").code("AccessDenied").build())
+				.build());
+
+		List<AnimalS3Profile> result = service.deleteObjects(profiles).join();
+
+		assertThat(result).extracting(AnimalS3Profile::getId).containsExactlyInAnyOrder(1L, 2L);
+	}
+
+	@Test
+	@DisplayName("썸네일 삭제가 실패해도 본 이미지가 삭제되면 프로필을 반환한다")
+	void shouldReturnProfileWhenOnlyThumbnailDeletionFails() {
+		when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+			.thenReturn(DeleteObjectsResponse.builder()
+				.deleted(DeletedObject.builder().key("animal-profiles/test1.webp").build())
+				.errors(S3Error.builder().key("animal-profiles/test1-thumb.webp").code("InternalError").build())
+				.build());
+
+		List<AnimalS3Profile> result = service.deleteObjects(List.of(createS3Profile(1L, "animal-profiles/test1.webp"))).join();
+
+		assertThat(result).extracting(AnimalS3Profile::getId).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("요청 전체가 실패하면 해당 요청의 프로필은 반환하지 않는다")
+	void shouldReturnEmptyWhenRequestFails() {
+		S3Exception s3Exception = (S3Exception)S3Exception.builder()
+			.statusCode(500)
+			.message("Internal Server Error")
+			.build();
+
+		when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenThrow(s3Exception);
+
+		List<AnimalS3Profile> result = service.deleteObjects(List.of(createS3Profile(1L, "animal-profiles/test1.webp"))).join();
+
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	@DisplayName("profile URL이 비어 있으면 S3 요청 없이 프로필을 반환한다")
+	void shouldReturnProfileWithoutRequestWhenUrlIsBlank() {
+		List<AnimalS3Profile> result = service.deleteObjects(List.of(
+			createS3Profile(1L, null),
+			createS3Profile(2L, "   ")
+		)).join();
+
+		assertThat(result).extracting(AnimalS3Profile::getId).containsExactly(1L, 2L);
+		verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+	}
+
+	@Test
+	@DisplayName("S3AsyncClient가 있으면 비동기로 요청하고 결과를 Future로 반환한다")
+	void shouldDeleteWithAsyncClientWhenAvailable() {
+		S3ProfileBatchDeleteService asyncService =
+			new S3ProfileBatchDeleteService(s3Client, s3AsyncClient, TEST_BUCKET, TEST_CLOUDFRONT_DOMAIN);
+		List<AnimalS3Profile> profiles = List.of(
+			createS3Profile(1L, "animal-profiles/test1.webp"),
+			createS3Profile(2L, "animal-profiles/test2.webp")
+		);
+
+		CompletableFuture<DeleteObjectsResponse> pending = new CompletableFuture<>();
+		when(s3AsyncClient.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(pending);
+
+		CompletableFuture<List<AnimalS3Profile>> result = asyncService.deleteObjects(profiles);
+		assertThat(result).isNotDone();
+
+		pending.complete(DeleteObjectsResponse.builder()
+			.deleted(DeletedObject.builder().key("animal-profiles/test1.webp").build())
+			.build());
+
+		assertThat(result.join()).extracting(AnimalS3Profile::getId).containsExactly(1L);
+		verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+	}
+
+	@Test
+	@DisplayName("비동기 요청이 404로 실패하면 모든 키를 삭제된 것으로 본다")
+	void shouldTreatAsyncNotFoundAsDeleted() {
+		S3ProfileBatchDeleteService asyncService =
+			new S3ProfileBatchDeleteService(s3Client, s3AsyncClient, TEST_BUCKET, TEST_CLOUDFRONT_DOMAIN);
+		S3Exception s3Exception = (S3Exception)S3Exception.builder()
+			.statusCode(404)
+			.message("Not Found")
+			.build();
+
+		when(s3AsyncClient.deleteObjects(any(DeleteObjectsRequest.class)))
+			.thenReturn(CompletableFuture.failedFuture(s3Exception));
+
+		List<AnimalS3Profile> result = asyncService.deleteObjects(
+			List.of(createS3Profile(1L, "animal-profiles/test1.webp"))).join();
+
+		assertThat(result).extracting(AnimalS3Profile::getId).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("키 목록으로 삭제하면 썸네일 키도 함께 지우고 삭제된 키를 돌려준다")
+	void shouldDeleteKeysWithThumbnails() {
+		when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+			.thenAnswer(invocation -> deletedAll(invocation.getArgument(0)));
+
+		assertThat(service.deleteKeys(List.of("animal-profiles/public-data/1_a.webp")).join())
+			.containsExactlyInAnyOrder("animal-profiles/public-data/1_a.webp", "animal-profiles/public-data/1_a-thumb.webp");
+	}
+
+	private DeleteObjectsResponse deletedAll(DeleteObjectsRequest request) {
+		return DeleteObjectsResponse.builder()
+			.deleted(request.delete().objects().stream()
+				.map(object -> DeletedObject.builder().key(object.key()).build())
+				.toList())
+			.build();
+	}
+
+	private AnimalS3Profile createS3Profile(Long id, String profile) {
+		AnimalS3Profile s3Profile = AnimalS3Profile.builder()
+			.profile(profile)
+			.animal(testAnimal)
+			.build();
+
+		try {
+			java.lang.reflect.Field idField = AnimalS3Profile.class.getDeclaredField("id");
+			idField.setAccessible(true);
+			idField.set(s3Profile, id);
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to set ID", e);
+		}
+
+		return s3Profile;
+	}
+}
@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +23,7 @@ import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 import tetoandeggens.seeyouagainbatch.domain.Animal;
 import tetoandeggens.seeyouagainbatch.domain.AnimalS3Profile;
+import tetoandeggens.seeyouagainbatch.job.s3profiledelete.service.S3ProfileBatchDeleteService;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("S3ProfileDeleteWriter 단위 테스트")
@@ -29,6 +32,9 @@ class S3ProfileDeleteWriterTest {
 	@Mock
 	private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
+	@Mock
+	private S3ProfileBatchDeleteService s3ProfileBatchDeleteService;
+
 	@InjectMocks
 	private S3ProfileDeleteWriter writer;
 
@@ -56,6 +62,7 @@ class S3ProfileDeleteWriterTest {
 
 		Chunk<AnimalS3Profile> chunk = new Chunk<>(profiles);
 
+		givenAllDeletedFromS3();
 		when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
 			.thenReturn(new int[]{1, 1, 1});
 
@@ -83,6 +90,7 @@ class S3ProfileDeleteWriterTest {
 
 		Chunk<AnimalS3Profile> chunk = new Chunk<>(profiles);
 
+		givenAllDeletedFromS3();
 		when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
 			.thenReturn(new int[]{1, 1});
 
@@ -129,6 +137,7 @@ class S3ProfileDeleteWriterTest {
 
 		Chunk<AnimalS3Profile> chunk = new Chunk<>(profiles);
 
+		givenAllDeletedFromS3();
 		when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
 			.thenReturn(new int[]{1});
 
@@ -149,6 +158,7 @@ class S3ProfileDeleteWriterTest {
 		chunk.add(null);
 		chunk.add(createS3Profile(2L, "s3-key-2"));
 
+		givenAllDeletedFromS3();
 		when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
 			.thenReturn(new int[]{1, 1});
 
@@ -173,6 +183,7 @@ class S3ProfileDeleteWriterTest {
 
 		int[] results = new int[100];
 		java.util.Arrays.fill(results, 1);
+		givenAllDeletedFromS3();
 		when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
 			.thenReturn(results);
 
@@ -185,6 +196,44 @@ class S3ProfileDeleteWriterTest {
 		assertThat(params).hasSize(100);
 	}
 
+	@Test
+	@DisplayName("S3에서 삭제되지 않은 항목은 DB에서 delete 하지 않는다")
+	void shouldDeleteOnlyProfilesRemovedFromS3() {
+		AnimalS3Profile removed = createS3Profile(1L, "s3-key-1");
+		List<AnimalS3Profile> profiles = List.of(removed, createS3Profile(2L, "s3-key-2"));
+
+		when(s3ProfileBatchDeleteService.deleteObjects(anyList()))
+			.thenReturn(CompletableFuture.completedFuture(List.of(removed)));
+		when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+			.thenReturn(new int[]{1});
+
+		writer.write(new Chunk<>(profiles));
+
+		verify(namedParameterJdbcTemplate, times(1))
+			.batchUpdate(anyString(), paramsCaptor.capture());
+
+		SqlParameterSource[] params = paramsCaptor.getValue();
+		assertThat(params).hasSize(1);
+		assertThat(params[0].getValue("id")).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("S3에서 모두 삭제 실패하면 DB delete를 수행하지 않는다")
+	void shouldNotDeleteWhenNothingRemovedFromS3() {
+		when(s3ProfileBatchDeleteService.deleteObjects(anyList()))
+			.thenReturn(CompletableFuture.completedFuture(List.of()));
+
+		writer.write(new Chunk<>(List.of(createS3Profile(1L, "s3-key-1"))));
+
+		verify(namedParameterJdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+	}
+
+	private void givenAllDeletedFromS3() {
+		when(s3ProfileBatchDeleteService.deleteObjects(anyList()))
+			.thenAnswer(invocation -> CompletableFuture.completedFuture(
+				new ArrayList<AnimalS3Profile>(invocation.getArgument(0))));
+	}
+
 	private AnimalS3Profile createS3Profile(Long id, String profile) {
 		AnimalS3Profile s3Profile = AnimalS3Profile.builder()
 			.profile(profile)
@@ -13,6 +13,7 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.test.JobLauncherTestUtils;
 import org.springframework.batch.test.JobRepositoryTestUtils;
 import java.io.ByteArrayInputStream;
@@ -20,15 +21,19 @@ import java.io.InputStream;
 import java.net.http.HttpClient;
 import java.net.http.HttpHeaders;
 import java.net.http.HttpResponse;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import tetoandeggens.seeyouagainbatch.config.BatchIntegrationTest;
 import tetoandeggens.seeyouagainbatch.config.BatchTestConfig;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.processor.S3ProfileUploadProcessor;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.service.ProfileImageDedupService;
 
 @BatchIntegrationTest
 class S3ProfileUploadIntegrationTest extends BatchTestConfig {
@@ -42,6 +47,12 @@ class S3ProfileUploadIntegrationTest extends BatchTestConfig {
 	@Autowired
 	private Job s3ProfileUploadJob;
 
+	@Autowired
+	private S3ProfileUploadProcessor s3ProfileUploadProcessor;
+
+	@Autowired
+	private ProfileImageDedupService profileImageDedupService;
+
 	@MockitoBean
 	private S3Client s3Client;
 
@@ -60,6 +71,8 @@ class S3ProfileUploadIntegrationTest extends BatchTestConfig {
 
 	@AfterEach
 	void tearDown() {
+		ReflectionTestUtils.setField(s3ProfileUploadProcessor, "dedupEnabled", false);
+		profileImageDedupService.clearLocalCache();
 		cleanupTestData();
 		cleanupJobExecutions();
 	}
@@ -152,6 +165,72 @@ class S3ProfileUploadIntegrationTest extends BatchTestConfig {
 		verify(s3Client, times(500)).putObject(any(PutObjectRequest.class), any(software.amazon.awssdk.core.sync.RequestBody.class));
 	}
 
+	@Test
+	@DisplayName("gridSize만큼 ID 범위를 나누어 워커 스텝별로 처리해야 한다")
+	void shouldProcessEachIdRangeInSeparateWorkerStep() throws Exception {
+		JobParameters partitionedParameters = jobLauncherTestUtils.getUniqueJobParametersBuilder()
+			.addString("startDate", "20250101")
+			.addString("endDate", "20250103")
+			.addLong("gridSize", 2L)
+			.toJobParameters();
+
+		JobExecution jobExecution = jobLauncherTestUtils.launchJob(partitionedParameters);
+
+		assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(countS3Profiles()).isEqualTo(3);
+
+		List<StepExecution> workerExecutions = jobExecution.getStepExecutions().stream()
+			.filter(stepExecution -> stepExecution.getStepName().startsWith("s3ProfileUploadWorkerStep"))
+			.toList();
+		assertThat(workerExecutions).hasSize(2);
+		assertThat(workerExecutions).extracting(StepExecution::getReadCount).containsExactlyInAnyOrder(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("중복 제거 모드에서 같은 범위를 다시 실행하면 다운로드와 업로드를 모두 건너뛰어야 한다")
+	void shouldSkipAlreadyStoredImagesOnRerunWhenDedupEnabled() throws Exception {
+		ReflectionTestUtils.setField(s3ProfileUploadProcessor, "dedupEnabled", true);
+
+		JobExecution firstExecution = jobLauncherTestUtils.launchJob(jobParameters);
+		profileImageDedupService.clearLocalCache();
+		JobExecution secondExecution = jobLauncherTestUtils.launchJob(
+			jobLauncherTestUtils.getUniqueJobParametersBuilder()
+				.addString("startDate", "20250101")
+				.addString("endDate", "20250103")
+				.toJobParameters());
+
+		assertThat(firstExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(secondExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(countS3Profiles()).isEqualTo(3);
+		assertThat(namedParameterJdbcTemplate.getJdbcTemplate()
+			.queryForObject("SELECT COUNT(*) FROM profile_image_hash", Integer.class)).isEqualTo(3);
+
+		verify(httpClient, times(3)).send(any(), any());
+		verify(s3Client, times(3)).putObject(any(PutObjectRequest.class), any(software.amazon.awssdk.core.sync.RequestBody.class));
+	}
+
+	@Test
+	@DisplayName("중복 제거 모드에서 소프트 삭제된 이미지를 다시 올리면 같은 키의 행을 되살려야 한다")
+	void shouldReviveSoftDeletedRowWhenSameImageIsUploadedAgain() throws Exception {
+		ReflectionTestUtils.setField(s3ProfileUploadProcessor, "dedupEnabled", true);
+
+		JobExecution firstExecution = jobLauncherTestUtils.launchJob(jobParameters);
+		// 보호가 끝나 소프트 삭제된 뒤 같은 동물이 같은 사진으로 재등록된 상황
+		namedParameterJdbcTemplate.getJdbcTemplate().execute("UPDATE animal_s3_profile SET is_deleted = true");
+		profileImageDedupService.clearLocalCache();
+		JobExecution secondExecution = jobLauncherTestUtils.launchJob(
+			jobLauncherTestUtils.getUniqueJobParametersBuilder()
+				.addString("startDate", "20250101")
+				.addString("endDate", "20250103")
+				.toJobParameters());
+
+		assertThat(firstExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(secondExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(countS3Profiles()).isEqualTo(3);
+		assertThat(namedParameterJdbcTemplate.getJdbcTemplate()
+			.queryForObject("SELECT COUNT(*) FROM animal_s3_profile WHERE is_deleted = true", Integer.class)).isZero();
+	}
+
 	private void setupJobLauncherTestUtils() {
 		jobLauncherTestUtils.setJob(s3ProfileUploadJob);
 	}
@@ -0,0 +1,99 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.partitioner;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnimalProfileIdRangePartitioner 단위 테스트")
+class AnimalProfileIdRangePartitionerTest {
+
+	@Mock
+	private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	private AnimalProfileIdRangePartitioner partitioner;
+
+	@BeforeEach
+	void setUp() {
+		partitioner = new AnimalProfileIdRangePartitioner(
+			namedParameterJdbcTemplate, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+	}
+
+	@Test
+	@DisplayName("ID 범위를 gridSize만큼 겹치지 않게 나누어야 한다")
+	void shouldSplitIdRangeIntoGridSize() {
+		givenIdRange(1L, 100L);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		assertThat(partitions).hasSize(4);
+		assertRange(partitions.get("partition0"), 1L, 25L);
+		assertRange(partitions.get("partition1"), 26L, 50L);
+		assertRange(partitions.get("partition2"), 51L, 75L);
+		assertRange(partitions.get("partition3"), 76L, 100L);
+	}
+
+	@Test
+	@DisplayName("나누어 떨어지지 않으면 마지막 파티션이 최대 ID에서 끝나야 한다")
+	void shouldEndLastPartitionAtMaxId() {
+		givenIdRange(10L, 20L);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(3);
+
+		assertThat(partitions).hasSize(3);
+		assertRange(partitions.get("partition0"), 10L, 13L);
+		assertRange(partitions.get("partition1"), 14L, 17L);
+		assertRange(partitions.get("partition2"), 18L, 20L);
+	}
+
+	@Test
+	@DisplayName("ID 개수가 gridSize보다 적으면 ID 개수만큼만 파티션을 만들어야 한다")
+	void shouldNotCreateEmptyPartitionsWhenRangeIsSmall() {
+		givenIdRange(5L, 6L);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		assertThat(partitions).hasSize(2);
+		assertRange(partitions.get("partition0"), 5L, 5L);
+		assertRange(partitions.get("partition1"), 6L, 6L);
+	}
+
+	@Test
+	@DisplayName("대상 프로필이 없으면 빈 범위의 파티션 하나를 만들어야 한다")
+	void shouldCreateSingleEmptyPartitionWhenNoProfiles() {
+		givenIdRange(null, null);
+
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		assertThat(partitions).hasSize(1);
+		ExecutionContext context = partitions.get("partition0");
+		assertThat(context.getLong(AnimalProfileIdRangePartitioner.MIN_ID_KEY))
+			.isGreaterThan(context.getLong(AnimalProfileIdRangePartitioner.MAX_ID_KEY));
+	}
+
+	private void givenIdRange(Long minId, Long maxId) {
+		Map<String, Object> row = new HashMap<>();
+		row.put("min_id", minId);
+		row.put("max_id", maxId);
+		when(namedParameterJdbcTemplate.queryForMap(anyString(), any(SqlParameterSource.class))).thenReturn(row);
+	}
+
+	private void assertRange(ExecutionContext context, long minId, long maxId) {
+		assertThat(context.getLong(AnimalProfileIdRangePartitioner.MIN_ID_KEY)).isEqualTo(minId);
+		assertThat(context.getLong(AnimalProfileIdRangePartitioner.MAX_ID_KEY)).isEqualTo(maxId);
+	}
+}
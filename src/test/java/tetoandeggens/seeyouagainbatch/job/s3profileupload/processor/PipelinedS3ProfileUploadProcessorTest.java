@@ -0,0 +1,133 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.processor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import tetoandeggens.seeyouagainbatch.common.image.WebpTranscoder;
+import tetoandeggens.seeyouagainbatch.domain.Animal;
+import tetoandeggens.seeyouagainbatch.domain.AnimalProfile;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.service.ImageTranscodeService;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.service.S3UploadService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PipelinedS3ProfileUploadProcessor 단위 테스트")
+class PipelinedS3ProfileUploadProcessorTest {
+
+	@Mock
+	private S3ProfileUploadProcessor s3ProfileUploadProcessor;
+
+	@Mock
+	private S3UploadService s3UploadService;
+
+	private ExecutorService downloadExecutorService;
+
+	private PipelinedS3ProfileUploadProcessor processor;
+
+	@BeforeEach
+	void setUp() {
+		downloadExecutorService = Executors.newFixedThreadPool(2);
+		ImageTranscodeService imageTranscodeService =
+			new ImageTranscodeService(new WebpTranscoder(0.8f, 320), downloadExecutorService, false);
+		processor = new PipelinedS3ProfileUploadProcessor(s3ProfileUploadProcessor, s3UploadService,
+			imageTranscodeService, downloadExecutorService);
+	}
+
+	@AfterEach
+	void tearDown() {
+		downloadExecutorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("먼저 끝난 다운로드는 다른 다운로드를 기다리지 않고 바로 업로드된다")
+	void shouldStartUploadAsSoonAsDownloadFinishes() throws Exception {
+		AnimalProfile fastProfile = createProfile(1L);
+		AnimalProfile slowProfile = createProfile(2L);
+		ProfileImageData fastImage = createProfileImageData(fastProfile, "s3-key-1");
+		ProfileImageData slowImage = createProfileImageData(slowProfile, "s3-key-2");
+		CountDownLatch slowDownload = new CountDownLatch(1);
+
+		when(s3ProfileUploadProcessor.process(fastProfile)).thenReturn(fastImage);
+		when(s3ProfileUploadProcessor.process(slowProfile)).thenAnswer(invocation -> {
+			slowDownload.await(1, TimeUnit.SECONDS);
+			return slowImage;
+		});
+		when(s3UploadService.uploadBatch(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+
+		CompletableFuture<ProfileImageData> slowResult = processor.process(slowProfile);
+		CompletableFuture<ProfileImageData> fastResult = processor.process(fastProfile);
+
+		ProfileImageData fastUploaded = fastResult.get(1, TimeUnit.SECONDS);
+		assertThat(slowResult).isNotDone();
+		verify(s3UploadService, times(1)).uploadBatch(List.of(fastImage));
+
+		slowDownload.countDown();
+		ProfileImageData slowUploaded = slowResult.get(1, TimeUnit.SECONDS);
+
+		assertThat(fastUploaded.isUploaded()).isTrue();
+		assertThat(fastUploaded.getImageBytes()).isNull();
+		assertThat(fastUploaded.getS3Key()).isEqualTo("s3-key-1");
+		assertThat(slowUploaded.getProfile()).isEqualTo(slowProfile);
+		verify(s3UploadService, times(1)).uploadBatch(List.of(slowImage));
+	}
+
+	@Test
+	@DisplayName("다운로드 결과가 없으면 업로드하지 않고 null로 완료된다")
+	void shouldCompleteWithNullWhenDownloadReturnsNull() throws Exception {
+		AnimalProfile profile = createProfile(1L);
+		when(s3ProfileUploadProcessor.process(profile)).thenReturn(null);
+
+		CompletableFuture<ProfileImageData> result = processor.process(profile);
+
+		assertThat(result.get(1, TimeUnit.SECONDS)).isNull();
+		verify(s3UploadService, never()).uploadBatch(anyList());
+	}
+
+	@Test
+	@DisplayName("프로세서에서 이미 업로드한 결과는 다시 업로드하지 않는다")
+	void shouldSkipUploadWhenAlreadyUploaded() throws Exception {
+		AnimalProfile profile = createProfile(1L);
+		ProfileImageData streamed = ProfileImageData.builder()
+			.profile(profile)
+			.s3Key("s3-key-1")
+			.uploaded(true)
+			.build();
+		when(s3ProfileUploadProcessor.process(profile)).thenReturn(streamed);
+
+		CompletableFuture<ProfileImageData> result = processor.process(profile);
+
+		assertThat(result.get(1, TimeUnit.SECONDS)).isSameAs(streamed);
+		verify(s3UploadService, never()).uploadBatch(anyList());
+	}
+
+	private AnimalProfile createProfile(Long animalId) {
+		return AnimalProfile.builder()
+			.profile("http://example.com/image.jpg")
+			.animal(new Animal(animalId))
+			.build();
+	}
+
+	private ProfileImageData createProfileImageData(AnimalProfile profile, String s3Key) {
+		return ProfileImageData.builder()
+			.profile(profile)
+			.imageBytes(new byte[1024])
+			.s3Key(s3Key)
+			.build();
+	}
+}
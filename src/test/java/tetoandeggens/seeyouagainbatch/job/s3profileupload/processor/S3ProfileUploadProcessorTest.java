@@ -7,18 +7,29 @@ import static org.mockito.Mockito.*;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import tetoandeggens.seeyouagainbatch.common.buffer.DirectBufferPool;
 import tetoandeggens.seeyouagainbatch.domain.Animal;
 import tetoandeggens.seeyouagainbatch.domain.AnimalProfile;
 import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageValidator;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.service.ProfileImageDedupService;
 
 @ExtendWith(MockitoExtension.class)
 class S3ProfileUploadProcessorTest {
@@ -26,6 +37,11 @@ class S3ProfileUploadProcessorTest {
 	@Mock
 	private HttpClient httpClient;
 
+	@Mock
+	private ProfileImageDedupService profileImageDedupService;
+
+	private DirectBufferPool imageBufferPool;
+
 	private S3ProfileUploadProcessor processor;
 
 	private AnimalProfile testProfile;
@@ -40,14 +56,23 @@ class S3ProfileUploadProcessorTest {
 			.animal(testAnimal)
 			.build();
 
-		processor = new S3ProfileUploadProcessor(httpClient);
+		imageBufferPool = new DirectBufferPool(List.of(512, 2048), 1024 * 1024);
+
+		processor = new S3ProfileUploadProcessor(httpClient, imageBufferPool,
+			profileImageDedupService, false, false, false);
 	}
 
 	@SuppressWarnings("unchecked")
 	private HttpResponse<InputStream> createSuccessfulHttpResponse() {
+		return createSuccessfulHttpResponse("image/jpeg");
+	}
+
+	@SuppressWarnings("unchecked")
+	private HttpResponse<InputStream> createSuccessfulHttpResponse(String contentType) {
 		HttpResponse<InputStream> response = (HttpResponse<InputStream>)mock(HttpResponse.class);
 
 		when(response.statusCode()).thenReturn(200);
+		when(response.headers()).thenReturn(HttpHeaders.of(Map.of("Content-Type", List.of(contentType)), (name, value) -> true));
 		when(response.body()).thenAnswer(invocation -> new ByteArrayInputStream(new byte[1024]));
 
 		return response;
@@ -67,9 +92,22 @@ class S3ProfileUploadProcessorTest {
 		assertThat(result.getImageBytes()).hasSize(1024);
 		assertThat(result.getS3Key()).startsWith("animal-profiles/public-data/");
 		assertThat(result.getS3Key()).endsWith(".webp");
+		assertThat(result.getContentType()).isEqualTo("image/jpeg");
 		verify(httpClient, times(1)).send(any(), any());
 	}
 
+	@Test
+	@DisplayName("응답 Content-Type의 파라미터는 버리고, 이미지 형식이 아니면 형식을 단정하지 않는다")
+	void shouldKeepOnlyImageMediaTypeFromResponse() throws Exception {
+		HttpResponse<InputStream> pngResponse = createSuccessfulHttpResponse("IMAGE/PNG; charset=binary");
+		when(httpClient.send(any(), any())).thenAnswer(invocation -> pngResponse);
+		assertThat(processor.process(testProfile).getContentType()).isEqualTo("image/png");
+
+		HttpResponse<InputStream> htmlResponse = createSuccessfulHttpResponse("text/html");
+		when(httpClient.send(any(), any())).thenAnswer(invocation -> htmlResponse);
+		assertThat(processor.process(testProfile).getContentType()).isEqualTo("application/octet-stream");
+	}
+
 	@Test
 	@DisplayName("이미지 다운로드 실패 시 null을 반환한다")
 	void shouldReturnNullWhenDownloadFails() throws Exception {
@@ -161,4 +199,189 @@ class S3ProfileUploadProcessorTest {
 		assertThat(result).isNull();
 		verify(httpClient, times(1)).send(any(), any());
 	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	@DisplayName("스트리밍 모드에서는 본문을 임시 파일에 받아 두고 프로세서에서 업로드하지 않는다")
+	void shouldSpoolResponseBodyWithoutUploadingWhenStreamingEnabled() throws Exception {
+		S3ProfileUploadProcessor streamingProcessor =
+			new S3ProfileUploadProcessor(httpClient, imageBufferPool, profileImageDedupService, true, false, false);
+
+		HttpResponse<InputStream> response = (HttpResponse<InputStream>)mock(HttpResponse.class);
+		when(response.statusCode()).thenReturn(200);
+		when(response.headers()).thenReturn(HttpHeaders.of(Map.of("Content-Type", List.of("image/gif")), (name, value) -> true));
+		when(response.body()).thenAnswer(invocation -> new ByteArrayInputStream(new byte[3000]));
+		when(httpClient.send(any(), any())).thenAnswer(invocation -> response);
+
+		ProfileImageData result = streamingProcessor.process(testProfile);
+
+		assertThat(result).isNotNull();
+		assertThat(result.isUploaded()).isFalse();
+		assertThat(result.hasImage()).isTrue();
+		assertThat(result.getImageBytes()).isNull();
+		assertThat(Files.size(result.getSpoolFile())).isEqualTo(3000L);
+		assertThat(result.getContentType()).isEqualTo("image/gif");
+
+		result.releaseImage();
+		assertThat(result.getSpoolFile()).doesNotExist();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	@DisplayName("스트리밍 모드에서 본문이 비어 있으면 null을 반환한다")
+	void shouldReturnNullWhenSpooledBodyIsEmpty() throws Exception {
+		S3ProfileUploadProcessor streamingProcessor =
+			new S3ProfileUploadProcessor(httpClient, imageBufferPool, profileImageDedupService, true, false, false);
+
+		HttpResponse<InputStream> response = (HttpResponse<InputStream>)mock(HttpResponse.class);
+		when(response.statusCode()).thenReturn(200);
+		when(response.body()).thenAnswer(invocation -> new ByteArrayInputStream(new byte[0]));
+		when(httpClient.send(any(), any())).thenAnswer(invocation -> response);
+
+		ProfileImageData result = streamingProcessor.process(testProfile);
+
+		assertThat(result).isNull();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	@DisplayName("버퍼 풀 모드에서는 이미지를 풀 버퍼에 담고 byte 배열을 만들지 않는다")
+	void shouldFillPooledBufferWhenBufferPoolEnabled() throws Exception {
+		S3ProfileUploadProcessor pooledProcessor =
+			new S3ProfileUploadProcessor(httpClient, imageBufferPool,
+				profileImageDedupService, false, true, false);
+
+		HttpResponse<InputStream> response = (HttpResponse<InputStream>)mock(HttpResponse.class);
+		HttpHeaders headers = mock(HttpHeaders.class);
+		when(response.statusCode()).thenReturn(200);
+		when(response.headers()).thenReturn(headers);
+		when(headers.firstValueAsLong("Content-Length")).thenReturn(OptionalLong.of(1024));
+		when(response.body()).thenAnswer(invocation -> new ByteArrayInputStream(new byte[1024]));
+		when(httpClient.send(any(), any())).thenAnswer(invocation -> response);
+
+		ProfileImageData result = pooledProcessor.process(testProfile);
+
+		assertThat(result).isNotNull();
+		assertThat(result.getImageBytes()).isNull();
+		assertThat(result.getImageBuffer().size()).isEqualTo(1024);
+		assertThat(imageBufferPool.getBytesInUse()).isEqualTo(2048);
+
+		result.releaseImage();
+		assertThat(imageBufferPool.getBytesInUse()).isZero();
+	}
+
+	@Test
+	@DisplayName("중복 제거 모드에서는 동물 ID와 내용 해시로 S3 키를 만들고 해시를 기록한다")
+	void shouldUseContentHashKeyWhenDedupEnabled() throws Exception {
+		S3ProfileUploadProcessor dedupProcessor = createDedupProcessor();
+		HttpResponse<InputStream> response = createResponseWithHeaders(200, "\"v1\"");
+		when(httpClient.send(any(), any())).thenAnswer(invocation -> response);
+		when(profileImageDedupService.findValidator(testProfile.getProfile())).thenReturn(Optional.empty());
+		when(profileImageDedupService.isStored(anyString())).thenReturn(false);
+
+		ProfileImageData result = dedupProcessor.process(testProfile);
+
+		String contentHash = ProfileImageDedupService.hash(new byte[1024]);
+		assertThat(result).isNotNull();
+		assertThat(result.getImageBytes()).hasSize(1024);
+		assertThat(result.getS3Key()).isEqualTo("animal-profiles/public-data/1_" + contentHash + ".webp");
+
+		ArgumentCaptor<ProfileImageValidator> validatorCaptor = ArgumentCaptor.forClass(ProfileImageValidator.class);
+		verify(profileImageDedupService, times(1)).saveValidator(eq(testProfile.getProfile()), validatorCaptor.capture());
+		assertThat(validatorCaptor.getValue().getContentHash()).isEqualTo(contentHash);
+		assertThat(validatorCaptor.getValue().getEtag()).isEqualTo("\"v1\"");
+		verify(profileImageDedupService, never()).recordRevalidation(anyBoolean());
+	}
+
+	@Test
+	@DisplayName("원본 URL의 해시로 만든 키가 이미 저장되어 있으면 다운로드하지 않는다")
+	void shouldSkipDownloadWhenKnownImageIsStored() throws Exception {
+		S3ProfileUploadProcessor dedupProcessor = createDedupProcessor();
+		when(profileImageDedupService.findValidator(testProfile.getProfile()))
+			.thenReturn(Optional.of(new ProfileImageValidator("abc", null, null)));
+		when(profileImageDedupService.isStored("animal-profiles/public-data/1_abc.webp")).thenReturn(true);
+
+		ProfileImageData result = dedupProcessor.process(testProfile);
+
+		assertThat(result).isNull();
+		verify(httpClient, never()).send(any(), any());
+		verify(profileImageDedupService, never()).saveValidator(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("받은 이미지와 같은 내용이 이미 저장되어 있으면 업로드 대상에서 제외한다")
+	void shouldSkipUploadWhenSameContentIsStored() throws Exception {
+		S3ProfileUploadProcessor dedupProcessor = createDedupProcessor();
+		HttpResponse<InputStream> response = createResponseWithHeaders(200, null);
+		when(httpClient.send(any(), any())).thenAnswer(invocation -> response);
+		when(profileImageDedupService.findValidator(testProfile.getProfile()))
+			.thenReturn(Optional.of(new ProfileImageValidator("stale", null, null)));
+		when(profileImageDedupService.isStored("animal-profiles/public-data/1_stale.webp")).thenReturn(false);
+		when(profileImageDedupService.isStored(
+			"animal-profiles/public-data/1_" + ProfileImageDedupService.hash(new byte[1024]) + ".webp")).thenReturn(true);
+
+		ProfileImageData result = dedupProcessor.process(testProfile);
+
+		assertThat(result).isNull();
+		verify(httpClient, times(1)).send(any(), any());
+	}
+
+	@Test
+	@DisplayName("저장된 이미지의 검증자로 조건부 요청을 보내고 304면 전송 없이 건너뛴다")
+	void shouldSkipTransferWhenNotModified() throws Exception {
+		S3ProfileUploadProcessor dedupProcessor = createDedupProcessor();
+		HttpResponse<InputStream> response = createResponseWithHeaders(304, null);
+		when(httpClient.send(any(), any())).thenAnswer(invocation -> response);
+		when(profileImageDedupService.findValidator(testProfile.getProfile()))
+			.thenReturn(Optional.of(new ProfileImageValidator("abc", "\"v1\"", "Wed, 01 Jan 2025 00:00:00 GMT")));
+		when(profileImageDedupService.isStored("animal-profiles/public-data/1_abc.webp")).thenReturn(true);
+
+		ProfileImageData result = dedupProcessor.process(testProfile);
+
+		assertThat(result).isNull();
+		ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+		verify(httpClient).send(requestCaptor.capture(), any());
+		assertThat(requestCaptor.getValue().headers().firstValue("If-None-Match")).contains("\"v1\"");
+		assertThat(requestCaptor.getValue().headers().firstValue("If-Modified-Since"))
+			.contains("Wed, 01 Jan 2025 00:00:00 GMT");
+		verify(profileImageDedupService, times(1)).recordRevalidation(true);
+		verify(profileImageDedupService, never()).saveValidator(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("조건부 요청에 새 이미지가 오면 새 해시 키로 업로드 대상이 된다")
+	void shouldUploadWhenRevalidationReturnsNewImage() throws Exception {
+		S3ProfileUploadProcessor dedupProcessor = createDedupProcessor();
+		HttpResponse<InputStream> response = createResponseWithHeaders(200, "\"v2\"");
+		when(httpClient.send(any(), any())).thenAnswer(invocation -> response);
+		when(profileImageDedupService.findValidator(testProfile.getProfile()))
+			.thenReturn(Optional.of(new ProfileImageValidator("abc", "\"v1\"", null)));
+		when(profileImageDedupService.isStored(anyString()))
+			.thenAnswer(invocation -> "animal-profiles/public-data/1_abc.webp".equals(invocation.getArgument(0)));
+
+		ProfileImageData result = dedupProcessor.process(testProfile);
+
+		assertThat(result).isNotNull();
+		assertThat(result.getS3Key()).contains(ProfileImageDedupService.hash(new byte[1024]));
+		verify(profileImageDedupService, times(1)).recordRevalidation(false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private HttpResponse<InputStream> createResponseWithHeaders(int statusCode, String etag) {
+		HttpResponse<InputStream> response = (HttpResponse<InputStream>)mock(HttpResponse.class);
+		when(response.statusCode()).thenReturn(statusCode);
+		when(response.body()).thenAnswer(invocation -> new ByteArrayInputStream(new byte[1024]));
+		if (statusCode == 200) {
+			HttpHeaders headers = mock(HttpHeaders.class);
+			when(headers.firstValue(anyString()))
+				.thenAnswer(invocation -> "ETag".equals(invocation.getArgument(0)) ? Optional.ofNullable(etag) : Optional.empty());
+			when(response.headers()).thenReturn(headers);
+		}
+		return response;
+	}
+
+	private S3ProfileUploadProcessor createDedupProcessor() {
+		return new S3ProfileUploadProcessor(httpClient, imageBufferPool,
+			profileImageDedupService, false, false, true);
+	}
 }
@@ -0,0 +1,187 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import tetoandeggens.seeyouagainbatch.common.buffer.DirectBufferPool;
+import tetoandeggens.seeyouagainbatch.domain.Animal;
+import tetoandeggens.seeyouagainbatch.domain.AnimalProfile;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncS3UploadService 단위 테스트")
+class AsyncS3UploadServiceTest {
+
+	private static final String TEST_BUCKET = "test-bucket";
+
+	@Mock
+	private S3AsyncClient s3AsyncClient;
+
+	private ExecutorService writerThread;
+
+	@BeforeEach
+	void setUp() {
+		writerThread = Executors.newSingleThreadExecutor();
+	}
+
+	@AfterEach
+	void tearDown() {
+		writerThread.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("모든 업로드가 끝나면 Future가 완료된다")
+	void shouldCompleteWhenAllUploadsFinish() {
+		AsyncS3UploadService service = new AsyncS3UploadService(s3AsyncClient, 4, TEST_BUCKET);
+		when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+			.thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+		CompletableFuture<Void> result = service.uploadBatch(List.of(
+			createProfileImageData("s3-key-1", 1L),
+			createProfileImageData("s3-key-2", 2L),
+			createProfileImageData("s3-key-3", 3L)
+		));
+
+		assertThat(result).isCompleted();
+		verify(s3AsyncClient, times(3)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+	}
+
+	@Test
+	@DisplayName("동시에 진행 중인 요청 수는 maxConcurrency를 넘지 않는다")
+	void shouldBoundInFlightRequests() throws Exception {
+		AsyncS3UploadService service = new AsyncS3UploadService(s3AsyncClient, 2, TEST_BUCKET);
+		List<CompletableFuture<PutObjectResponse>> inFlight = new CopyOnWriteArrayList<>();
+		when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+			.thenAnswer(invocation -> {
+				CompletableFuture<PutObjectResponse> response = new CompletableFuture<>();
+				inFlight.add(response);
+				return response;
+			});
+
+		Future<CompletableFuture<Void>> submitted = writerThread.submit(() -> service.uploadBatch(List.of(
+			createProfileImageData("s3-key-1", 1L),
+			createProfileImageData("s3-key-2", 2L),
+			createProfileImageData("s3-key-3", 3L)
+		)));
+
+		verify(s3AsyncClient, timeout(1000).times(2)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+		Thread.sleep(100);
+		assertThat(inFlight).hasSize(2);
+
+		inFlight.get(0).complete(PutObjectResponse.builder().build());
+
+		CompletableFuture<Void> result = submitted.get(1, TimeUnit.SECONDS);
+		assertThat(inFlight).hasSize(3);
+		assertThat(result).isNotDone();
+
+		inFlight.get(1).complete(PutObjectResponse.builder().build());
+		inFlight.get(2).complete(PutObjectResponse.builder().build());
+		assertThat(result).isCompleted();
+	}
+
+	@Test
+	@DisplayName("업로드 실패는 로그만 남기고 나머지 업로드를 막지 않는다")
+	void shouldReleasePermitWhenUploadFails() {
+		AsyncS3UploadService service = new AsyncS3UploadService(s3AsyncClient, 1, TEST_BUCKET);
+		when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+			.thenReturn(CompletableFuture.failedFuture(new RuntimeException("S3 오류")))
+			.thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+		CompletableFuture<Void> result = service.uploadBatch(List.of(
+			createProfileImageData("s3-key-1", 1L),
+			createProfileImageData("s3-key-2", 2L)
+		));
+
+		assertThat(result).isCompleted();
+		verify(s3AsyncClient, times(2)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+	}
+
+	@Test
+	@DisplayName("풀 버퍼는 업로드 응답이 끝난 뒤에 풀로 반환된다")
+	void shouldReleasePooledBufferAfterUploadCompletes() throws Exception {
+		AsyncS3UploadService service = new AsyncS3UploadService(s3AsyncClient, 4, TEST_BUCKET);
+		DirectBufferPool imageBufferPool = new DirectBufferPool(List.of(2048), 1024 * 1024);
+		CompletableFuture<PutObjectResponse> response = new CompletableFuture<>();
+		when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenReturn(response);
+
+		AnimalProfile profile = AnimalProfile.builder()
+			.profile("http://example.com/image.jpg")
+			.animal(new Animal(1L))
+			.build();
+		ProfileImageData imageData = ProfileImageData.builder()
+			.profile(profile)
+			.imageBuffer(imageBufferPool.readFully(new ByteArrayInputStream(new byte[1024]), 1024))
+			.s3Key("s3-key-1")
+			.build();
+
+		CompletableFuture<Void> result = service.uploadBatch(List.of(imageData));
+		assertThat(imageBufferPool.getBytesInUse()).isEqualTo(2048);
+
+		response.complete(PutObjectResponse.builder().build());
+
+		assertThat(result).isCompleted();
+		assertThat(imageBufferPool.getBytesInUse()).isZero();
+		assertThat(imageBufferPool.acquire(1024).buffer().isDirect()).isTrue();
+		assertThat(imageBufferPool.getHitRate()).isEqualTo(0.5);
+	}
+
+	@Test
+	@DisplayName("변환하지 못한 이미지는 원본 형식으로 본 이미지와 썸네일 키에 함께 올린다")
+	void shouldUploadUntranscodedImageWithSourceContentTypeAndThumbnail() {
+		AsyncS3UploadService service = new AsyncS3UploadService(s3AsyncClient, 4, TEST_BUCKET);
+		when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+			.thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+		ProfileImageData imageData = createProfileImageData("animal-profiles/1.webp", 1L)
+			.toBuilder()
+			.contentType("image/jpeg")
+			.thumbnailFromOriginal(true)
+			.build();
+
+		CompletableFuture<Void> result = service.uploadBatch(List.of(imageData));
+
+		assertThat(result).isCompleted();
+		ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+		verify(s3AsyncClient, times(2)).putObject(requestCaptor.capture(), any(AsyncRequestBody.class));
+		assertThat(requestCaptor.getAllValues())
+			.extracting(PutObjectRequest::key, PutObjectRequest::contentType)
+			.containsExactlyInAnyOrder(
+				tuple("animal-profiles/1.webp", "image/jpeg"),
+				tuple("animal-profiles/1-thumb.webp", "image/jpeg"));
+	}
+
+	private ProfileImageData createProfileImageData(String s3Key, Long animalId) {
+		AnimalProfile profile = AnimalProfile.builder()
+			.profile("http://example.com/image.jpg")
+			.animal(new Animal(animalId))
+			.build();
+
+		return ProfileImageData.builder()
+			.profile(profile)
+			.imageBytes(new byte[1024])
+			.s3Key(s3Key)
+			.build();
+	}
+}
@@ -0,0 +1,159 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import tetoandeggens.seeyouagainbatch.common.buffer.DirectBufferPool;
+import tetoandeggens.seeyouagainbatch.common.buffer.PooledBuffer;
+import tetoandeggens.seeyouagainbatch.common.image.TranscodedImage;
+import tetoandeggens.seeyouagainbatch.common.image.WebpTranscoder;
+import tetoandeggens.seeyouagainbatch.domain.Animal;
+import tetoandeggens.seeyouagainbatch.domain.AnimalProfile;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageTranscodeService 단위 테스트")
+class ImageTranscodeServiceTest {
+
+	private static final byte[] ORIGINAL = {1, 2, 3};
+	private static final byte[] WEBP = {4, 5};
+	private static final byte[] THUMBNAIL = {6};
+
+	@Mock
+	private WebpTranscoder webpTranscoder;
+
+	private ExecutorService transcodeExecutorService;
+
+	@BeforeEach
+	void setUp() {
+		transcodeExecutorService = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		transcodeExecutorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("변환을 끄면 항목을 그대로 돌려준다")
+	void shouldPassThroughWhenDisabled() {
+		ImageTranscodeService service = new ImageTranscodeService(webpTranscoder, transcodeExecutorService, false);
+		List<ProfileImageData> items = List.of(createImageData(1L, ORIGINAL));
+
+		assertThat(service.transcodeAll(items)).isSameAs(items);
+		verifyNoInteractions(webpTranscoder);
+	}
+
+	@Test
+	@DisplayName("변환한 WebP와 썸네일로 바꾸고 키는 그대로 유지한다")
+	void shouldReplaceImageWithTranscodedWebp() throws IOException {
+		ImageTranscodeService service = new ImageTranscodeService(webpTranscoder, transcodeExecutorService, true);
+		when(webpTranscoder.transcode(any(InputStream.class))).thenReturn(new TranscodedImage(WEBP, THUMBNAIL));
+
+		List<? extends ProfileImageData> result = service.transcodeAll(List.of(
+			createImageData(1L, ORIGINAL),
+			createImageData(2L, ORIGINAL)));
+
+		assertThat(result).extracting(ProfileImageData::getS3Key).containsExactly("key-1.webp", "key-2.webp");
+		assertThat(result).extracting(ProfileImageData::getImageBytes).containsOnly(WEBP);
+		assertThat(result).extracting(ProfileImageData::getThumbnailBytes).containsOnly(THUMBNAIL);
+		assertThat(result).extracting(ProfileImageData::getContentType).containsOnly("image/webp");
+	}
+
+	@Test
+	@DisplayName("풀 버퍼에 담긴 원본은 변환 후 풀에 돌려준다")
+	void shouldReleasePooledBufferAfterTranscoding() throws IOException {
+		ImageTranscodeService service = new ImageTranscodeService(webpTranscoder, transcodeExecutorService, true);
+		when(webpTranscoder.transcode(any(InputStream.class))).thenReturn(new TranscodedImage(WEBP, THUMBNAIL));
+
+		DirectBufferPool pool = new DirectBufferPool(List.of(1024), 1024);
+		PooledBuffer imageBuffer = pool.acquire(ORIGINAL.length);
+		imageBuffer.buffer().put(ORIGINAL).flip();
+		ProfileImageData imageData = ProfileImageData.builder()
+			.profile(createProfile(1L))
+			.imageBuffer(imageBuffer)
+			.s3Key("key-1.webp")
+			.build();
+
+		ProfileImageData result = service.transcodeAsync(imageData).join();
+
+		assertThat(result.getImageBuffer()).isNull();
+		assertThat(result.getImageBytes()).isEqualTo(WEBP);
+		assertThat(pool.getBytesInUse()).isZero();
+	}
+
+	@Test
+	@DisplayName("디코딩할 수 없거나 변환에 실패하면 원본 형식을 유지하고 원본을 썸네일로도 올리도록 표시한다")
+	void shouldFallBackToOriginalWhenTranscodingFails() throws IOException {
+		ImageTranscodeService service = new ImageTranscodeService(webpTranscoder, transcodeExecutorService, true);
+		when(webpTranscoder.transcode(any(InputStream.class)))
+			.thenReturn(null)
+			.thenThrow(new IOException("encoder failure"));
+
+		List<ProfileImageData> results = List.of(
+			service.transcodeAsync(createImageData(1L, ORIGINAL)).join(),
+			service.transcodeAsync(createImageData(2L, ORIGINAL)).join());
+
+		assertThat(results)
+			.extracting(ProfileImageData::getImageBytes, ProfileImageData::getThumbnailBytes,
+				ProfileImageData::isThumbnailFromOriginal, ProfileImageData::getContentType, ProfileImageData::getS3Key)
+			.containsExactly(
+				tuple(ORIGINAL, null, true, "image/jpeg", "key-1.webp"),
+				tuple(ORIGINAL, null, true, "image/jpeg", "key-2.webp"));
+	}
+
+	@Test
+	@DisplayName("이미 업로드된 항목은 변환하지 않는다")
+	void shouldSkipUploadedItem() {
+		ImageTranscodeService service = new ImageTranscodeService(webpTranscoder, transcodeExecutorService, true);
+		ProfileImageData uploaded = ProfileImageData.builder()
+			.profile(createProfile(1L))
+			.s3Key("key-1.webp")
+			.uploaded(true)
+			.build();
+
+		assertThat(service.transcodeAsync(uploaded).join()).isSameAs(uploaded);
+		verifyNoInteractions(webpTranscoder);
+	}
+
+	private ProfileImageData createImageData(Long id, byte[] imageBytes) {
+		return ProfileImageData.builder()
+			.profile(createProfile(id))
+			.imageBytes(imageBytes)
+			.s3Key("key-" + id + ".webp")
+			.contentType("image/jpeg")
+			.build();
+	}
+
+	private AnimalProfile createProfile(Long id) {
+		AnimalProfile profile = AnimalProfile.builder()
+			.profile("https://example.com/image" + id + ".jpg")
+			.animal(new Animal(id))
+			.build();
+
+		try {
+			java.lang.reflect.Field idField = AnimalProfile.class.getDeclaredField("id");
+			idField.setAccessible(true);
+			idField.set(profile, id);
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to set ID", e);
+		}
+
+		return profile;
+	}
+}
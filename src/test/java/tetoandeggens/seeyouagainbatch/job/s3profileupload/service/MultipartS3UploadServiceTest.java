@@ -0,0 +1,146 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MultipartS3UploadService 단위 테스트")
+class MultipartS3UploadServiceTest {
+
+	private static final int PART_SIZE = 5 * 1024 * 1024;
+	private static final String S3_KEY = "animal-profiles/public-data/1_large.webp";
+	private static final String UPLOAD_ID = "upload-1";
+	private static final String CONTENT_TYPE = "image/jpeg";
+
+	@Mock
+	private S3Client s3Client;
+
+	private ExecutorService partExecutorService;
+
+	private MultipartS3UploadService service;
+
+	@BeforeEach
+	void setUp() {
+		partExecutorService = Executors.newFixedThreadPool(2);
+		service = new MultipartS3UploadService(s3Client, partExecutorService, "test-bucket", PART_SIZE, 3);
+	}
+
+	@AfterEach
+	void tearDown() {
+		partExecutorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("파트 크기로 나눠 올리고 파트 번호 순서대로 완료 요청을 보낸다")
+	void shouldSplitIntoPartsAndComplete() {
+		givenMultipartUploadCreated();
+		when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+			.thenAnswer(invocation -> uploadPartResponse(invocation.getArgument(0)));
+
+		service.upload(S3_KEY, ByteBuffer.wrap(new byte[PART_SIZE * 2 + 100]), CONTENT_TYPE);
+
+		ArgumentCaptor<CreateMultipartUploadRequest> createCaptor =
+			ArgumentCaptor.forClass(CreateMultipartUploadRequest.class);
+		verify(s3Client).createMultipartUpload(createCaptor.capture());
+		assertThat(createCaptor.getValue().contentType()).isEqualTo(CONTENT_TYPE);
+
+		ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+		verify(s3Client, times(3)).uploadPart(partCaptor.capture(), any(RequestBody.class));
+		assertThat(partCaptor.getAllValues())
+			.extracting(UploadPartRequest::partNumber, UploadPartRequest::contentLength)
+			.containsExactlyInAnyOrder(
+				tuple(1, (long)PART_SIZE),
+				tuple(2, (long)PART_SIZE),
+				tuple(3, 100L));
+
+		ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor =
+			ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+		verify(s3Client).completeMultipartUpload(completeCaptor.capture());
+		assertThat(completeCaptor.getValue().uploadId()).isEqualTo(UPLOAD_ID);
+		assertThat(completeCaptor.getValue().multipartUpload().parts())
+			.extracting(CompletedPart::partNumber, CompletedPart::eTag)
+			.containsExactly(tuple(1, "etag-1"), tuple(2, "etag-2"), tuple(3, "etag-3"));
+		verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+	}
+
+	@Test
+	@DisplayName("실패한 파트만 다시 보내고 업로드를 완료한다")
+	void shouldRetryOnlyFailedPart() {
+		givenMultipartUploadCreated();
+		AtomicBoolean failedOnce = new AtomicBoolean();
+		when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+			.thenAnswer(invocation -> {
+				UploadPartRequest request = invocation.getArgument(0);
+				if (request.partNumber() == 2 && failedOnce.compareAndSet(false, true)) {
+					throw SdkClientException.create("connection reset");
+				}
+				return uploadPartResponse(request);
+			});
+
+		service.upload(S3_KEY, ByteBuffer.wrap(new byte[PART_SIZE * 2]), CONTENT_TYPE);
+
+		ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+		verify(s3Client, times(3)).uploadPart(partCaptor.capture(), any(RequestBody.class));
+		assertThat(partCaptor.getAllValues())
+			.extracting(UploadPartRequest::partNumber)
+			.containsExactlyInAnyOrder(1, 2, 2);
+		verify(s3Client).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+	}
+
+	@Test
+	@DisplayName("파트가 재시도 횟수를 넘겨 실패하면 멀티파트 업로드를 중단하고 예외를 던진다")
+	void shouldAbortWhenPartKeepsFailing() {
+		givenMultipartUploadCreated();
+		when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+			.thenAnswer(invocation -> {
+				UploadPartRequest request = invocation.getArgument(0);
+				if (request.partNumber() == 2) {
+					throw SdkClientException.create("connection reset");
+				}
+				return uploadPartResponse(request);
+			});
+
+		assertThatThrownBy(() -> service.upload(S3_KEY, ByteBuffer.wrap(new byte[PART_SIZE * 2]), CONTENT_TYPE))
+			.isInstanceOf(SdkClientException.class);
+
+		ArgumentCaptor<AbortMultipartUploadRequest> abortCaptor = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+		verify(s3Client).abortMultipartUpload(abortCaptor.capture());
+		assertThat(abortCaptor.getValue().uploadId()).isEqualTo(UPLOAD_ID);
+		verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+	}
+
+	private void givenMultipartUploadCreated() {
+		when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+			.thenReturn(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build());
+	}
+
+	private UploadPartResponse uploadPartResponse(UploadPartRequest request) {
+		return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+	}
+}
@@ -0,0 +1,160 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import tetoandeggens.seeyouagainbatch.domain.Animal;
+import tetoandeggens.seeyouagainbatch.domain.AnimalProfile;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
+
+// 로컬 S3 호환 서버(MinIO)에 실제로 멀티파트 업로드를 보내 파트 조립 결과를 확인한다
+@Testcontainers
+@DisplayName("ParallelS3UploadService MinIO 멀티파트 업로드 테스트")
+class ParallelS3UploadServiceMinioTest {
+
+	private static final String MINIO_CONTAINER_IMAGE = "minio/minio:RELEASE.2023-09-04T19-57-37Z";
+	private static final String ACCESS_KEY = "minioadmin";
+	private static final String SECRET_KEY = "minioadmin";
+	private static final String BUCKET = "test-bucket";
+	private static final int PART_SIZE = 5 * 1024 * 1024;
+	private static final long MULTIPART_THRESHOLD = 8 * 1024 * 1024;
+
+	@Container
+	private static final GenericContainer<?> MINIO_CONTAINER =
+		new GenericContainer<>(DockerImageName.parse(MINIO_CONTAINER_IMAGE))
+			.withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+			.withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+			.withCommand("server", "/data")
+			.withExposedPorts(9000)
+			.waitingFor(Wait.forHttp("/minio/health/live").forPort(9000));
+
+	private S3Client s3Client;
+	private ExecutorService uploadExecutorService;
+	private ExecutorService partExecutorService;
+	private ParallelS3UploadService service;
+
+	@BeforeEach
+	void setUp() {
+		s3Client = S3Client.builder()
+			.region(Region.AP_NORTHEAST_2)
+			.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(ACCESS_KEY, SECRET_KEY)))
+			.endpointOverride(URI.create("http://" + MINIO_CONTAINER.getHost() + ":" + MINIO_CONTAINER.getMappedPort(9000)))
+			.forcePathStyle(true)
+			.build();
+		if (s3Client.listBuckets().buckets().stream().noneMatch(bucket -> BUCKET.equals(bucket.name()))) {
+			s3Client.createBucket(builder -> builder.bucket(BUCKET));
+		}
+
+		uploadExecutorService = Executors.newFixedThreadPool(2);
+		partExecutorService = Executors.newFixedThreadPool(2);
+		MultipartS3UploadService multipartS3UploadService =
+			new MultipartS3UploadService(s3Client, partExecutorService, BUCKET, PART_SIZE, 3);
+		service = new ParallelS3UploadService(s3Client, multipartS3UploadService, uploadExecutorService, BUCKET,
+			true, MULTIPART_THRESHOLD);
+	}
+
+	@AfterEach
+	void tearDown() {
+		uploadExecutorService.shutdownNow();
+		partExecutorService.shutdownNow();
+		s3Client.close();
+	}
+
+	@Test
+	@DisplayName("임계값을 넘는 이미지는 멀티파트로 올라가 원본과 같은 객체가 된다")
+	void shouldUploadLargeImageWithMultipart() {
+		byte[] largeImage = randomBytes(PART_SIZE * 2 + 1234);
+
+		service.uploadBatch(List.of(createImageData(1L, "animal-profiles/public-data/1_large.webp", largeImage))).join();
+
+		byte[] uploaded = s3Client.getObject(GetObjectRequest.builder()
+			.bucket(BUCKET)
+			.key("animal-profiles/public-data/1_large.webp")
+			.build(), ResponseTransformer.toBytes()).asByteArray();
+		assertThat(uploaded).isEqualTo(largeImage);
+
+		// 멀티파트 객체의 ETag는 "<해시>-<파트 수>" 형식이다
+		String eTag = s3Client.headObject(HeadObjectRequest.builder()
+			.bucket(BUCKET)
+			.key("animal-profiles/public-data/1_large.webp")
+			.build()).eTag();
+		assertThat(eTag).endsWith("-3\"");
+		assertThat(s3Client.listMultipartUploads(ListMultipartUploadsRequest.builder().bucket(BUCKET).build()).uploads())
+			.isEmpty();
+	}
+
+	@Test
+	@DisplayName("임계값보다 작은 이미지는 한 번의 PutObject로 올라간다")
+	void shouldUploadSmallImageWithSinglePut() {
+		byte[] smallImage = randomBytes(1024);
+
+		service.uploadBatch(List.of(createImageData(2L, "animal-profiles/public-data/2_small.webp", smallImage))).join();
+
+		String eTag = s3Client.headObject(HeadObjectRequest.builder()
+			.bucket(BUCKET)
+			.key("animal-profiles/public-data/2_small.webp")
+			.build()).eTag();
+		assertThat(eTag).doesNotContain("-");
+	}
+
+	@Test
+	@DisplayName("변환하지 못한 이미지는 원본 형식으로 올리고 썸네일 키에도 원본을 올린다")
+	void shouldUploadUntranscodedImageWithSourceContentTypeAndThumbnail() {
+		byte[] jpegImage = randomBytes(2048);
+		ProfileImageData imageData = createImageData(3L, "animal-profiles/public-data/3_fallback.webp", jpegImage)
+			.toBuilder()
+			.contentType("image/jpeg")
+			.thumbnailFromOriginal(true)
+			.build();
+
+		service.uploadBatch(List.of(imageData)).join();
+
+		for (String key : List.of("animal-profiles/public-data/3_fallback.webp",
+			"animal-profiles/public-data/3_fallback-thumb.webp")) {
+			assertThat(s3Client.headObject(HeadObjectRequest.builder().bucket(BUCKET).key(key).build()).contentType())
+				.isEqualTo("image/jpeg");
+			assertThat(s3Client.getObject(GetObjectRequest.builder().bucket(BUCKET).key(key).build(),
+				ResponseTransformer.toBytes()).asByteArray()).isEqualTo(jpegImage);
+		}
+	}
+
+	private ProfileImageData createImageData(Long id, String s3Key, byte[] imageBytes) {
+		return ProfileImageData.builder()
+			.profile(AnimalProfile.builder()
+				.profile("https://example.com/image" + id + ".jpg")
+				.animal(new Animal(id))
+				.build())
+			.imageBytes(imageBytes)
+			.s3Key(s3Key)
+			.build();
+	}
+
+	private byte[] randomBytes(int size) {
+		byte[] bytes = new byte[size];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+}
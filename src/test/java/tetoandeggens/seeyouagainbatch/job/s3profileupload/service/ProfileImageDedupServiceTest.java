@@ -0,0 +1,70 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageValidator;
+
+@DisplayName("ProfileImageDedupService 단위 테스트")
+class ProfileImageDedupServiceTest {
+
+	private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private ProfileImageDedupService service;
+
+	@BeforeEach
+	void setUp() {
+		namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+		service = new ProfileImageDedupService(namedParameterJdbcTemplate, "https://cdn.example.com/", 10);
+	}
+
+	@Test
+	@DisplayName("byte 배열과 ByteBuffer는 같은 내용이면 같은 SHA-256 해시를 만든다")
+	void shouldHashBytesAndBufferIdentically() {
+		byte[] content = "profile-image".getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.wrap(content);
+
+		assertThat(ProfileImageDedupService.hash(buffer)).isEqualTo(ProfileImageDedupService.hash(content));
+		assertThat(ProfileImageDedupService.hash(content)).hasSize(64);
+		assertThat(buffer.remaining()).isEqualTo(content.length);
+	}
+
+	@Test
+	@DisplayName("저장한 검증자는 로컬 캐시에서 DB 조회 없이 찾는다")
+	void shouldFindSavedValidatorFromLocalCache() {
+		ProfileImageValidator validator = new ProfileImageValidator("abc", "\"v1\"", null);
+
+		service.saveValidator("http://example.com/profile.jpg", validator);
+
+		assertThat(service.findValidator("http://example.com/profile.jpg")).containsSame(validator);
+		verify(namedParameterJdbcTemplate, never()).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	@DisplayName("조건부 요청 적중률을 지표로 노출한다")
+	void shouldExposeConditionalFetchHitRatio() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		service.bindTo(registry);
+
+		service.recordRevalidation(true);
+		service.recordRevalidation(true);
+		service.recordRevalidation(true);
+		service.recordRevalidation(false);
+
+		assertThat(registry.get("batch.s3upload.conditional-fetch.hit-ratio").gauge().value()).isEqualTo(0.75);
+		assertThat(registry.get("batch.s3upload.conditional-fetch").tag("result", "not-modified")
+			.functionCounter().count()).isEqualTo(3);
+		assertThat(registry.get("batch.s3upload.conditional-fetch").tag("result", "modified")
+			.functionCounter().count()).isEqualTo(1);
+	}
+}
@@ -195,4 +195,32 @@ class S3ProfileUploadJobParametersValidatorTest {
 			.isInstanceOf(JobParametersInvalidException.class)
 			.hasMessageContaining("날짜 형식이 올바르지 않습니다");
 	}
+
+	@Test
+	@DisplayName("gridSize가 허용 범위 안이면 통과해야 한다")
+	void shouldPassValidationWithValidGridSize() {
+		JobParameters parameters = new JobParametersBuilder()
+			.addString("startDate", "20250101")
+			.addString("endDate", "20250131")
+			.addLong("gridSize", 8L)
+			.toJobParameters();
+
+		assertThatCode(() -> validator.validate(parameters))
+			.doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("gridSize가 1보다 작으면 예외가 발생해야 한다")
+	void shouldThrowExceptionWhenGridSizeIsTooSmall() {
+		JobParameters parameters = new JobParametersBuilder()
+			.addString("startDate", "20250101")
+			.addString("endDate", "20250131")
+			.addLong("gridSize", 0L)
+			.toJobParameters();
+
+		assertThatThrownBy(() -> validator.validate(parameters))
+			.isInstanceOf(JobParametersInvalidException.class)
+			.hasMessageContaining("gridSize")
+			.hasMessageContaining("허용 범위");
+	}
 }
\ No newline at end of file
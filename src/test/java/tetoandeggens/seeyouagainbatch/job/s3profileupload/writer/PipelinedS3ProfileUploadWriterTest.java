@@ -0,0 +1,108 @@
+package tetoandeggens.seeyouagainbatch.job.s3profileupload.writer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+
+import tetoandeggens.seeyouagainbatch.domain.Animal;
+import tetoandeggens.seeyouagainbatch.domain.AnimalProfile;
+import tetoandeggens.seeyouagainbatch.job.s3profiledelete.service.S3ProfileBatchDeleteService;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.listener.S3UploadRollbackListener;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PipelinedS3ProfileUploadWriter 단위 테스트")
+class PipelinedS3ProfileUploadWriterTest {
+
+	@Mock
+	private S3ProfileUploadWriter s3ProfileUploadWriter;
+
+	@Mock
+	private S3ProfileBatchDeleteService s3ProfileBatchDeleteService;
+
+	private S3UploadRollbackListener s3UploadRollbackListener;
+
+	@Captor
+	private ArgumentCaptor<Chunk<ProfileImageData>> chunkCaptor;
+
+	private PipelinedS3ProfileUploadWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		s3UploadRollbackListener = new S3UploadRollbackListener(s3ProfileBatchDeleteService);
+		writer = new PipelinedS3ProfileUploadWriter(s3ProfileUploadWriter, s3UploadRollbackListener);
+	}
+
+	@Test
+	@DisplayName("모든 Future를 기다린 뒤 null이 아닌 결과만 DB 저장 writer로 넘긴다")
+	void shouldDelegateCompletedResults() throws Exception {
+		ProfileImageData first = createUploadedImageData("s3-key-1", 1L);
+		ProfileImageData second = createUploadedImageData("s3-key-2", 2L);
+
+		writer.write(new Chunk<>(List.of(
+			CompletableFuture.completedFuture(first),
+			CompletableFuture.<ProfileImageData>completedFuture(null),
+			CompletableFuture.completedFuture(second)
+		)));
+
+		verify(s3ProfileUploadWriter, times(1)).write(chunkCaptor.capture());
+		assertThat(chunkCaptor.getValue().getItems()).containsExactly(first, second);
+	}
+
+	@Test
+	@DisplayName("실패한 Future가 있으면 원인 예외를 그대로 던지고 DB에 저장하지 않는다")
+	void shouldRethrowCauseWhenFutureFails() throws Exception {
+		IllegalStateException cause = new IllegalStateException("업로드 실패");
+
+		assertThatThrownBy(() -> writer.write(new Chunk<>(List.of(
+			CompletableFuture.completedFuture(createUploadedImageData("s3-key-1", 1L)),
+			CompletableFuture.<ProfileImageData>failedFuture(cause)
+		)))).isSameAs(cause);
+
+		verify(s3ProfileUploadWriter, never()).write(any());
+	}
+
+	@Test
+	@DisplayName("실패한 Future가 있어 청크가 롤백되면 나머지 아이템이 올린 S3 객체를 지운다")
+	void shouldDeleteObjectsUploadedByOtherItemsWhenChunkRollsBack() {
+		when(s3ProfileBatchDeleteService.deleteKeys(anyList()))
+			.thenReturn(CompletableFuture.completedFuture(Set.of("s3-key-1", "s3-key-3")));
+
+		s3UploadRollbackListener.beforeChunk(null);
+		assertThatThrownBy(() -> writer.write(new Chunk<>(List.of(
+			CompletableFuture.completedFuture(createUploadedImageData("s3-key-1", 1L)),
+			CompletableFuture.<ProfileImageData>failedFuture(new IllegalStateException("업로드 실패")),
+			CompletableFuture.completedFuture(createUploadedImageData("s3-key-3", 3L))
+		)))).isInstanceOf(IllegalStateException.class);
+		s3UploadRollbackListener.afterChunkError(null);
+
+		verify(s3ProfileBatchDeleteService, times(1)).deleteKeys(List.of("s3-key-1", "s3-key-3"));
+	}
+
+	private ProfileImageData createUploadedImageData(String s3Key, Long animalId) {
+		AnimalProfile profile = AnimalProfile.builder()
+			.profile("http://example.com/image.jpg")
+			.animal(new Animal(animalId))
+			.build();
+
+		return ProfileImageData.builder()
+			.profile(profile)
+			.s3Key(s3Key)
+			.uploaded(true)
+			.build();
+	}
+}
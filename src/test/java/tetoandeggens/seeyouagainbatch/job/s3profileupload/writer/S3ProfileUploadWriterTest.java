@@ -5,6 +5,9 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,38 +18,53 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.item.Chunk;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import tetoandeggens.seeyouagainbatch.common.image.WebpTranscoder;
+import tetoandeggens.seeyouagainbatch.common.jdbc.BulkInsertStatement;
+import tetoandeggens.seeyouagainbatch.common.jdbc.MultiRowBulkInserter;
 import tetoandeggens.seeyouagainbatch.domain.Animal;
 import tetoandeggens.seeyouagainbatch.domain.AnimalProfile;
+import tetoandeggens.seeyouagainbatch.domain.AnimalS3Profile;
+import tetoandeggens.seeyouagainbatch.job.s3profiledelete.service.S3ProfileBatchDeleteService;
 import tetoandeggens.seeyouagainbatch.job.s3profileupload.dto.ProfileImageData;
-import tetoandeggens.seeyouagainbatch.job.s3profileupload.service.ParallelS3UploadService;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.listener.S3UploadRollbackListener;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.service.ImageTranscodeService;
+import tetoandeggens.seeyouagainbatch.job.s3profileupload.service.S3UploadService;
 
 @ExtendWith(MockitoExtension.class)
 class S3ProfileUploadWriterTest {
 
 	@Mock
-	private ParallelS3UploadService parallelS3UploadService;
+	private S3UploadService s3UploadService;
 
 	@Mock
-	private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+	private MultiRowBulkInserter bulkInserter;
+
+	@Mock
+	private S3ProfileBatchDeleteService s3ProfileBatchDeleteService;
+
+	private S3UploadRollbackListener s3UploadRollbackListener;
 
 	private S3ProfileUploadWriter writer;
 
 	@Captor
-	private ArgumentCaptor<String> sqlCaptor;
+	private ArgumentCaptor<BulkInsertStatement> statementCaptor;
 
 	@Captor
-	private ArgumentCaptor<SqlParameterSource[]> paramsCaptor;
+	private ArgumentCaptor<List<AnimalS3Profile>> rowsCaptor;
 
 	private Animal testAnimal;
 
 	@BeforeEach
 	void setUp() {
 		testAnimal = new Animal(1L);
-		writer = new S3ProfileUploadWriter(parallelS3UploadService, namedParameterJdbcTemplate, "https://cdn.example.com/");
+		// 변환을 끈 서비스는 항목을 그대로 돌려준다
+		ImageTranscodeService imageTranscodeService =
+			new ImageTranscodeService(new WebpTranscoder(0.8f, 320), ForkJoinPool.commonPool(), false);
+		s3UploadRollbackListener = new S3UploadRollbackListener(s3ProfileBatchDeleteService);
+		writer = new S3ProfileUploadWriter(s3UploadService, imageTranscodeService, bulkInserter,
+			s3UploadRollbackListener, "https://cdn.example.com/");
 	}
 
 	@Test
@@ -60,24 +78,23 @@ class S3ProfileUploadWriterTest {
 
 		Chunk<ProfileImageData> chunk = new Chunk<>(imageDataList);
 
-		doNothing().when(parallelS3UploadService).uploadBatch(anyList());
-		when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-			.thenReturn(new int[]{1, 1, 1});
+		when(s3UploadService.uploadBatch(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+		when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+			.thenReturn(3);
 
 		writer.write(chunk);
 
-		verify(parallelS3UploadService, times(1)).uploadBatch(anyList());
-		verify(namedParameterJdbcTemplate, times(1))
-			.batchUpdate(sqlCaptor.capture(), paramsCaptor.capture());
+		verify(s3UploadService, times(1)).uploadBatch(anyList());
+		verify(bulkInserter, times(1))
+			.insert(statementCaptor.capture(), rowsCaptor.capture(), any());
 
-		String sql = sqlCaptor.getValue();
+		String sql = statementCaptor.getValue().toSql(1);
 		assertThat(sql).contains("INSERT INTO animal_s3_profile");
 		assertThat(sql).contains("profile");
 		assertThat(sql).contains("image_type");
 		assertThat(sql).contains("animal_id");
 
-		SqlParameterSource[] params = paramsCaptor.getValue();
-		assertThat(params).hasSize(3);
+		assertThat(rowsCaptor.getValue()).hasSize(3);
 	}
 
 	@Test
@@ -87,8 +104,8 @@ class S3ProfileUploadWriterTest {
 
 		writer.write(emptyChunk);
 
-		verify(parallelS3UploadService, never()).uploadBatch(anyList());
-		verify(namedParameterJdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+		verify(s3UploadService, never()).uploadBatch(anyList());
+		verify(bulkInserter, never()).insert(any(BulkInsertStatement.class), anyList(), any());
 	}
 
 	@Test
@@ -101,18 +118,17 @@ class S3ProfileUploadWriterTest {
 
 		Chunk<ProfileImageData> chunk = new Chunk<>(imageDataList);
 
-		doNothing().when(parallelS3UploadService).uploadBatch(anyList());
-		when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-			.thenReturn(new int[]{1});
+		when(s3UploadService.uploadBatch(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+		when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+			.thenReturn(1);
 
 		writer.write(chunk);
 
-		verify(parallelS3UploadService, times(1)).uploadBatch(anyList());
-		verify(namedParameterJdbcTemplate, times(1))
-			.batchUpdate(anyString(), paramsCaptor.capture());
+		verify(s3UploadService, times(1)).uploadBatch(anyList());
+		verify(bulkInserter, times(1))
+			.insert(any(BulkInsertStatement.class), rowsCaptor.capture(), any());
 
-		SqlParameterSource[] params = paramsCaptor.getValue();
-		assertThat(params).hasSize(1);
+		assertThat(rowsCaptor.getValue()).hasSize(1);
 	}
 
 	@Test
@@ -124,18 +140,69 @@ class S3ProfileUploadWriterTest {
 
 		Chunk<ProfileImageData> chunk = new Chunk<>(imageDataList);
 
-		doNothing().when(parallelS3UploadService).uploadBatch(anyList());
-		when(namedParameterJdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
-			.thenReturn(new int[]{1});
+		when(s3UploadService.uploadBatch(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+		when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+			.thenReturn(1);
+
+		writer.write(chunk);
+
+		verify(s3UploadService, times(1)).uploadBatch(anyList());
+		verify(bulkInserter, times(1))
+			.insert(any(BulkInsertStatement.class), rowsCaptor.capture(), any());
+
+		assertThat(rowsCaptor.getValue()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("같은 키의 행이 소프트 삭제되어 있으면 upsert로 되살린다")
+	void shouldReviveSoftDeletedRowWithSameKey() {
+		Chunk<ProfileImageData> chunk = new Chunk<>(List.of(createProfileImageData("animal-profiles/public-data/1_abc.webp", 1L)));
+
+		when(s3UploadService.uploadBatch(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+		when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any())).thenReturn(2);
 
 		writer.write(chunk);
 
-		verify(parallelS3UploadService, times(1)).uploadBatch(anyList());
-		verify(namedParameterJdbcTemplate, times(1))
-			.batchUpdate(anyString(), paramsCaptor.capture());
+		verify(bulkInserter, times(1)).insert(statementCaptor.capture(), anyList(), any());
+		assertThat(statementCaptor.getValue().toSql(1))
+			.endsWith("ON DUPLICATE KEY UPDATE is_deleted = false, updated_at = NOW()");
+	}
+
+	@Test
+	@DisplayName("DB 저장이 실패해 청크가 롤백되면 이 청크에서 올린 S3 객체를 지운다")
+	void shouldDeleteUploadedObjectsWhenChunkRollsBack() {
+		Chunk<ProfileImageData> chunk = new Chunk<>(List.of(
+			createProfileImageData("s3-key-1", 1L),
+			createProfileImageData("s3-key-2", 2L)
+		));
+
+		when(s3UploadService.uploadBatch(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+		when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any()))
+			.thenThrow(new IllegalStateException("DB 저장 실패"));
+		when(s3ProfileBatchDeleteService.deleteKeys(anyList()))
+			.thenReturn(CompletableFuture.completedFuture(Set.of("s3-key-1", "s3-key-2")));
+
+		s3UploadRollbackListener.beforeChunk(null);
+		assertThatThrownBy(() -> writer.write(chunk)).isInstanceOf(IllegalStateException.class);
+		s3UploadRollbackListener.afterChunkError(null);
+
+		verify(s3ProfileBatchDeleteService, times(1)).deleteKeys(List.of("s3-key-1", "s3-key-2"));
+	}
+
+	@Test
+	@DisplayName("청크가 커밋되면 업로드한 S3 객체를 지우지 않는다")
+	void shouldKeepUploadedObjectsWhenChunkCommits() {
+		Chunk<ProfileImageData> chunk = new Chunk<>(List.of(createProfileImageData("s3-key-1", 1L)));
+
+		when(s3UploadService.uploadBatch(anyList())).thenReturn(CompletableFuture.completedFuture(null));
+		when(bulkInserter.insert(any(BulkInsertStatement.class), anyList(), any())).thenReturn(1);
+
+		s3UploadRollbackListener.beforeChunk(null);
+		writer.write(chunk);
+		s3UploadRollbackListener.afterChunk(null);
+		s3UploadRollbackListener.afterChunkError(null);
 
-		SqlParameterSource[] params = paramsCaptor.getValue();
-		assertThat(params).hasSize(1);
+		verify(s3ProfileBatchDeleteService, never()).deleteKeys(anyList());
 	}
 
 	private ProfileImageData createProfileImageData(String s3Key, Long animalId) {